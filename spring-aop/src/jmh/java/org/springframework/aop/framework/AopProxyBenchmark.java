@@ -0,0 +1,121 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.framework;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.DynamicMethodMatcherPointcut;
+
+/**
+ * Benchmarks for method invocations through JDK dynamic proxies and CGLIB proxies,
+ * with interceptor chains of varying length and dynamic method matchers.
+ *
+ * @author Juergen Hoeller
+ */
+@BenchmarkMode(Mode.Throughput)
+public class AopProxyBenchmark {
+
+	@Benchmark
+	public void invokeThroughProxy(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.proxy.echo("value"));
+	}
+
+	@Benchmark
+	public void invokeTargetDirectly(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.target.echo("value"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"jdk", "cglib"})
+		public String proxyType;
+
+		@Param({"0", "1", "4"})
+		public int interceptorCount;
+
+		@Param({"false", "true"})
+		public boolean dynamicMatchers;
+
+		public Service target;
+
+		public Service proxy;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.target = new DefaultService();
+			ProxyFactory proxyFactory = new ProxyFactory(this.target);
+			proxyFactory.setProxyTargetClass("cglib".equals(this.proxyType));
+			for (int i = 0; i < this.interceptorCount; i++) {
+				MethodInterceptor interceptor = invocation -> invocation.proceed();
+				if (this.dynamicMatchers) {
+					// Every other dynamic matcher rejects the invocation
+					proxyFactory.addAdvisor(new DefaultPointcutAdvisor(new ArgumentPointcut(i % 2 == 0), interceptor));
+				}
+				else {
+					proxyFactory.addAdvice(interceptor);
+				}
+			}
+			this.proxy = (Service) proxyFactory.getProxy();
+		}
+	}
+
+
+	public interface Service {
+
+		String echo(String value);
+	}
+
+
+	public static class DefaultService implements Service {
+
+		@Override
+		public String echo(String value) {
+			return value;
+		}
+	}
+
+
+	private static class ArgumentPointcut extends DynamicMethodMatcherPointcut {
+
+		private final boolean match;
+
+		ArgumentPointcut(boolean match) {
+			this.match = match;
+		}
+
+		@Override
+		public boolean matches(Method method, Class<?> targetClass, @Nullable Object... args) {
+			return this.match;
+		}
+	}
+
+}
@@ -21,6 +21,7 @@ import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.List;
 
@@ -106,10 +107,30 @@ final class JdkDynamicAopProxy implements AopProxy, InvocationHandler, Serializa
 		else {
 			cache = new ProxiedInterfacesCache(config);
 			config.proxyMetadataCache = cache;
+			if (config.isFrozen() && config.getTargetSource().isStatic()) {
+				precomputeInterceptorChains(config);
+			}
 		}
 		this.cache = cache;
 	}
 
+	/**
+	 * Compute the interceptor chains for all methods of the proxied interfaces
+	 * upfront, analogous to the fixed chains of a frozen CGLIB proxy. A frozen
+	 * configuration cannot change, so this avoids concurrent computation of the
+	 * same chain on the first invocations of each method.
+	 */
+	private static void precomputeInterceptorChains(AdvisedSupport config) {
+		Class<?> targetClass = config.getTargetClass();
+		for (Class<?> proxiedInterface : config.getProxiedInterfaces()) {
+			for (Method method : proxiedInterface.getMethods()) {
+				if (!Modifier.isStatic(method.getModifiers())) {
+					config.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
+				}
+			}
+		}
+	}
+
 
 	@Override
 	public Object getProxy() {
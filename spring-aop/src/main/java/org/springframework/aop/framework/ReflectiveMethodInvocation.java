@@ -153,31 +153,28 @@ public class ReflectiveMethodInvocation implements ProxyMethodInvocation, Clonea
 
 	@Override
 	public @Nullable Object proceed() throws Throwable {
+		List<?> chain = this.interceptorsAndDynamicMethodMatchers;
+		int lastIndex = chain.size() - 1;
 		// We start with an index of -1 and increment early.
-		if (this.currentInterceptorIndex == this.interceptorsAndDynamicMethodMatchers.size() - 1) {
-			return invokeJoinpoint();
-		}
-
-		Object interceptorOrInterceptionAdvice =
-				this.interceptorsAndDynamicMethodMatchers.get(++this.currentInterceptorIndex);
-		if (interceptorOrInterceptionAdvice instanceof InterceptorAndDynamicMethodMatcher dm) {
-			// Evaluate dynamic method matcher here: static part will already have
-			// been evaluated and found to match.
-			Class<?> targetClass = (this.targetClass != null ? this.targetClass : this.method.getDeclaringClass());
-			if (dm.matcher().matches(this.method, targetClass, this.arguments)) {
-				return dm.interceptor().invoke(this);
+		while (this.currentInterceptorIndex < lastIndex) {
+			Object interceptorOrInterceptionAdvice = chain.get(++this.currentInterceptorIndex);
+			if (interceptorOrInterceptionAdvice instanceof InterceptorAndDynamicMethodMatcher dm) {
+				// Evaluate dynamic method matcher here: static part will already have
+				// been evaluated and found to match.
+				Class<?> targetClass = (this.targetClass != null ? this.targetClass : this.method.getDeclaringClass());
+				if (dm.matcher().matches(this.method, targetClass, this.arguments)) {
+					return dm.interceptor().invoke(this);
+				}
+				// Dynamic matching failed.
+				// Skip this interceptor and try the next in the chain, without recursion.
 			}
 			else {
-				// Dynamic matching failed.
-				// Skip this interceptor and invoke the next in the chain.
-				return proceed();
+				// It's an interceptor, so we just invoke it: The pointcut will have
+				// been evaluated statically before this object was constructed.
+				return ((MethodInterceptor) interceptorOrInterceptionAdvice).invoke(this);
 			}
 		}
-		else {
-			// It's an interceptor, so we just invoke it: The pointcut will have
-			// been evaluated statically before this object was constructed.
-			return ((MethodInterceptor) interceptorOrInterceptionAdvice).invoke(this);
-		}
+		return invokeJoinpoint();
 	}
 
 	/**
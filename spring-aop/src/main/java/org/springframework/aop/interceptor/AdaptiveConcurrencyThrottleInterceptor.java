@@ -0,0 +1,273 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.interceptor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Variant of {@link ConcurrencyThrottleInterceptor} which adapts its concurrency
+ * limit to the observed behavior of the target: measuring the round-trip time
+ * of each invocation (excluding any time spent waiting for access) and adjusting
+ * the permitted concurrency between a minimum and a maximum limit.
+ *
+ * <p>Two algorithms are available:
+ * <ul>
+ * <li>{@link Algorithm#GRADIENT}: compares the latest round-trip time with a
+ * long-term average, reducing the limit when latency rises above the long-term
+ * level (indicating queueing in the target) and increasing it otherwise, with
+ * a headroom of the square root of the current limit.</li>
+ * <li>{@link Algorithm#AIMD}: additive increase by one per window of as many
+ * successful invocations as the current limit (that is, roughly once per
+ * round trip at full utilization), multiplicative decrease on failed
+ * invocations as well as on invocations with a round-trip time of more
+ * than twice the long-term average.</li>
+ * </ul>
+ *
+ * <p>The limit only grows while at least half of it is in use, so that an
+ * underutilized target does not build up an excessive limit. Waiting for
+ * access is based on {@code java.util.concurrent} locks, without pinning
+ * virtual threads. The current limit is exposed through
+ * {@link #getConcurrencyLimit()}, along with {@link #getInFlightCount()} and
+ * {@link #getLongTermRoundTripNanos()} for monitoring purposes.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see #setConcurrencyLimit
+ */
+@SuppressWarnings("serial")
+public class AdaptiveConcurrencyThrottleInterceptor extends ConcurrencyThrottleInterceptor {
+
+	/**
+	 * The algorithm for adapting the concurrency limit.
+	 */
+	public enum Algorithm {
+
+		/**
+		 * Gradient-based adaptation: scale the limit by the ratio between
+		 * the long-term and the current round-trip time.
+		 */
+		GRADIENT,
+
+		/**
+		 * Additive increase, multiplicative decrease on failed or slow invocations.
+		 */
+		AIMD
+	}
+
+
+	private static final int LONG_TERM_WINDOW = 600;
+
+	private static final double RTT_TOLERANCE = 1.5;
+
+	private static final double SMOOTHING = 0.2;
+
+	private static final double BACKOFF_RATIO = 0.9;
+
+	private static final double LATENCY_THRESHOLD = 2.0;
+
+
+	private final Algorithm algorithm;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final AtomicInteger inFlightCount = new AtomicInteger();
+
+	private final Lock sampleLock = new ReentrantLock();
+
+	// Guarded by sampleLock
+	private double estimatedLimit;
+
+	// Guarded by sampleLock
+	private double shortTermRtt;
+
+	// Guarded by sampleLock
+	private double longTermRtt;
+
+	// Guarded by sampleLock
+	private long sampleCount;
+
+	// Guarded by sampleLock
+	private int windowSuccessCount;
+
+
+	/**
+	 * Create a new {@code AdaptiveConcurrencyThrottleInterceptor}.
+	 * @param algorithm the algorithm for adapting the concurrency limit
+	 * @param initialLimit the initial concurrency limit
+	 * @param minLimit the minimum concurrency limit (1 or higher)
+	 * @param maxLimit the maximum concurrency limit
+	 */
+	public AdaptiveConcurrencyThrottleInterceptor(Algorithm algorithm, int initialLimit, int minLimit, int maxLimit) {
+		super(initialLimit);
+		Assert.notNull(algorithm, "Algorithm must not be null");
+		Assert.isTrue(minLimit > 0, "Minimum limit must be 1 or higher");
+		Assert.isTrue(maxLimit >= minLimit, "Maximum limit must not be lower than minimum limit");
+		Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit,
+				"Initial limit must be between minimum and maximum limit");
+		this.algorithm = algorithm;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.estimatedLimit = initialLimit;
+	}
+
+
+	/**
+	 * Return the algorithm for adapting the concurrency limit.
+	 */
+	public Algorithm getAlgorithm() {
+		return this.algorithm;
+	}
+
+	/**
+	 * Return the minimum concurrency limit.
+	 */
+	public int getMinLimit() {
+		return this.minLimit;
+	}
+
+	/**
+	 * Return the maximum concurrency limit.
+	 */
+	public int getMaxLimit() {
+		return this.maxLimit;
+	}
+
+	/**
+	 * Return the number of invocations currently in progress.
+	 */
+	public int getInFlightCount() {
+		return this.inFlightCount.get();
+	}
+
+	/**
+	 * Return the long-term average round-trip time in nanoseconds
+	 * (0 if no invocation has completed yet).
+	 */
+	public long getLongTermRoundTripNanos() {
+		this.sampleLock.lock();
+		try {
+			return (long) this.longTermRtt;
+		}
+		finally {
+			this.sampleLock.unlock();
+		}
+	}
+
+
+	@Override
+	public @Nullable Object invoke(MethodInvocation methodInvocation) throws Throwable {
+		beforeAccess();
+		int inFlight = this.inFlightCount.incrementAndGet();
+		long startTime = System.nanoTime();
+		boolean failed = true;
+		try {
+			Object result = methodInvocation.proceed();
+			failed = false;
+			return result;
+		}
+		finally {
+			long rtt = System.nanoTime() - startTime;
+			this.inFlightCount.decrementAndGet();
+			afterAccess();
+			onSample(rtt, inFlight, failed);
+		}
+	}
+
+	/**
+	 * Adapt the concurrency limit for the given invocation sample.
+	 * @param rtt the round-trip time of the invocation in nanoseconds
+	 * @param inFlight the number of invocations in progress when the invocation started
+	 * @param failed whether the invocation failed with an exception
+	 */
+	protected void onSample(long rtt, int inFlight, boolean failed) {
+		int newLimit;
+		this.sampleLock.lock();
+		try {
+			this.sampleCount++;
+			double limit = this.estimatedLimit;
+			double adapted = (this.algorithm == Algorithm.GRADIENT ?
+					gradient(limit, Math.max(rtt, 1), inFlight) : aimd(limit, Math.max(rtt, 1), inFlight, failed));
+			this.estimatedLimit = Math.min(Math.max(adapted, this.minLimit), this.maxLimit);
+			newLimit = (int) this.estimatedLimit;
+		}
+		finally {
+			this.sampleLock.unlock();
+		}
+		if (newLimit != getConcurrencyLimit()) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Adapting concurrency limit from " + getConcurrencyLimit() + " to " + newLimit);
+			}
+			setConcurrencyLimit(newLimit);
+		}
+	}
+
+	private double gradient(double limit, long rtt, int inFlight) {
+		if (this.sampleCount == 1) {
+			this.shortTermRtt = rtt;
+			this.longTermRtt = rtt;
+		}
+		else {
+			this.shortTermRtt = (this.shortTermRtt + rtt) / 2;
+			this.longTermRtt += (rtt - this.longTermRtt) / Math.min(this.sampleCount, LONG_TERM_WINDOW);
+			if (this.longTermRtt > this.shortTermRtt * 2) {
+				// Latency has dropped significantly: let the long-term average catch up faster
+				this.longTermRtt *= 0.95;
+			}
+		}
+		double gradient = Math.min(Math.max(RTT_TOLERANCE * this.longTermRtt / this.shortTermRtt, 0.5), 1.0);
+		double target = limit * gradient + Math.sqrt(limit);
+		if (target > limit && inFlight < limit / 2) {
+			// Not using the current limit: no point in increasing it
+			return limit;
+		}
+		return limit * (1 - SMOOTHING) + target * SMOOTHING;
+	}
+
+	private double aimd(double limit, long rtt, int inFlight, boolean failed) {
+		boolean slow = false;
+		if (!failed) {
+			// Only successful invocations contribute to the long-term average
+			if (this.longTermRtt == 0) {
+				this.longTermRtt = rtt;
+			}
+			else {
+				slow = (rtt > this.longTermRtt * LATENCY_THRESHOLD);
+				this.longTermRtt += (rtt - this.longTermRtt) / Math.min(this.sampleCount, LONG_TERM_WINDOW);
+			}
+		}
+		if (failed || slow) {
+			this.windowSuccessCount = 0;
+			return limit * BACKOFF_RATIO;
+		}
+		if (inFlight * 2 >= limit && ++this.windowSuccessCount >= limit) {
+			// A full window of successful invocations while using the current limit
+			this.windowSuccessCount = 0;
+			return limit + 1;
+		}
+		return limit;
+	}
+
+}
@@ -17,10 +17,16 @@
 package org.springframework.aop.interceptor;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -32,6 +38,7 @@ import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.Ordered;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskScope;
 
 /**
  * AOP Alliance {@code MethodInterceptor} that processes method invocations
@@ -53,6 +60,12 @@ import org.springframework.core.task.SimpleAsyncTaskExecutor;
  * return type however, such exceptions cannot be transmitted back. In that case an
  * {@link AsyncUncaughtExceptionHandler} can be registered to process such exceptions.
  *
+ * <p>As of 7.1, a {@link #determineTimeout timeout} may apply to a method execution:
+ * the method then executes within a {@link TaskScope} for structured fan-out of
+ * subtasks on the same executor, with the timeout as the scope's deadline. A returned
+ * {@code CompletableFuture} times out at that deadline as well, and a timeout or
+ * cancellation of the returned Future cancels the scope along with its subtasks.
+ *
  * <p>Note: the {@code AnnotationAsyncExecutionInterceptor} subclass is preferred
  * due to its support for executor qualification in conjunction with Spring's
  * {@code @Async} annotation.
@@ -124,7 +137,77 @@ public class AsyncExecutionInterceptor extends AsyncExecutionAspectSupport imple
 			return null;
 		};
 
-		return doSubmit(task, executor, userMethod.getReturnType());
+		AsyncTaskExecutor targetExecutor = adaptAsyncExecutor(executor, userMethod, invocation);
+		Duration timeout = determineTimeout(userMethod);
+		if (timeout == null) {
+			return doSubmit(task, targetExecutor, userMethod.getReturnType());
+		}
+
+		// Execute within a TaskScope with the timeout as deadline, forking subtasks
+		// on the original executor (not on a specifically adapted executor view).
+		long deadline = System.nanoTime() + timeout.toNanos();
+		AtomicBoolean cancelled = new AtomicBoolean();
+		AtomicReference<TaskScope> scopeHolder = new AtomicReference<>();
+		Callable<Object> scopedTask = () -> {
+			long remainingNanos = deadline - System.nanoTime();
+			if (cancelled.get() || remainingNanos <= 0) {
+				// Timed out or cancelled while queued: do not invoke the method anymore
+				handleError(new TimeoutException("Asynchronous execution of method '" + userMethod.getName() +
+						"' did not start within " + timeout), userMethod, invocation.getArguments());
+				return null;
+			}
+			try (TaskScope scope = TaskScope.open(executor, Duration.ofNanos(remainingNanos))) {
+				scopeHolder.set(scope);
+				if (cancelled.get()) {
+					scope.cancel();
+				}
+				return task.call();
+			}
+		};
+		Object result = doSubmit(scopedTask, targetExecutor, userMethod.getReturnType());
+		if (result instanceof CompletableFuture<?> future) {
+			future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).whenComplete((value, ex) -> {
+				if (ex != null) {
+					cancelled.set(true);
+					TaskScope scope = scopeHolder.get();
+					if (scope != null) {
+						scope.cancel();
+					}
+				}
+			});
+		}
+		return result;
+	}
+
+	/**
+	 * Adapt the given executor for the specific invocation of the given method,
+	 * for example, routing the task to an ordering lane based on the arguments.
+	 * <p>The default implementation returns the given executor as-is.
+	 * @param executor the executor determined for the given method
+	 * @param method the user-level method to execute asynchronously
+	 * @param invocation the current method invocation
+	 * @return the executor to submit the task to
+	 * @since 7.1
+	 * @see #determineAsyncExecutor(Method)
+	 */
+	protected AsyncTaskExecutor adaptAsyncExecutor(
+			AsyncTaskExecutor executor, Method method, MethodInvocation invocation) {
+
+		return executor;
+	}
+
+	/**
+	 * Determine the timeout for executions of the given method, if any.
+	 * <p>The default implementation returns {@code null}.
+	 * Subclasses may override this method to provide timeout information,
+	 * for example, via an annotation on the given method.
+	 * @param method the user-level method to execute asynchronously
+	 * @return the timeout, or {@code null} for none
+	 * @since 7.1
+	 * @see TaskScope#open(Executor, Duration)
+	 */
+	protected @Nullable Duration determineTimeout(Method method) {
+		return null;
 	}
 
 	/**
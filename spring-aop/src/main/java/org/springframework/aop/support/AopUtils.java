@@ -22,8 +22,10 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import kotlin.coroutines.Continuation;
@@ -327,12 +329,31 @@ public abstract class AopUtils {
 			}
 		}
 		boolean hasIntroductions = !eligibleAdvisors.isEmpty();
+		// Advisors often share equal pointcuts (for example, several advice methods of
+		// an aspect referring to the same named pointcut): match each of those only once.
+		Map<Pointcut, Boolean> pointcutMatches = null;
 		for (Advisor candidate : candidateAdvisors) {
 			if (candidate instanceof IntroductionAdvisor) {
 				// already processed
 				continue;
 			}
-			if (canApply(candidate, clazz, hasIntroductions)) {
+			boolean canApply;
+			if (candidate instanceof PointcutAdvisor pca) {
+				Pointcut pc = pca.getPointcut();
+				if (pointcutMatches == null) {
+					pointcutMatches = new HashMap<>();
+				}
+				Boolean matches = pointcutMatches.get(pc);
+				if (matches == null) {
+					matches = canApply(pc, clazz, hasIntroductions);
+					pointcutMatches.put(pc, matches);
+				}
+				canApply = matches;
+			}
+			else {
+				canApply = canApply(candidate, clazz, hasIntroductions);
+			}
+			if (canApply) {
 				eligibleAdvisors.add(candidate);
 			}
 		}
@@ -16,6 +16,7 @@
 
 package org.springframework.aop.framework;
 
+import java.lang.reflect.Method;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.util.ArrayList;
@@ -23,6 +24,7 @@ import java.util.List;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.aop.Advisor;
@@ -412,6 +414,31 @@ class ProxyFactoryTests {
 		assertThat(pf.getProxyClass(cl)).isSameAs(proxy.getClass());
 	}
 
+	@Test
+	void frozenInterfaceProxyPrecomputesInterceptorChains() {
+		List<Method> computed = new ArrayList<>();
+		ProxyFactory pf = new ProxyFactory(new TestBean());
+		pf.setAdvisorChainFactory(new DefaultAdvisorChainFactory() {
+			@Override
+			public List<Object> getInterceptorsAndDynamicInterceptionAdvice(
+					Advised config, Method method, @Nullable Class<?> targetClass) {
+				computed.add(method);
+				return super.getInterceptorsAndDynamicInterceptionAdvice(config, method, targetClass);
+			}
+		});
+		pf.addAdvisor(new DefaultPointcutAdvisor(new NopInterceptor()));
+		pf.setFrozen(true);
+
+		ITestBean proxy = (ITestBean) pf.getProxy();
+		assertThat(AopUtils.isJdkDynamicProxy(proxy)).isTrue();
+		int precomputed = computed.size();
+		assertThat(precomputed).isGreaterThan(0);
+
+		proxy.setAge(42);
+		assertThat(proxy.getAge()).isEqualTo(42);
+		assertThat(computed).hasSize(precomputed);
+	}
+
 	@Test
 	void dateProxy() {
 		MyDate target = new MyDate();
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.aop.interceptor;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.interceptor.AdaptiveConcurrencyThrottleInterceptor.Algorithm;
+import org.springframework.beans.testfixture.beans.ITestBean;
+import org.springframework.beans.testfixture.beans.TestBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link AdaptiveConcurrencyThrottleInterceptor}.
+ *
+ * @author Juergen Hoeller
+ */
+class AdaptiveConcurrencyThrottleInterceptorTests {
+
+	private static final long MILLIS = 1_000_000;
+
+
+	@Test
+	void aimdIncreasesOncePerWindowWhileLimitInUse() {
+		AdaptiveConcurrencyThrottleInterceptor interceptor =
+				new AdaptiveConcurrencyThrottleInterceptor(Algorithm.AIMD, 10, 1, 12);
+		for (int i = 0; i < 9; i++) {
+			interceptor.onSample(MILLIS, 10, false);
+		}
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(10);
+		interceptor.onSample(MILLIS, 10, false);
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(11);
+
+		for (int i = 0; i < 20; i++) {
+			interceptor.onSample(MILLIS, 2, false);
+		}
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(11);
+
+		for (int i = 0; i < 30; i++) {
+			interceptor.onSample(MILLIS, 11, false);
+		}
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(12);
+	}
+
+	@Test
+	void aimdDecreasesOnHighLatency() {
+		AdaptiveConcurrencyThrottleInterceptor interceptor =
+				new AdaptiveConcurrencyThrottleInterceptor(Algorithm.AIMD, 10, 5, 20);
+		for (int i = 0; i < 20; i++) {
+			interceptor.onSample(MILLIS, 1, false);
+		}
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(10);
+		assertThat(interceptor.getLongTermRoundTripNanos()).isEqualTo(MILLIS);
+
+		interceptor.onSample(MILLIS * 3 / 2, 1, false);
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(10);
+		interceptor.onSample(5 * MILLIS, 1, false);
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(9);
+	}
+
+	@Test
+	void aimdDecreasesOnFailure() {
+		AdaptiveConcurrencyThrottleInterceptor interceptor =
+				new AdaptiveConcurrencyThrottleInterceptor(Algorithm.AIMD, 10, 5, 20);
+		interceptor.onSample(MILLIS, 1, true);
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(9);
+		for (int i = 0; i < 20; i++) {
+			interceptor.onSample(MILLIS, 1, true);
+		}
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(5);
+	}
+
+	@Test
+	void gradientIncreasesWithStableLatency() {
+		AdaptiveConcurrencyThrottleInterceptor interceptor =
+				new AdaptiveConcurrencyThrottleInterceptor(Algorithm.GRADIENT, 10, 1, 50);
+		for (int i = 0; i < 100; i++) {
+			interceptor.onSample(MILLIS, interceptor.getConcurrencyLimit(), false);
+		}
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(50);
+		assertThat(interceptor.getLongTermRoundTripNanos()).isEqualTo(MILLIS);
+	}
+
+	@Test
+	void gradientDoesNotIncreaseWhenUnderutilized() {
+		AdaptiveConcurrencyThrottleInterceptor interceptor =
+				new AdaptiveConcurrencyThrottleInterceptor(Algorithm.GRADIENT, 10, 1, 50);
+		for (int i = 0; i < 100; i++) {
+			interceptor.onSample(MILLIS, 1, false);
+		}
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void gradientDecreasesWithRisingLatency() {
+		AdaptiveConcurrencyThrottleInterceptor interceptor =
+				new AdaptiveConcurrencyThrottleInterceptor(Algorithm.GRADIENT, 20, 2, 20);
+		for (int i = 0; i < 100; i++) {
+			interceptor.onSample(MILLIS, 20, false);
+		}
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(20);
+		for (int i = 0; i < 20; i++) {
+			interceptor.onSample(10 * MILLIS, 20, false);
+		}
+		assertThat(interceptor.getConcurrencyLimit()).isLessThan(10);
+	}
+
+	@Test
+	void invocationThroughProxy() {
+		TestBean target = new TestBean();
+		target.setAge(42);
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+		AdaptiveConcurrencyThrottleInterceptor interceptor =
+				new AdaptiveConcurrencyThrottleInterceptor(Algorithm.AIMD, 1, 1, 10);
+		proxyFactory.addAdvice(interceptor);
+		ITestBean proxy = (ITestBean) proxyFactory.getProxy();
+
+		assertThat(proxy.getAge()).isEqualTo(42);
+		assertThat(interceptor.getInFlightCount()).isZero();
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(2);
+
+		assertThatIllegalStateException().isThrownBy(() -> proxy.exceptional(new IllegalStateException()));
+		assertThat(interceptor.getInFlightCount()).isZero();
+		assertThat(interceptor.getConcurrencyLimit()).isEqualTo(1);
+	}
+
+	@Test
+	void invalidLimits() {
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				new AdaptiveConcurrencyThrottleInterceptor(Algorithm.AIMD, 1, 0, 10));
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				new AdaptiveConcurrencyThrottleInterceptor(Algorithm.AIMD, 5, 6, 10));
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				new AdaptiveConcurrencyThrottleInterceptor(Algorithm.AIMD, 5, 1, 4));
+	}
+
+}
@@ -18,10 +18,12 @@ package org.springframework.aop.support;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.aop.Advisor;
 import org.springframework.aop.ClassFilter;
 import org.springframework.aop.MethodMatcher;
 import org.springframework.aop.Pointcut;
@@ -78,6 +80,38 @@ class AopUtilsTests {
 		assertThat(AopUtils.canApply(pc, Object.class)).isTrue();
 	}
 
+	@Test
+	void equalPointcutsAreMatchedOncePerClass() {
+		AtomicInteger matchCount = new AtomicInteger();
+		class TestPointcut extends StaticMethodMatcherPointcut {
+			@Override
+			public boolean matches(Method method, @Nullable Class<?> clazz) {
+				matchCount.incrementAndGet();
+				return method.getName().equals("getAge");
+			}
+			@Override
+			public boolean equals(@Nullable Object other) {
+				return (other instanceof TestPointcut);
+			}
+			@Override
+			public int hashCode() {
+				return TestPointcut.class.hashCode();
+			}
+		}
+
+		List<Advisor> candidates = List.of(
+				new DefaultPointcutAdvisor(new TestPointcut(), new NopInterceptor()),
+				new DefaultPointcutAdvisor(new TestPointcut(), new NopInterceptor()),
+				new DefaultPointcutAdvisor(new NopInterceptor()));
+		List<Advisor> eligible = AopUtils.findAdvisorsThatCanApply(candidates, TestBean.class);
+		assertThat(eligible).containsExactlyElementsOf(candidates);
+		int singlePointcutCount = matchCount.get();
+
+		matchCount.set(0);
+		assertThat(AopUtils.canApply(new TestPointcut(), TestBean.class)).isTrue();
+		assertThat(matchCount.get()).isEqualTo(singlePointcutCount);
+	}
+
 	/**
 	 * Test that when we serialize and deserialize various canonical instances
 	 * of AOP classes, they return the same instance, not a new instance
@@ -16,6 +16,8 @@
 
 package org.springframework.cache.caffeine;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -27,6 +29,7 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.cache.support.AbstractValueAdaptingCache;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 /**
  * Spring {@link org.springframework.cache.Cache} adapter implementation
@@ -163,11 +166,32 @@ public class CaffeineCache extends AbstractValueAdaptingCache {
 		return this.cache.getIfPresent(key);
 	}
 
+	@Override
+	public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+		Map<Object, Object> storeValues = (this.cache instanceof LoadingCache<Object, Object> loadingCache ?
+				loadingCache.getAll(keys) : this.cache.getAllPresent(keys));
+		Map<Object, ValueWrapper> result = CollectionUtils.newLinkedHashMap(storeValues.size());
+		storeValues.forEach((key, storeValue) -> {
+			ValueWrapper value = toValueWrapper(storeValue);
+			if (value != null) {
+				result.put(key, value);
+			}
+		});
+		return result;
+	}
+
 	@Override
 	public void put(Object key, @Nullable Object value) {
 		this.cache.put(key, toStoreValue(value));
 	}
 
+	@Override
+	public void putAll(Map<?, ?> entries) {
+		Map<Object, Object> storeValues = CollectionUtils.newLinkedHashMap(entries.size());
+		entries.forEach((key, value) -> storeValues.put(key, toStoreValue(value)));
+		this.cache.putAll(storeValues);
+	}
+
 	@Override
 	public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
 		PutIfAbsentFunction callable = new PutIfAbsentFunction(value);
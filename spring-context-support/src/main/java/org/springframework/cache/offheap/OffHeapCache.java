@@ -0,0 +1,508 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.ValueLoadCoordinator;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.cache.Cache} implementation that stores serialized
+ * values in direct memory, outside of the Java heap, keeping only the keys and
+ * compact block handles on the heap. Useful for large reference data caches
+ * which would otherwise put considerable pressure on the garbage collector.
+ *
+ * <p>Values are serialized through a {@link SerializationDelegate}, using
+ * standard Java serialization by default; a delegate with custom
+ * {@link org.springframework.core.serializer.Serializer} and
+ * {@link org.springframework.core.serializer.Deserializer} implementations
+ * can be specified for other binary formats. Each cache lookup deserializes
+ * a fresh copy of the cached value.
+ *
+ * <p>Direct memory is allocated lazily in slabs, up to the configured capacity,
+ * and split into blocks of a fixed size. When the capacity is exhausted, entries
+ * are evicted to make room for new ones in an approximation of least recently
+ * used order: entries are considered in insertion order, with entries that have
+ * been read since they were last considered getting a second chance (CLOCK).
+ * Lookups therefore only mark an entry as referenced and may run concurrently,
+ * with only writes being serialized. Values that exceed the capacity of the
+ * entire cache are not cached at all. Note that the {@code -XX:MaxDirectMemorySize}
+ * limit of the JVM applies.
+ *
+ * <p>Hit, miss and eviction counts are recorded for monitoring purposes.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see SerializationDelegate
+ */
+public class OffHeapCache extends AbstractValueAdaptingCache {
+
+	/**
+	 * The default size of a storage block: 256 bytes.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 256;
+
+	private static final int MAX_SLAB_SIZE = 1 << 30;
+
+
+	private final String name;
+
+	private final SerializationDelegate serialization;
+
+	private final BlockStore blockStore;
+
+	// Insertion-ordered, so that lookups do not modify the map under the read lock
+	private final Map<Object, Entry> entries = new LinkedHashMap<>(256);
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final ValueLoadCoordinator loads = new ValueLoadCoordinator();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+
+	/**
+	 * Create a new OffHeapCache with the specified name and capacity,
+	 * using standard Java serialization.
+	 * @param name the name of the cache
+	 * @param capacity the maximum number of bytes of direct memory to use
+	 */
+	public OffHeapCache(String name, long capacity) {
+		this(name, capacity, true);
+	}
+
+	/**
+	 * Create a new OffHeapCache with the specified name and capacity,
+	 * using standard Java serialization.
+	 * @param name the name of the cache
+	 * @param capacity the maximum number of bytes of direct memory to use
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 */
+	public OffHeapCache(String name, long capacity, boolean allowNullValues) {
+		this(name, capacity, DEFAULT_BLOCK_SIZE, allowNullValues,
+				new SerializationDelegate(OffHeapCache.class.getClassLoader()));
+	}
+
+	/**
+	 * Create a new OffHeapCache with the specified name, capacity, block size
+	 * and {@link SerializationDelegate}.
+	 * @param name the name of the cache
+	 * @param capacity the maximum number of bytes of direct memory to use
+	 * @param blockSize the size of a storage block in bytes: every cached value
+	 * occupies a whole number of blocks, so this should roughly match the
+	 * typical size of a serialized value
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 * @param serialization the {@link SerializationDelegate} to use for
+	 * converting values to bytes and back
+	 */
+	public OffHeapCache(String name, long capacity, int blockSize, boolean allowNullValues,
+			SerializationDelegate serialization) {
+
+		super(allowNullValues);
+		Assert.notNull(name, "Name must not be null");
+		Assert.isTrue(blockSize > 0, "Block size must be positive");
+		Assert.isTrue(capacity >= blockSize, "Capacity must be at least the block size");
+		Assert.notNull(serialization, "SerializationDelegate must not be null");
+		this.name = name;
+		this.serialization = serialization;
+		this.blockStore = new BlockStore(capacity, blockSize);
+	}
+
+
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	/**
+	 * This implementation returns the {@code OffHeapCache} itself,
+	 * not exposing any native cache provider.
+	 */
+	@Override
+	public final Object getNativeCache() {
+		return this;
+	}
+
+	/**
+	 * Return the number of entries currently held in this cache.
+	 */
+	public int size() {
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+		try {
+			return this.entries.size();
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of bytes of direct memory currently occupied by
+	 * cached values, in terms of whole blocks.
+	 */
+	public long getUsedBytes() {
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+		try {
+			return this.blockStore.getUsedBytes();
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of lookups that found a cached value.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of lookups that did not find a cached value.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the number of entries that have been evicted to make room
+	 * for new entries, not including explicit evictions.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+
+	@Override
+	protected @Nullable Object lookup(Object key) {
+		byte[] bytes = read(key);
+		if (bytes == null) {
+			this.missCount.increment();
+			return null;
+		}
+		this.hitCount.increment();
+		return deserialize(bytes);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+		Object storeValue = lookup(key);
+		if (storeValue != null) {
+			return (T) fromStoreValue(storeValue);
+		}
+		// Load outside of any lock, so that loaders for other keys may proceed.
+		return (T) fromStoreValue(this.loads.load(key, k -> {
+			byte[] existing = read(k);
+			return (existing != null ? deserialize(existing) : null);
+		}, k -> {
+			Object value;
+			try {
+				value = toStoreValue(valueLoader.call());
+			}
+			catch (Throwable ex) {
+				throw new ValueRetrievalException(k, valueLoader, ex);
+			}
+			store(k, serialize(value, value), false);
+			return value;
+		}));
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		store(key, serialize(toStoreValue(value), value), false);
+	}
+
+	@Override
+	public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		byte[] existing = store(key, serialize(toStoreValue(value), value), true);
+		return (existing != null ? toValueWrapper(deserialize(existing)) : null);
+	}
+
+	@Override
+	public void evict(Object key) {
+		evictIfPresent(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		Lock writeLock = this.lock.writeLock();
+		writeLock.lock();
+		try {
+			Entry entry = this.entries.remove(key);
+			if (entry != null) {
+				this.blockStore.free(entry);
+				return true;
+			}
+			return false;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		invalidate();
+	}
+
+	@Override
+	public boolean invalidate() {
+		Lock writeLock = this.lock.writeLock();
+		writeLock.lock();
+		try {
+			boolean notEmpty = !this.entries.isEmpty();
+			this.entries.clear();
+			// Release the slabs, leaving the direct memory to be reclaimed
+			this.blockStore.reset();
+			return notEmpty;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+
+	private byte @Nullable [] read(Object key) {
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+		try {
+			Entry entry = this.entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			entry.referenced = true;
+			return this.blockStore.read(entry);
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Store the given serialized value, evicting entries that have not been
+	 * referenced recently if necessary.
+	 * @param key the key to store the value for
+	 * @param bytes the serialized value
+	 * @param onlyIfAbsent whether to keep an existing entry for the key
+	 * @return the serialized existing value if {@code onlyIfAbsent} has
+	 * been specified and an entry is present, otherwise {@code null}
+	 */
+	private byte @Nullable [] store(Object key, byte[] bytes, boolean onlyIfAbsent) {
+		int blockCount = this.blockStore.getBlockCount(bytes.length);
+		Lock writeLock = this.lock.writeLock();
+		writeLock.lock();
+		try {
+			Entry existing = (onlyIfAbsent ? this.entries.get(key) : this.entries.remove(key));
+			if (existing != null) {
+				if (onlyIfAbsent) {
+					return this.blockStore.read(existing);
+				}
+				this.blockStore.free(existing);
+			}
+			if (blockCount > this.blockStore.getTotalBlocks()) {
+				// Too large to be cached at all
+				return null;
+			}
+			while (this.blockStore.getAvailableBlocks() < blockCount) {
+				Map.Entry<Object, Entry> eldest = this.entries.entrySet().iterator().next();
+				Entry candidate = eldest.getValue();
+				this.entries.remove(eldest.getKey());
+				if (candidate.referenced) {
+					// Second chance: move to the tail, to be considered again after all others
+					candidate.referenced = false;
+					this.entries.put(eldest.getKey(), candidate);
+				}
+				else {
+					this.blockStore.free(candidate);
+					this.evictionCount.increment();
+				}
+			}
+			this.entries.put(key, this.blockStore.write(bytes, blockCount));
+			return null;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private byte[] serialize(Object storeValue, @Nullable Object userValue) {
+		try {
+			return this.serialization.serializeToByteArray(storeValue);
+		}
+		catch (Throwable ex) {
+			throw new IllegalArgumentException("Failed to serialize cache value '" + userValue +
+					"'. Does it implement Serializable?", ex);
+		}
+	}
+
+	private Object deserialize(byte[] bytes) {
+		try {
+			return this.serialization.deserializeFromByteArray(bytes);
+		}
+		catch (Throwable ex) {
+			throw new IllegalArgumentException("Failed to deserialize cache value in cache '" + this.name + "'", ex);
+		}
+	}
+
+
+	/**
+	 * On-heap handle for a cached value: the blocks it occupies and its length,
+	 * as well as whether it has been read since last considered for eviction.
+	 */
+	private static final class Entry {
+
+		final int[] blocks;
+
+		final int length;
+
+		volatile boolean referenced;
+
+		Entry(int[] blocks, int length) {
+			this.blocks = blocks;
+			this.length = length;
+		}
+	}
+
+
+	/**
+	 * Fixed-size block allocator on top of lazily allocated direct buffer slabs.
+	 * Not thread-safe: guarded by the lock of the owning cache, with concurrent
+	 * reads of written blocks being safe under the shared read lock.
+	 */
+	private static final class BlockStore {
+
+		private final int blockSize;
+
+		private final int totalBlocks;
+
+		private final int blocksPerSlab;
+
+		private final @Nullable ByteBuffer[] slabs;
+
+		private int[] freeBlocks = new int[64];
+
+		private int freeCount;
+
+		// Blocks from this index onwards have never been handed out
+		private int nextBlock;
+
+		BlockStore(long capacity, int blockSize) {
+			this.blockSize = blockSize;
+			this.totalBlocks = (int) Math.min(capacity / blockSize, Integer.MAX_VALUE);
+			this.blocksPerSlab = Math.max(1, Math.min(this.totalBlocks, MAX_SLAB_SIZE / blockSize));
+			this.slabs = new ByteBuffer[(this.totalBlocks + this.blocksPerSlab - 1) / this.blocksPerSlab];
+		}
+
+		int getTotalBlocks() {
+			return this.totalBlocks;
+		}
+
+		int getBlockCount(int length) {
+			return Math.max(1, (int) (((long) length + this.blockSize - 1) / this.blockSize));
+		}
+
+		int getAvailableBlocks() {
+			return this.freeCount + (this.totalBlocks - this.nextBlock);
+		}
+
+		long getUsedBytes() {
+			return (long) (this.totalBlocks - getAvailableBlocks()) * this.blockSize;
+		}
+
+		Entry write(byte[] bytes, int blockCount) {
+			int[] blocks = new int[blockCount];
+			int offset = 0;
+			for (int i = 0; i < blockCount; i++) {
+				int block = (this.freeCount > 0 ? this.freeBlocks[--this.freeCount] : this.nextBlock++);
+				blocks[i] = block;
+				int length = Math.min(this.blockSize, bytes.length - offset);
+				if (length > 0) {
+					slab(block).put(position(block), bytes, offset, length);
+					offset += length;
+				}
+			}
+			return new Entry(blocks, bytes.length);
+		}
+
+		byte[] read(Entry entry) {
+			byte[] bytes = new byte[entry.length];
+			int offset = 0;
+			for (int block : entry.blocks) {
+				int length = Math.min(this.blockSize, bytes.length - offset);
+				if (length > 0) {
+					slab(block).get(position(block), bytes, offset, length);
+					offset += length;
+				}
+			}
+			return bytes;
+		}
+
+		void free(Entry entry) {
+			int required = this.freeCount + entry.blocks.length;
+			if (required > this.freeBlocks.length) {
+				this.freeBlocks = Arrays.copyOf(this.freeBlocks, Math.max(required, this.freeBlocks.length * 2));
+			}
+			System.arraycopy(entry.blocks, 0, this.freeBlocks, this.freeCount, entry.blocks.length);
+			this.freeCount = required;
+		}
+
+		void reset() {
+			Arrays.fill(this.slabs, null);
+			this.freeBlocks = new int[64];
+			this.freeCount = 0;
+			this.nextBlock = 0;
+		}
+
+		private ByteBuffer slab(int block) {
+			int index = block / this.blocksPerSlab;
+			ByteBuffer slab = this.slabs[index];
+			if (slab == null) {
+				int slabBlocks = Math.min(this.blocksPerSlab, this.totalBlocks - index * this.blocksPerSlab);
+				slab = ByteBuffer.allocateDirect(slabBlocks * this.blockSize);
+				this.slabs[index] = slab;
+			}
+			return slab;
+		}
+
+		private int position(int block) {
+			return (block % this.blocksPerSlab) * this.blockSize;
+		}
+	}
+
+}
@@ -0,0 +1,8 @@
+/**
+ * Cache implementation that keeps serialized values in direct memory,
+ * outside of the Java heap, for large cached datasets.
+ */
+@NullMarked
+package org.springframework.cache.offheap;
+
+import org.jspecify.annotations.NullMarked;
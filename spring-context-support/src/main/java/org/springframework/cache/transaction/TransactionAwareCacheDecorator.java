@@ -16,6 +16,9 @@
 
 package org.springframework.cache.transaction;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -28,12 +31,13 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import org.springframework.util.Assert;
 
 /**
- * Cache decorator which synchronizes its {@link #put}, {@link #evict} and
- * {@link #clear} operations with Spring-managed transactions (through Spring's
- * {@link TransactionSynchronizationManager}), performing the actual cache
- * put/evict/clear operation only in the after-commit phase of a successful
- * transaction. If no transaction is active, {@link #put}, {@link #evict} and
- * {@link #clear} operations will be performed immediately, as usual.
+ * Cache decorator which synchronizes its {@link #put}, {@link #putAll},
+ * {@link #evict} and {@link #clear} operations with Spring-managed transactions
+ * (through Spring's {@link TransactionSynchronizationManager}), performing the
+ * actual cache put/evict/clear operation only in the after-commit phase of a
+ * successful transaction. If no transaction is active, {@link #put},
+ * {@link #putAll}, {@link #evict} and {@link #clear} operations will be
+ * performed immediately, as usual.
  *
  * <p><b>Note:</b> Use of immediate operations such as {@link #putIfAbsent} and
  * {@link #evictIfPresent} cannot be deferred to the after-commit phase of a
@@ -92,6 +96,11 @@ public class TransactionAwareCacheDecorator implements Cache {
 		return this.targetCache.get(key, valueLoader);
 	}
 
+	@Override
+	public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+		return this.targetCache.getAll(keys);
+	}
+
 	@Override
 	public @Nullable CompletableFuture<?> retrieve(Object key) {
 		return this.targetCache.retrieve(key);
@@ -117,6 +126,23 @@ public class TransactionAwareCacheDecorator implements Cache {
 		}
 	}
 
+	@Override
+	public void putAll(Map<?, ?> entries) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			// Take a snapshot: the caller may modify or reuse the map before commit
+			Map<?, ?> snapshot = new LinkedHashMap<>(entries);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					TransactionAwareCacheDecorator.this.targetCache.putAll(snapshot);
+				}
+			});
+		}
+		else {
+			this.targetCache.putAll(entries);
+		}
+	}
+
 	@Override
 	public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
 		return this.targetCache.putIfAbsent(key, value);
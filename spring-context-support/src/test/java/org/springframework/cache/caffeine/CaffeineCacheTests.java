@@ -16,6 +16,10 @@
 
 package org.springframework.cache.caffeine;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -93,6 +97,31 @@ class CaffeineCacheTests extends AbstractValueAdaptingCacheTests<CaffeineCache>
 		assertThatIllegalStateException().isThrownBy(() -> loadingCache.get(new Object(), Long.class));
 	}
 
+	@Test
+	void loadingCacheGetAll() {
+		CaffeineCache loadingCache = new CaffeineCache(CACHE_NAME, Caffeine.newBuilder()
+				.build(key -> "value-" + key));
+		Map<Object, ValueWrapper> values = loadingCache.getAll(List.of("a", "b"));
+		assertThat(values).containsOnlyKeys("a", "b");
+		assertThat(values.get("b").get()).isEqualTo("value-b");
+	}
+
+	@Test
+	void putAllNullValue() {
+		CaffeineCache cache = getCache();
+
+		Map<Object, Object> entries = new HashMap<>();
+		entries.put("a", "value");
+		entries.put("b", null);
+		cache.putAll(entries);
+		assertThat(nativeCache.getIfPresent("b")).isNotNull();
+
+		Map<Object, ValueWrapper> values = cache.getAll(List.of("a", "b", "c"));
+		assertThat(values).containsOnlyKeys("a", "b");
+		assertThat(values.get("a").get()).isEqualTo("value");
+		assertThat(values.get("b").get()).isNull();
+	}
+
 	@Test
 	void putIfAbsentNullValue() {
 		CaffeineCache cache = getCache();
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.offheap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.context.testfixture.cache.AbstractValueAdaptingCacheTests;
+import org.springframework.core.serializer.support.SerializationDelegate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link OffHeapCache}.
+ *
+ * @author Juergen Hoeller
+ */
+class OffHeapCacheTests extends AbstractValueAdaptingCacheTests<OffHeapCache> {
+
+	private OffHeapCache cache;
+
+	private OffHeapCache cacheNoNull;
+
+
+	@BeforeEach
+	void setup() {
+		this.cache = new OffHeapCache(CACHE_NAME, 1024 * 1024);
+		this.cacheNoNull = new OffHeapCache(CACHE_NAME_NO_NULL, 1024 * 1024, false);
+	}
+
+	@Override
+	protected OffHeapCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected OffHeapCache getCache(boolean allowNull) {
+		return (allowNull ? this.cache : this.cacheNoNull);
+	}
+
+	@Override
+	protected Object getNativeCache() {
+		return this.cache;
+	}
+
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void storesCopyOfValue() {
+		List<String> content = new ArrayList<>(Arrays.asList("one", "two", "three"));
+		this.cache.put("key", content);
+		content.remove(0);
+
+		List<String> entry = (List<String>) this.cache.get("key").get();
+		assertThat(entry).containsExactly("one", "two", "three");
+		assertThat(this.cache.get("key").get()).isNotSameAs(entry);
+	}
+
+	@Test
+	void valueSpanningMultipleBlocks() {
+		OffHeapCache cache = new OffHeapCache(CACHE_NAME, 4096, 16, true,
+				new SerializationDelegate(getClass().getClassLoader()));
+		String value = "x".repeat(1000);
+		cache.put("key", value);
+
+		assertThat(cache.get("key", String.class)).isEqualTo(value);
+		assertThat(cache.getUsedBytes()).isGreaterThan(1000).isLessThanOrEqualTo(4096);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntriesWhenFull() {
+		OffHeapCache cache = new OffHeapCache(CACHE_NAME, 4096, 1024, true,
+				new SerializationDelegate(getClass().getClassLoader()));
+		for (int i = 0; i < 4; i++) {
+			cache.put(i, "value" + i);
+		}
+		assertThat(cache.size()).isEqualTo(4);
+		assertThat(cache.get(0, String.class)).isEqualTo("value0");
+
+		cache.put(4, "value4");
+		assertThat(cache.size()).isEqualTo(4);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+		assertThat(cache.get(1)).isNull();
+		assertThat(cache.get(0, String.class)).isEqualTo("value0");
+		assertThat(cache.get(4, String.class)).isEqualTo("value4");
+	}
+
+	@Test
+	void concurrentLoadsForSameKeyInvokeLoaderOnce() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> this.cache.get("key", () -> {
+			loads.incrementAndGet();
+			loading.countDown();
+			release.await();
+			return "value";
+		}));
+		loading.await();
+		CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> this.cache.get("key", () -> {
+			loads.incrementAndGet();
+			return "other";
+		}));
+		release.countDown();
+
+		assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void loaderMayLoadOtherKeys() {
+		String value = this.cache.get("outer", () -> "outer-" + this.cache.get("inner", () -> "inner"));
+
+		assertThat(value).isEqualTo("outer-inner");
+		assertThat(this.cache.get("inner", String.class)).isEqualTo("inner");
+	}
+
+	@Test
+	void loaderMayNotLoadItsOwnKey() {
+		assertThatExceptionOfType(Cache.ValueRetrievalException.class).isThrownBy(() ->
+				this.cache.get("key", () -> this.cache.get("key", () -> "value")))
+				.withCauseInstanceOf(IllegalStateException.class);
+		assertThat(this.cache.get("key", () -> "value")).isEqualTo("value");
+	}
+
+	@Test
+	void failedLoadIsNotCached() {
+		assertThatExceptionOfType(Cache.ValueRetrievalException.class).isThrownBy(() ->
+				this.cache.get("key", () -> {
+					throw new IllegalStateException("expected");
+				}));
+		assertThat(this.cache.get("key", () -> "value")).isEqualTo("value");
+	}
+
+	@Test
+	void doesNotCacheValueExceedingCapacity() {
+		OffHeapCache cache = new OffHeapCache(CACHE_NAME, 256, 64, true,
+				new SerializationDelegate(getClass().getClassLoader()));
+		cache.put("key", "small");
+		cache.put("key", "x".repeat(1000));
+
+		assertThat(cache.get("key")).isNull();
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getUsedBytes()).isZero();
+	}
+
+	@Test
+	void recordsHitsAndMisses() {
+		this.cache.put("key", "value");
+		this.cache.get("key");
+		this.cache.get("key", String.class);
+		this.cache.get("other");
+
+		assertThat(this.cache.getHitCount()).isEqualTo(2);
+		assertThat(this.cache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	void clearReleasesMemory() {
+		this.cache.put("key1", "value1");
+		this.cache.put("key2", "value2");
+		assertThat(this.cache.getUsedBytes()).isEqualTo(2 * OffHeapCache.DEFAULT_BLOCK_SIZE);
+
+		assertThat(this.cache.invalidate()).isTrue();
+		assertThat(this.cache.size()).isZero();
+		assertThat(this.cache.getUsedBytes()).isZero();
+		assertThat(this.cache.invalidate()).isFalse();
+	}
+
+	@Test
+	void nonSerializableContent() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.cache.put("key", new Object()))
+				.withMessageContaining("Failed to serialize");
+	}
+
+}
@@ -16,6 +16,10 @@
 
 package org.springframework.cache.transaction;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cache.Cache;
@@ -87,6 +91,38 @@ class TransactionAwareCacheDecoratorTests {
 		assertThat(target.get(key, String.class)).isEqualTo("123");
 	}
 
+	@Test
+	void putAllTransactional() {
+		Cache target = new ConcurrentMapCache("testCache");
+		Cache cache = new TransactionAwareCacheDecorator(target);
+
+		txTemplate.executeWithoutResult(s -> {
+			cache.putAll(Map.of("key1", "123", "key2", "456"));
+			assertThat(target.get("key1")).isNull();
+			assertThat(cache.getAll(List.of("key1", "key2"))).isEmpty();
+		});
+
+		assertThat(target.get("key1", String.class)).isEqualTo("123");
+		assertThat(cache.getAll(List.of("key1", "key2"))).containsOnlyKeys("key1", "key2");
+	}
+
+	@Test
+	void putAllTransactionalWithModifiedEntries() {
+		Cache target = new ConcurrentMapCache("testCache");
+		Cache cache = new TransactionAwareCacheDecorator(target);
+
+		txTemplate.executeWithoutResult(s -> {
+			Map<Object, Object> entries = new HashMap<>();
+			entries.put("key1", "123");
+			cache.putAll(entries);
+			entries.put("key1", "456");
+			entries.put("key2", "789");
+		});
+
+		assertThat(target.get("key1", String.class)).isEqualTo("123");
+		assertThat(target.get("key2")).isNull();
+	}
+
 	@Test
 	void putIfAbsentNonTransactional() {
 		Cache target = new ConcurrentMapCache("testCache");
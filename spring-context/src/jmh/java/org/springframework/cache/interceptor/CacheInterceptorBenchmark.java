@@ -0,0 +1,131 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Benchmarks for the throughput of cache hits on {@code @Cacheable} methods,
+ * measuring the overhead of the caching interceptor itself.
+ *
+ * @author Juergen Hoeller
+ */
+@BenchmarkMode(Mode.Throughput)
+public class CacheInterceptorBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public AnnotationConfigApplicationContext context;
+
+		public CachedService service;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.context = new AnnotationConfigApplicationContext(CacheConfig.class);
+			this.service = this.context.getBean(CachedService.class);
+			// Populate the caches so that the benchmarks only measure hits
+			this.service.singleArgument(1L);
+			this.service.multipleArguments(1L, "name");
+			this.service.withCondition(1L);
+			this.service.withKeyExpression(1L, "name");
+		}
+
+		@TearDown(Level.Trial)
+		public void teardown() {
+			this.context.close();
+		}
+	}
+
+
+	@Benchmark
+	public void singleArgument(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.service.singleArgument(1L));
+	}
+
+	@Benchmark
+	public void multipleArguments(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.service.multipleArguments(1L, "name"));
+	}
+
+	@Benchmark
+	public void withCondition(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.service.withCondition(1L));
+	}
+
+	@Benchmark
+	public void withKeyExpression(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.service.withKeyExpression(1L, "name"));
+	}
+
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableCaching
+	static class CacheConfig {
+
+		@Bean
+		CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager();
+		}
+
+		@Bean
+		CachedService cachedService() {
+			return new CachedService();
+		}
+	}
+
+
+	public static class CachedService {
+
+		@Cacheable("single")
+		public String singleArgument(long id) {
+			return "value" + id;
+		}
+
+		@Cacheable("multiple")
+		public String multipleArguments(long id, String name) {
+			return name + id;
+		}
+
+		@Cacheable(cacheNames = "condition", condition = "#id > 0")
+		public String withCondition(long id) {
+			return "value" + id;
+		}
+
+		@Cacheable(cacheNames = "key", key = "#name")
+		public String withKeyExpression(long id, String name) {
+			return name + id;
+		}
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Benchmarks for multicasting events to a large number of listeners,
+ * with and without listener registrations in between.
+ *
+ * @author Juergen Hoeller
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ApplicationEventMulticasterBenchmark {
+
+	private static final List<Object> PAYLOADS = List.of("text", 1, 1L, 1.0d, 1.0f, true, 'c', (short) 1, (byte) 1);
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"100", "1000"})
+		public int listenerCount;
+
+		public SimpleApplicationEventMulticaster multicaster;
+
+		public List<PayloadApplicationEvent<Object>> events;
+
+		public PayloadTypeListener churnListener;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.multicaster = new SimpleApplicationEventMulticaster();
+			for (int i = 0; i < this.listenerCount; i++) {
+				this.multicaster.addApplicationListener(
+						new PayloadTypeListener(PAYLOADS.get(i % PAYLOADS.size()).getClass()));
+			}
+			this.events = PAYLOADS.stream().map(payload -> new PayloadApplicationEvent<>(this, payload)).toList();
+			// Only interested in a single event type
+			this.churnListener = new PayloadTypeListener(String.class);
+		}
+	}
+
+
+	@Benchmark
+	public void multicastEvents(BenchmarkState state) {
+		for (PayloadApplicationEvent<Object> event : state.events) {
+			state.multicaster.multicastEvent(event);
+		}
+	}
+
+	@Benchmark
+	public void multicastEventsWithListenerChurn(BenchmarkState state) {
+		state.multicaster.addApplicationListener(state.churnListener);
+		for (PayloadApplicationEvent<Object> event : state.events) {
+			state.multicaster.multicastEvent(event);
+		}
+		state.multicaster.removeApplicationListener(state.churnListener);
+	}
+
+
+	private static class PayloadTypeListener implements GenericApplicationListener {
+
+		private final ResolvableType eventType;
+
+		private int count;
+
+		PayloadTypeListener(Class<?> payloadType) {
+			this.eventType = ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, payloadType);
+		}
+
+		@Override
+		public boolean supportsEventType(ResolvableType eventType) {
+			return this.eventType.isAssignableFrom(eventType);
+		}
+
+		@Override
+		public void onApplicationEvent(ApplicationEvent event) {
+			this.count++;
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * Benchmarks for scheduling and cancelling timeouts, the typical usage
+ * pattern for per-request deadlines, comparing {@link TimerWheelTaskScheduler}
+ * with the {@code ScheduledThreadPoolExecutor}-based schedulers.
+ *
+ * @author Juergen Hoeller
+ */
+@BenchmarkMode(Mode.Throughput)
+public class TaskSchedulerBenchmark {
+
+	private static final Runnable NO_OP = () -> {};
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"timerWheel", "threadPool", "simpleAsync"})
+		public String scheduler;
+
+		public TaskScheduler taskScheduler;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.taskScheduler = switch (this.scheduler) {
+				case "timerWheel" -> new TimerWheelTaskScheduler();
+				case "threadPool" -> {
+					ThreadPoolTaskScheduler threadPoolScheduler = new ThreadPoolTaskScheduler();
+					threadPoolScheduler.setRemoveOnCancelPolicy(true);
+					threadPoolScheduler.initialize();
+					yield threadPoolScheduler;
+				}
+				case "simpleAsync" -> new SimpleAsyncTaskScheduler();
+				default -> throw new IllegalArgumentException("Unknown scheduler: " + this.scheduler);
+			};
+		}
+
+		@TearDown(Level.Trial)
+		public void teardown() {
+			if (this.taskScheduler instanceof ThreadPoolTaskScheduler threadPoolScheduler) {
+				threadPoolScheduler.shutdown();
+			}
+			else if (this.taskScheduler instanceof AutoCloseable closeable) {
+				try {
+					closeable.close();
+				}
+				catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+			}
+		}
+	}
+
+
+	@Benchmark
+	public boolean scheduleAndCancel(BenchmarkState state) {
+		return scheduleAndCancelTimeout(state.taskScheduler);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public boolean scheduleAndCancelContended(BenchmarkState state) {
+		return scheduleAndCancelTimeout(state.taskScheduler);
+	}
+
+	private static boolean scheduleAndCancelTimeout(TaskScheduler taskScheduler) {
+		ScheduledFuture<?> future = taskScheduler.schedule(NO_OP, Instant.now().plusSeconds(30));
+		return future.cancel(false);
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for calculating the next execution time of a {@link CronExpression},
+ * comparing the compiled evaluation with the field-by-field evaluation.
+ *
+ * @author Juergen Hoeller
+ */
+@BenchmarkMode(Mode.Throughput)
+public class CronExpressionBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"0 0 9 * * MON-FRI", "*/10 * * * * *", "0 15 10 1,15 * *", "0 0 0 29 2 *"})
+		public String expression;
+
+		public CronExpression cronExpression;
+
+		public LocalDateTime localDateTime;
+
+		public ZonedDateTime zonedDateTime;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.cronExpression = CronExpression.parse(this.expression);
+			this.localDateTime = LocalDateTime.of(2025, 6, 3, 14, 27, 11);
+			this.zonedDateTime = this.localDateTime.atZone(ZoneId.of("Europe/Amsterdam"));
+		}
+	}
+
+
+	@Benchmark
+	public LocalDateTime compiledLocal(BenchmarkState state) {
+		return state.cronExpression.next(state.localDateTime);
+	}
+
+	@Benchmark
+	public LocalDateTime fieldByFieldLocal(BenchmarkState state) {
+		return state.cronExpression.nextFieldByField(state.localDateTime);
+	}
+
+	@Benchmark
+	public ZonedDateTime compiledZoned(BenchmarkState state) {
+		return state.cronExpression.next(state.zonedDateTime);
+	}
+
+	@Benchmark
+	public ZonedDateTime fieldByFieldZoned(BenchmarkState state) {
+		return state.cronExpression.nextFieldByField(state.zonedDateTime);
+	}
+
+}
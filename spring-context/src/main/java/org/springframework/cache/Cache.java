@@ -16,12 +16,16 @@
 
 package org.springframework.cache;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.util.CollectionUtils;
+
 /**
  * Interface that defines common cache operations.
  *
@@ -105,6 +109,33 @@ public interface Cache {
 	 */
 	<T> @Nullable T get(Object key, Callable<T> valueLoader);
 
+	/**
+	 * Return the values to which this cache maps the specified keys.
+	 * <p>The returned map only contains entries for the keys that this cache
+	 * has a mapping for, with each cached value (which may be {@code null}
+	 * itself) contained within a {@link ValueWrapper}. Keys without a mapping
+	 * are simply absent from the returned map.
+	 * <p>The default implementation delegates to {@link #get(Object)} for each
+	 * key. Cache providers are encouraged to override this with a batched
+	 * lookup against the native cache, saving a round trip per key.
+	 * @param keys the keys whose associated values are to be returned
+	 * @return a map from each key found in this cache to its cached value
+	 * (never {@code null})
+	 * @since 7.1
+	 * @see #get(Object)
+	 * @see #putAll(Map)
+	 */
+	default Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+		Map<Object, ValueWrapper> result = CollectionUtils.newLinkedHashMap(keys.size());
+		for (Object key : keys) {
+			ValueWrapper value = get(key);
+			if (value != null) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Return the value to which this cache maps the specified key,
 	 * wrapped in a {@link CompletableFuture}. This operation must not block
@@ -183,6 +214,22 @@ public interface Cache {
 	 */
 	void put(Object key, @Nullable Object value);
 
+	/**
+	 * Associate each of the specified values with its key in this cache.
+	 * <p>Follows the semantics of {@link #put(Object, Object)} for every entry,
+	 * including potentially deferred registration with transactional decorators.
+	 * <p>The default implementation delegates to {@link #put(Object, Object)}
+	 * for each entry. Cache providers are encouraged to override this with a
+	 * batched write against the native cache, saving a round trip per entry.
+	 * @param entries the keys and values to be associated with each other
+	 * @since 7.1
+	 * @see #put(Object, Object)
+	 * @see #getAll(Collection)
+	 */
+	default void putAll(Map<?, ?> entries) {
+		entries.forEach(this::put);
+	}
+
 	/**
 	 * Atomically associate the specified value with the specified key in this cache
 	 * if it is not set already.
@@ -208,4 +208,35 @@ public @interface Cacheable {
 	 */
 	boolean sync() default false;
 
+	/**
+	 * Cache the elements of a collection-valued method individually, for example
+	 * for a {@code Map<Long, Book> findAll(List<Long> ids)} method.
+	 * <p>The method must declare exactly one {@link java.util.Collection}
+	 * parameter and return either a {@link java.util.Map} keyed by the elements
+	 * of that collection or a {@link java.util.List} holding a value for each
+	 * element in iteration order. A cache key is computed for each element as if
+	 * the method was invoked with that single element in place of the collection:
+	 * for example, {@code #ids} refers to the current element in a {@link #key}
+	 * expression. All keys are looked up in one batch through
+	 * {@link org.springframework.cache.Cache#getAll}, the method is invoked with
+	 * the missing elements only, and its results are stored through
+	 * {@link org.springframework.cache.Cache#putAll} before being merged with the
+	 * cached values in the order of the requested elements. Elements missing from
+	 * a {@code Map} result are not cached and are simply absent from the merged map.
+	 * <p>The bulk mode leads to a couple of limitations:
+	 * <ol>
+	 * <li>{@link #sync()} is not supported</li>
+	 * <li>No other cache-related operation can be combined</li>
+	 * <li>{@link #unless()} is evaluated for each element, with {@code #result}
+	 * referring to the value of that element</li>
+	 * </ol>
+	 * If the method invocation cannot be repeated with different arguments (for
+	 * example, when not invoked through a Spring AOP proxy), the method is
+	 * invoked with all requested elements on a partial cache miss.
+	 * @since 7.1
+	 * @see org.springframework.cache.Cache#getAll(java.util.Collection)
+	 * @see org.springframework.cache.Cache#putAll(java.util.Map)
+	 */
+	boolean bulk() default false;
+
 }
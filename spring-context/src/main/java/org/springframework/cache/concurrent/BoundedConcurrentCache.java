@@ -0,0 +1,607 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.ValueLoadCoordinator;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded {@link org.springframework.cache.Cache} implementation based on the
+ * core JDK {@code java.util.concurrent} package, evicting entries once a maximum
+ * size has been reached and optionally expiring entries a fixed duration after
+ * they have been written.
+ *
+ * <p>Eviction follows a simplified W-TinyLFU policy: new entries enter a small
+ * admission window, from where they compete for a place in the main region.
+ * The access frequency of keys, including keys not currently cached, is
+ * approximated in a compact count-min sketch that is halved periodically so
+ * that past popularity fades out. An entry leaving the window is only admitted
+ * if its key has been requested more often than the eviction candidate of the
+ * main region, which is chosen in insertion order while giving entries that
+ * have been read since they were last considered a second chance (CLOCK).
+ * This protects frequently used entries from being flushed by one-off lookups.
+ *
+ * <p>Lookups are lock-free. Writes take a short lock for maintaining the
+ * eviction order, so the cache may temporarily exceed its maximum size while
+ * concurrent writes are in progress. Expired entries are removed on access
+ * and when being considered for eviction.
+ *
+ * <p>Concurrent misses for the same key share a single invocation of the value
+ * loader, for {@link #get(Object, Callable)} as well as for
+ * {@link #retrieve(Object, Supplier)}; a value loader requesting its own key
+ * again is rejected with an {@link IllegalStateException}. Hit, miss, load and
+ * eviction counts as well as the time spent loading values are recorded for
+ * monitoring purposes.
+ *
+ * <p>For advanced local caching needs, consider
+ * {@link org.springframework.cache.caffeine.CaffeineCache}.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see ConcurrentMapCacheManager#setMaximumSize
+ * @see ConcurrentMapCacheManager#setExpireAfterWrite
+ */
+public class BoundedConcurrentCache extends AbstractValueAdaptingCache {
+
+	private final String name;
+
+	private final int maximumSize;
+
+	private final @Nullable Duration expireAfterWrite;
+
+	private final long expireAfterWriteNanos;
+
+	private final ConcurrentMap<Object, Node> store = new ConcurrentHashMap<>(256);
+
+	// Eviction order of the admission window and the main region, guarded by the eviction lock
+	private final Map<Object, Node> window = new LinkedHashMap<>();
+
+	private final Map<Object, Node> main = new LinkedHashMap<>();
+
+	private final int windowCapacity;
+
+	private final int mainCapacity;
+
+	private final Lock evictionLock = new ReentrantLock();
+
+	private final FrequencySketch sketch;
+
+	private final ValueLoadCoordinator loads = new ValueLoadCoordinator();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder loadSuccessCount = new LongAdder();
+
+	private final LongAdder loadFailureCount = new LongAdder();
+
+	private final LongAdder totalLoadTime = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private LongSupplier ticker = System::nanoTime;
+
+
+	/**
+	 * Create a new BoundedConcurrentCache with the specified name and maximum size.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries to keep
+	 */
+	public BoundedConcurrentCache(String name, int maximumSize) {
+		this(name, maximumSize, null, true);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentCache with the specified name, maximum size
+	 * and expiration.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries to keep
+	 * @param expireAfterWrite the duration after which an entry expires once it
+	 * has been written, or {@code null} for no expiration
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 */
+	public BoundedConcurrentCache(String name, int maximumSize, @Nullable Duration expireAfterWrite,
+			boolean allowNullValues) {
+
+		super(allowNullValues);
+		Assert.notNull(name, "Name must not be null");
+		Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+		Assert.isTrue(expireAfterWrite == null || (!expireAfterWrite.isNegative() && !expireAfterWrite.isZero()),
+				"Expiration must be positive");
+		this.name = name;
+		this.maximumSize = maximumSize;
+		this.expireAfterWrite = expireAfterWrite;
+		this.expireAfterWriteNanos = (expireAfterWrite != null ? expireAfterWrite.toNanos() : 0);
+		this.windowCapacity = Math.max(1, maximumSize / 100);
+		this.mainCapacity = maximumSize - this.windowCapacity;
+		this.sketch = new FrequencySketch(maximumSize);
+	}
+
+
+	/**
+	 * Set the source of the current time in nanoseconds, for testing purposes.
+	 */
+	void setTicker(LongSupplier ticker) {
+		this.ticker = ticker;
+	}
+
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	/**
+	 * This implementation returns the {@code BoundedConcurrentCache} itself,
+	 * not exposing its internal store.
+	 */
+	@Override
+	public final Object getNativeCache() {
+		return this;
+	}
+
+	/**
+	 * Return the maximum number of entries to keep.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Return the duration after which an entry expires once it has been written,
+	 * if any.
+	 */
+	public @Nullable Duration getExpireAfterWrite() {
+		return this.expireAfterWrite;
+	}
+
+	/**
+	 * Return the number of entries currently held in this cache,
+	 * possibly including expired entries that have not been removed yet.
+	 */
+	public int size() {
+		return this.store.size();
+	}
+
+	/**
+	 * Return the number of lookups that found a cached value.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of lookups that did not find a cached value.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the number of values that have been loaded successfully
+	 * through a value loader.
+	 */
+	public long getLoadSuccessCount() {
+		return this.loadSuccessCount.sum();
+	}
+
+	/**
+	 * Return the number of value loader invocations that failed.
+	 */
+	public long getLoadFailureCount() {
+		return this.loadFailureCount.sum();
+	}
+
+	/**
+	 * Return the total time spent in value loaders, successful or not.
+	 */
+	public Duration getTotalLoadTime() {
+		return Duration.ofNanos(this.totalLoadTime.sum());
+	}
+
+	/**
+	 * Return the number of entries that have been evicted because of the
+	 * maximum size, not including expired entries and explicit evictions.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+
+	@Override
+	protected @Nullable Object lookup(Object key) {
+		this.sketch.increment(key);
+		Node node = this.store.get(key);
+		if (node != null) {
+			if (!isExpired(node, this.ticker.getAsLong())) {
+				node.referenced = true;
+				this.hitCount.increment();
+				return node.value;
+			}
+			if (this.store.remove(key, node)) {
+				unlink(key, node);
+			}
+		}
+		this.missCount.increment();
+		return null;
+	}
+
+	/**
+	 * Find the unexpired store value for the given key, if any, without
+	 * recording a hit or miss.
+	 */
+	private @Nullable Object peek(Object key) {
+		Node node = this.store.get(key);
+		return (node != null && !isExpired(node, this.ticker.getAsLong()) ? node.value : null);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+		Object storeValue = lookup(key);
+		if (storeValue != null) {
+			return (T) fromStoreValue(storeValue);
+		}
+		return (T) fromStoreValue(this.loads.load(key, this::peek, k -> {
+			long startTime = this.ticker.getAsLong();
+			Object value;
+			try {
+				value = toStoreValue(valueLoader.call());
+			}
+			catch (Throwable ex) {
+				recordLoad(startTime, false);
+				throw new ValueRetrievalException(k, valueLoader, ex);
+			}
+			recordLoad(startTime, true);
+			Object existing = write(k, value, true);
+			return (existing != null ? existing : value);
+		}));
+	}
+
+	@Override
+	public @Nullable CompletableFuture<?> retrieve(Object key) {
+		Object value = lookup(key);
+		return (value != null ? CompletableFuture.completedFuture(
+				isAllowNullValues() ? toValueWrapper(value) : fromStoreValue(value)) : null);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		Object value = lookup(key);
+		if (value != null) {
+			return CompletableFuture.completedFuture((T) fromStoreValue(value));
+		}
+		return this.loads.retrieve(key, this::peek, () -> {
+			long startTime = this.ticker.getAsLong();
+			try {
+				return valueLoader.get().whenComplete((result, ex) -> recordLoad(startTime, ex == null));
+			}
+			catch (RuntimeException | Error ex) {
+				recordLoad(startTime, false);
+				throw ex;
+			}
+		}, result -> {
+			Object storeValue = toStoreValue(result);
+			Object existing = write(key, storeValue, true);
+			return (existing != null ? existing : storeValue);
+		}).thenApply(storeValue -> (T) fromStoreValue(storeValue));
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		this.sketch.increment(key);
+		write(key, toStoreValue(value), false);
+	}
+
+	@Override
+	public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		this.sketch.increment(key);
+		return toValueWrapper(write(key, toStoreValue(value), true));
+	}
+
+	@Override
+	public void evict(Object key) {
+		evictIfPresent(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		Node node = this.store.remove(key);
+		if (node != null) {
+			unlink(key, node);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		invalidate();
+	}
+
+	@Override
+	public boolean invalidate() {
+		this.evictionLock.lock();
+		try {
+			boolean notEmpty = !this.store.isEmpty();
+			this.store.clear();
+			this.window.clear();
+			this.main.clear();
+			return notEmpty;
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+
+	private boolean isExpired(Node node, long now) {
+		return (this.expireAfterWriteNanos > 0 && now - node.writeTime >= this.expireAfterWriteNanos);
+	}
+
+	private void recordLoad(long startTime, boolean success) {
+		this.totalLoadTime.add(this.ticker.getAsLong() - startTime);
+		if (success) {
+			this.loadSuccessCount.increment();
+		}
+		else {
+			this.loadFailureCount.increment();
+		}
+	}
+
+	/**
+	 * Write the given store value, replacing an expired entry if necessary.
+	 * @param key the key to store the value for
+	 * @param storeValue the value to store
+	 * @param onlyIfAbsent whether to keep an existing entry for the key
+	 * @return the existing store value if {@code onlyIfAbsent} has been
+	 * specified and an entry is present, otherwise {@code null}
+	 */
+	private @Nullable Object write(Object key, Object storeValue, boolean onlyIfAbsent) {
+		long now = this.ticker.getAsLong();
+		Node node = new Node(storeValue, now);
+		Node result = this.store.compute(key, (k, current) -> {
+			if (current == null || isExpired(current, now)) {
+				return node;
+			}
+			if (!onlyIfAbsent) {
+				current.value = storeValue;
+				current.writeTime = now;
+			}
+			return current;
+		});
+		if (result == node) {
+			register(key, node);
+			return null;
+		}
+		return (onlyIfAbsent ? result.value : null);
+	}
+
+	/**
+	 * Add a newly written entry to the admission window, evicting entries if
+	 * the window overflows into a full main region.
+	 */
+	private void register(Object key, Node node) {
+		this.evictionLock.lock();
+		try {
+			if (this.store.get(key) != node) {
+				// Removed or replaced concurrently
+				return;
+			}
+			// Drop the eviction order position of an expired entry being replaced
+			this.main.remove(key);
+			this.window.remove(key);
+			this.window.put(key, node);
+			while (this.window.size() > this.windowCapacity) {
+				Iterator<Map.Entry<Object, Node>> it = this.window.entrySet().iterator();
+				Map.Entry<Object, Node> eldest = it.next();
+				it.remove();
+				admit(eldest.getKey(), eldest.getValue());
+			}
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Move the given entry from the admission window to the main region if there
+	 * is room or if its key is more popular than the main region's eviction
+	 * candidate, evicting either the candidate or the given entry otherwise.
+	 */
+	private void admit(Object key, Node node) {
+		if (this.store.get(key) != node) {
+			return;
+		}
+		if (this.main.size() < this.mainCapacity) {
+			this.main.put(key, node);
+			return;
+		}
+		long now = this.ticker.getAsLong();
+		Map.Entry<Object, Node> victim = selectVictim(now);
+		if (victim != null && (isExpired(victim.getValue(), now) ||
+				this.sketch.frequency(key) > this.sketch.frequency(victim.getKey()))) {
+			this.main.remove(victim.getKey());
+			if (this.store.remove(victim.getKey(), victim.getValue()) && !isExpired(victim.getValue(), now)) {
+				this.evictionCount.increment();
+			}
+			this.main.put(key, node);
+		}
+		else if (this.store.remove(key, node)) {
+			this.evictionCount.increment();
+		}
+	}
+
+	/**
+	 * Select the eviction candidate of the main region: the eldest entry that has
+	 * not been read since it was last considered, or an expired entry.
+	 */
+	private Map.@Nullable Entry<Object, Node> selectVictim(long now) {
+		while (!this.main.isEmpty()) {
+			Map.Entry<Object, Node> eldest = this.main.entrySet().iterator().next();
+			Object key = eldest.getKey();
+			Node node = eldest.getValue();
+			if (this.store.get(key) != node) {
+				// Removed concurrently
+				this.main.remove(key);
+			}
+			else if (node.referenced && !isExpired(node, now)) {
+				// Second chance: move to the tail, to be considered again after all others
+				node.referenced = false;
+				this.main.remove(key);
+				this.main.put(key, node);
+			}
+			else {
+				return eldest;
+			}
+		}
+		return null;
+	}
+
+	private void unlink(Object key, Node node) {
+		this.evictionLock.lock();
+		try {
+			this.window.remove(key, node);
+			this.main.remove(key, node);
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+
+	/**
+	 * Holder for a cached value, with its write time and whether it
+	 * has been read since it was last considered for eviction.
+	 */
+	private static final class Node {
+
+		volatile Object value;
+
+		volatile long writeTime;
+
+		volatile boolean referenced;
+
+		Node(Object value, long writeTime) {
+			this.value = value;
+			this.writeTime = writeTime;
+		}
+	}
+
+
+	/**
+	 * Count-min sketch approximating the access frequency of keys in 4-bit
+	 * saturating counters, packed eight to an int, with four counters per
+	 * maximum entry and row. All counters are halved once a sample of ten
+	 * times the maximum size has been recorded, so that past popularity fades
+	 * out. Updates are lock-free and may get lost under contention, which is
+	 * acceptable for an estimate.
+	 */
+	private static final class FrequencySketch {
+
+		private static final int[] SEEDS = {0x97cb3127, 0xb6c2b3a5, 0x8a9b7a49, 0xd46d79f5};
+
+		private static final int MAX_COUNT = 15;
+
+		private static final int MAX_SIZE = 1 << 16;
+
+		private final AtomicIntegerArray table;
+
+		private final int rowLength;
+
+		private final int sampleSize;
+
+		private final AtomicInteger additions = new AtomicInteger();
+
+		FrequencySketch(int maximumSize) {
+			int size = Math.max(2, Math.min(maximumSize, MAX_SIZE));
+			// Half the size rounded up to a power of two, times 8 counters per int
+			this.rowLength = Integer.highestOneBit(size - 1);
+			this.table = new AtomicIntegerArray(SEEDS.length * this.rowLength);
+			this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+		}
+
+		void increment(Object key) {
+			int hash = spread(key.hashCode());
+			boolean added = false;
+			for (int row = 0; row < SEEDS.length; row++) {
+				int counter = counterOf(hash, row);
+				int index = row * this.rowLength + (counter >>> 3);
+				int shift = (counter & 7) << 2;
+				int word = this.table.get(index);
+				if (((word >>> shift) & MAX_COUNT) < MAX_COUNT &&
+						this.table.compareAndSet(index, word, word + (1 << shift))) {
+					added = true;
+				}
+			}
+			if (added && this.additions.incrementAndGet() == this.sampleSize) {
+				reset();
+			}
+		}
+
+		int frequency(Object key) {
+			int hash = spread(key.hashCode());
+			int frequency = MAX_COUNT;
+			for (int row = 0; row < SEEDS.length; row++) {
+				int counter = counterOf(hash, row);
+				int word = this.table.get(row * this.rowLength + (counter >>> 3));
+				frequency = Math.min(frequency, (word >>> ((counter & 7) << 2)) & MAX_COUNT);
+			}
+			return frequency;
+		}
+
+		private void reset() {
+			this.additions.set(0);
+			for (int i = 0; i < this.table.length(); i++) {
+				this.table.set(i, (this.table.get(i) >>> 1) & 0x77777777);
+			}
+		}
+
+		private int counterOf(int hash, int row) {
+			int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+			h ^= (h >>> 16);
+			return h & ((this.rowLength << 3) - 1);
+		}
+
+		private static int spread(int hash) {
+			int h = hash * 0x85ebca6b;
+			return h ^ (h >>> 13);
+		}
+	}
+
+}
@@ -26,6 +26,7 @@ import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.ValueLoadCoordinator;
 import org.springframework.core.serializer.support.SerializationDelegate;
 import org.springframework.util.Assert;
 
@@ -38,8 +39,10 @@ import org.springframework.util.Assert;
  * dynamically through {@link ConcurrentMapCacheManager}.
  *
  * <p>Supports the  {@link #retrieve(Object)} and {@link #retrieve(Object, Supplier)}
- * operations in a best-effort fashion, relying on default {@link CompletableFuture}
- * execution (typically within the JVM's {@link ForkJoinPool#commonPool()}).
+ * operations in a best-effort fashion. Concurrent misses for the same key share
+ * a single invocation of the value loader, with the resulting future completing
+ * on the thread that completes the loader's future (rather than blocking a thread
+ * from the JVM's {@link ForkJoinPool#commonPool()} for the duration of the load).
  *
  * <p><b>Note:</b> As {@link ConcurrentHashMap} (the default implementation used)
  * does not allow for {@code null} values to be stored, this class will replace
@@ -60,6 +63,8 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 
 	private final @Nullable SerializationDelegate serialization;
 
+	private final ValueLoadCoordinator loads = new ValueLoadCoordinator();
+
 
 	/**
 	 * Create a new ConcurrentMapCache with the specified name.
@@ -164,8 +169,15 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
-		return CompletableFuture.supplyAsync(() ->
-				(T) fromStoreValue(this.store.computeIfAbsent(key, k -> toStoreValue(valueLoader.get().join()))));
+		Object value = lookup(key);
+		if (value != null) {
+			return CompletableFuture.completedFuture((T) fromStoreValue(value));
+		}
+		return this.loads.retrieve(key, this::lookup, valueLoader, result -> {
+			Object storeValue = toStoreValue(result);
+			Object existing = this.store.putIfAbsent(key, storeValue);
+			return (existing != null ? existing : storeValue);
+		}).thenApply(storeValue -> (T) fromStoreValue(storeValue));
 	}
 
 	@Override
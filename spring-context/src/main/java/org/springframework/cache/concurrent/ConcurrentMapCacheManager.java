@@ -16,10 +16,12 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
@@ -30,6 +32,7 @@ import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.util.Assert;
 
 /**
  * {@link CacheManager} implementation that lazily builds {@link ConcurrentMapCache}
@@ -41,9 +44,13 @@ import org.springframework.core.serializer.support.SerializationDelegate;
  * {@link Cache#retrieve(Object, Supplier)} operations through basic
  * {@code CompletableFuture} adaptation, with early-determined cache misses.
  *
- * <p>Note: This is by no means a sophisticated CacheManager; it comes with no
- * cache configuration options. However, it may be useful for testing or simple
- * caching scenarios. For advanced local caching needs, consider
+ * <p>Caches are unbounded by default. A {@link #setMaximumSize maximum size}
+ * and/or an {@link #setExpireAfterWrite expiration} can be configured, leading
+ * to the creation of {@link BoundedConcurrentCache} instances instead.
+ *
+ * <p>Note: This is by no means a sophisticated CacheManager; it comes with only
+ * basic cache configuration options. However, it may be useful for testing or
+ * simple caching scenarios. For advanced local caching needs, consider
  * {@link org.springframework.cache.caffeine.CaffeineCacheManager} or
  * {@link org.springframework.cache.jcache.JCacheCacheManager}.
  *
@@ -53,6 +60,9 @@ import org.springframework.core.serializer.support.SerializationDelegate;
  */
 public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderAware {
 
+	private static final String STORE_BY_VALUE_NOT_SUPPORTED =
+			"Store-by-value is not supported with a maximum size or expiration";
+
 	private final ConcurrentMap<String, Cache> cacheMap = new ConcurrentHashMap<>(16);
 
 	private volatile boolean dynamic = true;
@@ -63,6 +73,10 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 
 	private @Nullable SerializationDelegate serialization;
 
+	private int maximumSize;
+
+	private @Nullable Duration expireAfterWrite;
+
 
 	/**
 	 * Construct a dynamic ConcurrentMapCacheManager,
@@ -135,9 +149,13 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	 * contract is required on cached values.
 	 * <p>Note: A change of the store-by-value setting will reset all existing caches,
 	 * if any, to reconfigure them with the new store-by-value requirement.
+	 * <p>Store-by-value is not supported in combination with a
+	 * {@link #setMaximumSize maximum size} or an
+	 * {@link #setExpireAfterWrite expiration}.
 	 * @since 4.3
 	 */
 	public void setStoreByValue(boolean storeByValue) {
+		Assert.isTrue(!storeByValue || !isBounded(), STORE_BY_VALUE_NOT_SUPPORTED);
 		if (storeByValue != this.storeByValue) {
 			this.storeByValue = storeByValue;
 			// Need to recreate all Cache instances with the new store-by-value configuration...
@@ -155,6 +173,48 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		return this.storeByValue;
 	}
 
+	/**
+	 * Specify the maximum number of entries for each cache in this cache manager,
+	 * creating {@link BoundedConcurrentCache} instances.
+	 * <p>Default is none, for unbounded caches.
+	 * <p>Note: A change of the maximum size will reset all existing caches,
+	 * if any, to reconfigure them with the new maximum size.
+	 * @throws IllegalArgumentException if {@link #setStoreByValue store-by-value}
+	 * has been enabled
+	 * @since 7.1
+	 * @see BoundedConcurrentCache#getMaximumSize()
+	 */
+	public void setMaximumSize(int maximumSize) {
+		Assert.isTrue(maximumSize >= 0, "Maximum size must not be negative");
+		Assert.isTrue(maximumSize == 0 || !this.storeByValue, STORE_BY_VALUE_NOT_SUPPORTED);
+		if (maximumSize != this.maximumSize) {
+			this.maximumSize = maximumSize;
+			// Need to recreate all Cache instances with the new maximum size...
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Specify the duration after which an entry expires once it has been written,
+	 * for each cache in this cache manager, creating {@link BoundedConcurrentCache}
+	 * instances.
+	 * <p>Default is none, for entries to be kept until evicted.
+	 * <p>Note: A change of the expiration will reset all existing caches,
+	 * if any, to reconfigure them with the new expiration.
+	 * @throws IllegalArgumentException if {@link #setStoreByValue store-by-value}
+	 * has been enabled
+	 * @since 7.1
+	 * @see BoundedConcurrentCache#getExpireAfterWrite()
+	 */
+	public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+		Assert.isTrue(expireAfterWrite == null || !this.storeByValue, STORE_BY_VALUE_NOT_SUPPORTED);
+		if (!Objects.equals(expireAfterWrite, this.expireAfterWrite)) {
+			this.expireAfterWrite = expireAfterWrite;
+			// Need to recreate all Cache instances with the new expiration...
+			recreateCaches();
+		}
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.serialization = new SerializationDelegate(classLoader);
@@ -201,6 +261,10 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		this.cacheMap.remove(name);
 	}
 
+	private boolean isBounded() {
+		return (this.maximumSize > 0 || this.expireAfterWrite != null);
+	}
+
 	private void recreateCaches() {
 		for (Map.Entry<String, Cache> entry : this.cacheMap.entrySet()) {
 			entry.setValue(createConcurrentMapCache(entry.getKey()));
@@ -208,11 +272,17 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	}
 
 	/**
-	 * Create a new ConcurrentMapCache instance for the specified cache name.
+	 * Create a new ConcurrentMapCache instance for the specified cache name,
+	 * or a {@link BoundedConcurrentCache} if a maximum size or an expiration
+	 * has been configured.
 	 * @param name the name of the cache
 	 * @return the ConcurrentMapCache (or a decorator thereof)
 	 */
 	protected Cache createConcurrentMapCache(String name) {
+		if (isBounded()) {
+			return new BoundedConcurrentCache(name, (this.maximumSize > 0 ? this.maximumSize : Integer.MAX_VALUE),
+					this.expireAfterWrite, isAllowNullValues());
+		}
 		SerializationDelegate actualSerialization = (isStoreByValue() ? this.serialization : null);
 		return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256), isAllowNullValues(), actualSerialization);
 	}
@@ -16,6 +16,9 @@
 
 package org.springframework.cache.interceptor;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -83,6 +86,26 @@ public abstract class AbstractCacheInvoker {
 		}
 	}
 
+	/**
+	 * Execute {@link Cache#getAll(Collection)} on the specified {@link Cache}
+	 * and invoke the error handler for each key if an exception occurs. Return
+	 * an empty map if the handler does not throw any exception, which simulates
+	 * a cache miss for all keys in case of error.
+	 * @since 7.1
+	 * @see Cache#getAll(Collection)
+	 */
+	protected Map<Object, Cache.ValueWrapper> doGetAll(Cache cache, Collection<?> keys) {
+		try {
+			return cache.getAll(keys);
+		}
+		catch (RuntimeException ex) {
+			for (Object key : keys) {
+				getErrorHandler().handleCacheGetError(ex, cache, key);
+			}
+			return Collections.emptyMap();  // If the exception is handled, return a cache miss
+		}
+	}
+
 	/**
 	 * Execute {@link Cache#get(Object, Callable)} on the specified
 	 * {@link Cache} and invoke the error handler if an exception occurs.
@@ -159,6 +182,23 @@ public abstract class AbstractCacheInvoker {
 		}
 	}
 
+	/**
+	 * Execute {@link Cache#putAll(Map)} on the specified {@link Cache}
+	 * and invoke the error handler for each entry if an exception occurs.
+	 * @since 7.1
+	 * @see Cache#putAll(Map)
+	 */
+	protected void doPutAll(Cache cache, Map<?, ?> entries) {
+		try {
+			cache.putAll(entries);
+		}
+		catch (RuntimeException ex) {
+			for (Map.Entry<?, ?> entry : entries.entrySet()) {
+				getErrorHandler().handleCachePutError(ex, cache, entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
 	/**
 	 * Execute {@link Cache#evict(Object)}/{@link Cache#evictIfPresent(Object)} on the
 	 * specified {@link Cache} and invoke the error handler if an exception occurs.
@@ -21,10 +21,13 @@ import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -49,9 +52,11 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.RefreshableValueLoader;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.CollectionFactory;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
@@ -429,6 +434,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			// Special handling of synchronized invocation
 			return executeSynchronized(invoker, method, contexts);
 		}
+		if (contexts.isBulk()) {
+			// Special handling of bulk invocation
+			return executeBulk(invoker, method, contexts);
+		}
 
 		// Process any early evictions
 		processCacheEvicts(contexts.get(CacheEvictOperation.class), true,
@@ -451,16 +460,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
 				AtomicBoolean invokeFailure = new AtomicBoolean(false);
 				CompletableFuture<?> result = doRetrieve(cache, key,
-						() -> {
-							CompletableFuture<?> invokeResult = ((CompletableFuture<?>) invokeOperation(invoker));
-							if (invokeResult == null) {
-								throw new IllegalStateException("Returned CompletableFuture must not be null: " + method);
-							}
-							return invokeResult.exceptionallyCompose(ex -> {
-								invokeFailure.set(true);
-								return CompletableFuture.failedFuture(ex);
-							});
-						});
+						new AsyncInvokerValueLoader(invoker, method, invokeFailure));
 				return result.exceptionallyCompose(ex -> {
 					if (!(ex instanceof RuntimeException rex)) {
 						return CompletableFuture.failedFuture(ex);
@@ -484,7 +484,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				}
 			}
 			try {
-				return wrapCacheValue(method, doGet(cache, key, () -> unwrapReturnValue(invokeOperation(invoker))));
+				return wrapCacheValue(method, doGet(cache, key, new InvokerValueLoader(invoker)));
 			}
 			catch (Cache.ValueRetrievalException ex) {
 				// Directly propagate ThrowableWrapper from the invoker,
@@ -500,6 +500,152 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 	}
 
+	private @Nullable Object executeBulk(CacheOperationInvoker invoker, Method method, CacheOperationContexts contexts) {
+		CacheOperationContext context = contexts.get(CacheableOperation.class).iterator().next();
+		int argumentIndex = contexts.getBulkArgumentIndex();
+		@Nullable Object[] args = context.getArgs();
+		if (!(args[argumentIndex] instanceof Collection<?> elements) || elements.isEmpty() ||
+				!isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT)) {
+			// No caching required, just call the underlying method
+			return invokeOperation(invoker);
+		}
+
+		// Look up the keys of all distinct elements in one batch per cache
+		Map<@Nullable Object, Object> keys = CollectionUtils.newLinkedHashMap(elements.size());
+		for (Object element : elements) {
+			if (!keys.containsKey(element)) {
+				keys.put(element, generateElementKey(context, argumentIndex, element));
+			}
+		}
+		Map<Object, Cache.ValueWrapper> hits = new HashMap<>();
+		Collection<Object> remainingKeys = new LinkedHashSet<>(keys.values());
+		for (Cache cache : context.getCaches()) {
+			Map<Object, Cache.ValueWrapper> cached = doGetAll(cache, remainingKeys);
+			hits.putAll(cached);
+			remainingKeys.removeAll(cached.keySet());
+			if (remainingKeys.isEmpty()) {
+				break;
+			}
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace(hits.size() + " of " + keys.size() + " cache entries found in cache(s) " +
+					context.getCacheNames());
+		}
+		if (remainingKeys.isEmpty()) {
+			return mergeBulkResult(method, elements, keys, hits, Collections.emptyMap());
+		}
+
+		// Invoke the method for the missing elements only, if the invocation can be repeated
+		List<@Nullable Object> missing = new ArrayList<>(keys.size() - hits.size());
+		keys.forEach((element, key) -> {
+			if (!hits.containsKey(key)) {
+				missing.add(element);
+			}
+		});
+		CacheOperationInvoker partialInvoker = null;
+		if (!hits.isEmpty()) {
+			Collection<@Nullable Object> partialElements = CollectionFactory.createCollection(
+					context.getMethod().getParameterTypes()[argumentIndex], missing.size());
+			partialElements.addAll(missing);
+			@Nullable Object[] partialArgs = args.clone();
+			partialArgs[argumentIndex] = partialElements;
+			partialInvoker = invoker.invocableClone(partialArgs);
+		}
+		Object returnValue = invokeOperation(partialInvoker != null ? partialInvoker : invoker);
+		Map<@Nullable Object, @Nullable Object> loaded = matchBulkResult(
+				method, (partialInvoker != null ? missing : new ArrayList<>(elements)), returnValue);
+
+		// Store the loaded values in one batch per cache
+		Map<Object, @Nullable Object> entries = CollectionUtils.newLinkedHashMap(loaded.size());
+		loaded.forEach((element, value) -> {
+			Object key = keys.get(element);
+			if (key != null && !hits.containsKey(key) && context.canPutToCache(value)) {
+				entries.put(key, value);
+			}
+		});
+		if (!entries.isEmpty()) {
+			if (logger.isTraceEnabled()) {
+				logger.trace("Creating " + entries.size() + " cache entries in cache(s) " + context.getCacheNames());
+			}
+			for (Cache cache : context.getCaches()) {
+				doPutAll(cache, entries);
+			}
+		}
+		return (partialInvoker != null ? mergeBulkResult(method, elements, keys, hits, loaded) : returnValue);
+	}
+
+	private Object generateElementKey(CacheOperationContext context, int argumentIndex, @Nullable Object element) {
+		Object key = context.generateElementKey(argumentIndex, element);
+		if (key == null) {
+			throw new IllegalArgumentException("""
+					Null key returned for element [%s] of cache operation [%s]. If you are using named \
+					parameters, ensure that the compiler uses the '-parameters' flag."""
+					.formatted(element, context.metadata.operation));
+		}
+		return key;
+	}
+
+	/**
+	 * Match the result of a bulk invocation with the requested elements:
+	 * by key for a {@code Map} result, by position for any other result.
+	 */
+	private Map<@Nullable Object, @Nullable Object> matchBulkResult(
+			Method method, List<?> requested, @Nullable Object result) {
+
+		if (result == null) {
+			return Collections.emptyMap();
+		}
+		Map<@Nullable Object, @Nullable Object> matched = CollectionUtils.newLinkedHashMap(requested.size());
+		if (result instanceof Map<?, ?> map) {
+			for (Object element : requested) {
+				if (map.containsKey(element)) {
+					matched.put(element, map.get(element));
+				}
+			}
+		}
+		else {
+			List<Object> values = new ArrayList<>(requested.size());
+			((Iterable<?>) result).forEach(values::add);
+			if (values.size() != requested.size()) {
+				throw new IllegalStateException("Bulk cache operation on '" + method + "' returned " +
+						values.size() + " values for " + requested.size() + " requested elements");
+			}
+			for (int i = 0; i < values.size(); i++) {
+				matched.put(requested.get(i), values.get(i));
+			}
+		}
+		return matched;
+	}
+
+	/**
+	 * Merge cached and loaded values into the return type of a bulk operation,
+	 * in the order of the requested elements.
+	 */
+	private Object mergeBulkResult(Method method, Collection<?> elements, Map<@Nullable Object, Object> keys,
+			Map<Object, Cache.ValueWrapper> hits, Map<@Nullable Object, @Nullable Object> loaded) {
+
+		Class<?> returnType = method.getReturnType();
+		if (Map.class.isAssignableFrom(returnType)) {
+			Map<@Nullable Object, @Nullable Object> merged = CollectionFactory.createMap(returnType, keys.size());
+			keys.forEach((element, key) -> {
+				Cache.ValueWrapper hit = hits.get(key);
+				if (hit != null) {
+					merged.put(element, hit.get());
+				}
+				else if (loaded.containsKey(element)) {
+					merged.put(element, loaded.get(element));
+				}
+			});
+			return merged;
+		}
+		List<@Nullable Object> merged = new ArrayList<>(elements.size());
+		for (Object element : elements) {
+			Cache.ValueWrapper hit = hits.get(keys.get(element));
+			merged.add(hit != null ? hit.get() : loaded.get(element));
+		}
+		return merged;
+	}
+
 	/**
 	 * Find a cached value only for {@link CacheableOperation} that passes the condition.
 	 * @param contexts the cacheable operations
@@ -590,20 +736,23 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			cacheValue = unwrapReturnValue(returnValue);
 		}
 
-		// Collect puts from any @Cacheable miss, if no cached value is found
-		List<CachePutRequest> cachePutRequests = new ArrayList<>(1);
-		if (cacheHit == null) {
-			collectPutRequests(contexts.get(CacheableOperation.class), cacheValue, cachePutRequests);
-		}
+		Collection<CacheOperationContext> cachePutContexts = contexts.get(CachePutOperation.class);
+		if (cacheHit == null || !cachePutContexts.isEmpty()) {
+			// Collect puts from any @Cacheable miss, if no cached value is found
+			List<CachePutRequest> cachePutRequests = new ArrayList<>(1);
+			if (cacheHit == null) {
+				collectPutRequests(contexts.get(CacheableOperation.class), cacheValue, cachePutRequests);
+			}
 
-		// Collect any explicit @CachePuts
-		collectPutRequests(contexts.get(CachePutOperation.class), cacheValue, cachePutRequests);
+			// Collect any explicit @CachePuts
+			collectPutRequests(cachePutContexts, cacheValue, cachePutRequests);
 
-		// Process any collected put requests, either from @CachePut or a @Cacheable miss
-		for (CachePutRequest cachePutRequest : cachePutRequests) {
-			Object returnOverride = cachePutRequest.apply(cacheValue);
-			if (returnOverride != null) {
-				returnValue = returnOverride;
+			// Process any collected put requests, either from @CachePut or a @Cacheable miss
+			for (CachePutRequest cachePutRequest : cachePutRequests) {
+				Object returnOverride = cachePutRequest.apply(cacheValue);
+				if (returnOverride != null) {
+					returnValue = returnOverride;
+				}
 			}
 		}
 
@@ -639,11 +788,14 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	private boolean hasCachePut(CacheOperationContexts contexts) {
 		// Evaluate the conditions *without* the result object because we don't have it yet...
 		Collection<CacheOperationContext> cachePutContexts = contexts.get(CachePutOperation.class);
-		Collection<CacheOperationContext> excluded = new ArrayList<>(1);
+		if (cachePutContexts.isEmpty()) {
+			return false;
+		}
+		int excluded = 0;
 		for (CacheOperationContext context : cachePutContexts) {
 			try {
 				if (!context.isConditionPassing(CacheOperationExpressionEvaluator.RESULT_UNAVAILABLE)) {
-					excluded.add(context);
+					excluded++;
 				}
 			}
 			catch (VariableNotAvailableException ex) {
@@ -651,7 +803,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			}
 		}
 		// Check if all puts have been excluded by condition
-		return (cachePutContexts.size() != excluded.size());
+		return (cachePutContexts.size() != excluded);
 	}
 
 	private @Nullable Object processCacheEvicts(Collection<CacheOperationContext> contexts, boolean beforeInvocation,
@@ -754,21 +906,107 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	}
 
 
+	/**
+	 * Value loader for a synchronized cache operation, able to provide
+	 * a loader for reloading the value if the invoker can be cloned.
+	 * @see org.springframework.cache.support.RefreshAheadCacheDecorator
+	 */
+	private class InvokerValueLoader implements Callable<@Nullable Object>,
+			RefreshableValueLoader<Callable<@Nullable Object>> {
+
+		private final CacheOperationInvoker invoker;
+
+		InvokerValueLoader(CacheOperationInvoker invoker) {
+			this.invoker = invoker;
+		}
+
+		@Override
+		public @Nullable Object call() {
+			return unwrapReturnValue(invokeOperation(this.invoker));
+		}
+
+		@Override
+		public @Nullable Callable<@Nullable Object> createRefreshLoader() {
+			CacheOperationInvoker clone = this.invoker.invocableClone();
+			return (clone != null ? new InvokerValueLoader(clone) : null);
+		}
+	}
+
+
+	/**
+	 * Value loader for a synchronized cache operation on a method returning
+	 * a {@link CompletableFuture}, able to provide a loader for reloading
+	 * the value if the invoker can be cloned.
+	 * @see org.springframework.cache.support.RefreshAheadCacheDecorator
+	 */
+	private class AsyncInvokerValueLoader implements Supplier<CompletableFuture<Object>>,
+			RefreshableValueLoader<Supplier<CompletableFuture<Object>>> {
+
+		private final CacheOperationInvoker invoker;
+
+		private final Method method;
+
+		private final @Nullable AtomicBoolean invokeFailure;
+
+		AsyncInvokerValueLoader(CacheOperationInvoker invoker, Method method, @Nullable AtomicBoolean invokeFailure) {
+			this.invoker = invoker;
+			this.method = method;
+			this.invokeFailure = invokeFailure;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public CompletableFuture<Object> get() {
+			CompletableFuture<Object> invokeResult = ((CompletableFuture<Object>) invokeOperation(this.invoker));
+			if (invokeResult == null) {
+				throw new IllegalStateException("Returned CompletableFuture must not be null: " + this.method);
+			}
+			AtomicBoolean invokeFailure = this.invokeFailure;
+			if (invokeFailure == null) {
+				return invokeResult;
+			}
+			return invokeResult.exceptionallyCompose(ex -> {
+				invokeFailure.set(true);
+				return CompletableFuture.failedFuture(ex);
+			});
+		}
+
+		@Override
+		public @Nullable Supplier<CompletableFuture<Object>> createRefreshLoader() {
+			CacheOperationInvoker clone = this.invoker.invocableClone();
+			return (clone != null ? new AsyncInvokerValueLoader(clone, this.method, null) : null);
+		}
+	}
+
+
 	private class CacheOperationContexts {
 
-		private final MultiValueMap<Class<? extends CacheOperation>, CacheOperationContext> contexts;
+		private final Map<Class<? extends CacheOperation>, List<CacheOperationContext>> contexts;
 
 		private final boolean sync;
 
+		private final int bulkArgumentIndex;
+
 		boolean processed;
 
 		public CacheOperationContexts(Collection<? extends CacheOperation> operations, Method method,
 				@Nullable Object[] args, Object target, Class<?> targetClass) {
 
-			this.contexts = new LinkedMultiValueMap<>(operations.size());
-			for (CacheOperation op : operations) {
-				this.contexts.add(op.getClass(), getOperationContext(op, method, args, target, targetClass));
+			if (operations.size() == 1) {
+				// Common case of a single operation: avoid a full MultiValueMap
+				CacheOperation op = operations.iterator().next();
+				this.contexts = Collections.singletonMap(op.getClass(),
+						Collections.singletonList(getOperationContext(op, method, args, target, targetClass)));
 			}
+			else {
+				MultiValueMap<Class<? extends CacheOperation>, CacheOperationContext> contexts =
+						new LinkedMultiValueMap<>(operations.size());
+				for (CacheOperation op : operations) {
+					contexts.add(op.getClass(), getOperationContext(op, method, args, target, targetClass));
+				}
+				this.contexts = contexts;
+			}
+			this.bulkArgumentIndex = determineBulkArgumentIndex(method);
 			this.sync = determineSyncFlag(method);
 		}
 
@@ -781,6 +1019,32 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return this.sync;
 		}
 
+		public boolean isBulk() {
+			return (this.bulkArgumentIndex >= 0);
+		}
+
+		public int getBulkArgumentIndex() {
+			return this.bulkArgumentIndex;
+		}
+
+		private int determineBulkArgumentIndex(Method method) {
+			List<CacheOperationContext> cacheableContexts = this.contexts.get(CacheableOperation.class);
+			if (cacheableContexts == null) {  // no @Cacheable operation at all
+				return -1;
+			}
+			for (CacheOperationContext context : cacheableContexts) {
+				int argumentIndex = context.metadata.bulkArgumentIndex;
+				if (argumentIndex >= 0) {
+					if (this.contexts.size() > 1 || cacheableContexts.size() > 1) {
+						throw new IllegalStateException(
+								"A bulk=true operation cannot be combined with other cache operations on '" + method + "'");
+					}
+					return argumentIndex;
+				}
+			}
+			return -1;
+		}
+
 		private boolean determineSyncFlag(Method method) {
 			List<CacheOperationContext> cacheableContexts = this.contexts.get(CacheableOperation.class);
 			if (cacheableContexts == null) {  // no @Cacheable operation at all
@@ -839,6 +1103,16 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		private final CacheResolver cacheResolver;
 
+		private final boolean hasKeyExpression;
+
+		private final boolean hasCondition;
+
+		private final @Nullable String unless;
+
+		private final boolean varArgs;
+
+		private final int bulkArgumentIndex;
+
 		public CacheOperationMetadata(CacheOperation operation, Method method, Class<?> targetClass,
 				KeyGenerator keyGenerator, CacheResolver cacheResolver) {
 
@@ -850,6 +1124,59 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			this.methodKey = new AnnotatedElementKey(this.targetMethod, targetClass);
 			this.keyGenerator = keyGenerator;
 			this.cacheResolver = cacheResolver;
+			this.hasKeyExpression = StringUtils.hasText(operation.getKey());
+			this.hasCondition = StringUtils.hasText(operation.getCondition());
+			this.unless = determineUnless(operation);
+			this.varArgs = this.method.isVarArgs();
+			this.bulkArgumentIndex = determineBulkArgumentIndex(operation, this.method);
+		}
+
+		private static @Nullable String determineUnless(CacheOperation operation) {
+			String unless = null;
+			if (operation instanceof CacheableOperation cacheableOperation) {
+				unless = cacheableOperation.getUnless();
+			}
+			else if (operation instanceof CachePutOperation cachePutOperation) {
+				unless = cachePutOperation.getUnless();
+			}
+			return (StringUtils.hasText(unless) ? unless : null);
+		}
+
+		/**
+		 * Determine the index of the {@code Collection} parameter for a
+		 * {@code bulk=true} operation, validating the method signature.
+		 * @return the parameter index, or {@code -1} if not a bulk operation
+		 */
+		private static int determineBulkArgumentIndex(CacheOperation operation, Method method) {
+			if (!(operation instanceof CacheableOperation cacheable && cacheable.isBulk())) {
+				return -1;
+			}
+			if (cacheable.isSync()) {
+				throw new IllegalStateException(
+						"A bulk=true operation does not support the sync attribute on '" + operation + "'");
+			}
+			Class<?> returnType = method.getReturnType();
+			if (!Map.class.isAssignableFrom(returnType) &&
+					!(Iterable.class.isAssignableFrom(returnType) && returnType.isAssignableFrom(ArrayList.class))) {
+				throw new IllegalStateException(
+						"A bulk=true operation requires a Map or List return type on '" + method + "'");
+			}
+			int argumentIndex = -1;
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			for (int i = 0; i < parameterTypes.length; i++) {
+				if (Collection.class.isAssignableFrom(parameterTypes[i])) {
+					if (argumentIndex >= 0) {
+						argumentIndex = -1;
+						break;
+					}
+					argumentIndex = i;
+				}
+			}
+			if (argumentIndex < 0 || method.isVarArgs()) {
+				throw new IllegalStateException(
+						"A bulk=true operation requires exactly one Collection parameter on '" + method + "'");
+			}
+			return argumentIndex;
 		}
 	}
 
@@ -867,7 +1194,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		private final Collection<? extends Cache> caches;
 
-		private final Collection<String> cacheNames;
+		private @Nullable Collection<String> cacheNames;
 
 		private @Nullable Boolean conditionPassing;
 
@@ -875,10 +1202,9 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		public CacheOperationContext(CacheOperationMetadata metadata, @Nullable Object[] args, Object target) {
 			this.metadata = metadata;
-			this.args = extractArgs(metadata.method, args);
+			this.args = (metadata.varArgs ? extractArgs(metadata.method, args) : args);
 			this.target = target;
 			this.caches = CacheAspectSupport.this.getCaches(this, metadata.cacheResolver);
-			this.cacheNames = prepareCacheNames(this.caches);
 		}
 
 		@Override
@@ -914,7 +1240,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		protected boolean isConditionPassing(@Nullable Object result) {
 			if (this.conditionPassing == null) {
-				if (StringUtils.hasText(this.metadata.operation.getCondition())) {
+				if (this.metadata.hasCondition) {
 					EvaluationContext evaluationContext = createEvaluationContext(result);
 					this.conditionPassing = evaluator.condition(this.metadata.operation.getCondition(),
 							this.metadata.methodKey, evaluationContext);
@@ -927,14 +1253,8 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 
 		protected boolean canPutToCache(@Nullable Object value) {
-			String unless = "";
-			if (this.metadata.operation instanceof CacheableOperation cacheableOperation) {
-				unless = cacheableOperation.getUnless();
-			}
-			else if (this.metadata.operation instanceof CachePutOperation cachePutOperation) {
-				unless = cachePutOperation.getUnless();
-			}
-			if (StringUtils.hasText(unless)) {
+			String unless = this.metadata.unless;
+			if (unless != null) {
 				EvaluationContext evaluationContext = createEvaluationContext(value);
 				return !evaluator.unless(unless, this.metadata.methodKey, evaluationContext);
 			}
@@ -945,7 +1265,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		 * Compute the key for the given caching operation.
 		 */
 		protected @Nullable Object generateKey(@Nullable Object result) {
-			if (StringUtils.hasText(this.metadata.operation.getKey())) {
+			if (this.metadata.hasKeyExpression) {
 				EvaluationContext evaluationContext = createEvaluationContext(result);
 				this.key = evaluator.key(this.metadata.operation.getKey(), this.metadata.methodKey, evaluationContext);
 			}
@@ -955,6 +1275,22 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return this.key;
 		}
 
+		/**
+		 * Compute the key for the given element of a bulk operation, as if the
+		 * method was invoked with that element in place of the collection argument.
+		 */
+		private @Nullable Object generateElementKey(int argumentIndex, @Nullable Object element) {
+			@Nullable Object[] args = this.args.clone();
+			args[argumentIndex] = element;
+			if (this.metadata.hasKeyExpression) {
+				EvaluationContext evaluationContext = evaluator.createEvaluationContext(this.caches,
+						this.metadata.method, args, this.target, this.metadata.targetClass,
+						this.metadata.targetMethod, CacheOperationExpressionEvaluator.NO_RESULT);
+				return evaluator.key(this.metadata.operation.getKey(), this.metadata.methodKey, evaluationContext);
+			}
+			return this.metadata.keyGenerator.generate(this.target, this.metadata.method, args);
+		}
+
 		/**
 		 * Get generated key.
 		 * @return generated key
@@ -974,7 +1310,13 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 
 		protected Collection<String> getCacheNames() {
-			return this.cacheNames;
+			Collection<String> cacheNames = this.cacheNames;
+			if (cacheNames == null) {
+				// Only needed for logging: prepared lazily
+				cacheNames = prepareCacheNames(this.caches);
+				this.cacheNames = cacheNames;
+			}
+			return cacheNames;
 		}
 
 		private Collection<String> prepareCacheNames(Collection<? extends Cache> caches) {
@@ -23,6 +23,7 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.aop.ProxyMethodInvocation;
 import org.springframework.util.Assert;
 
 /**
@@ -49,14 +50,7 @@ public class CacheInterceptor extends CacheAspectSupport implements MethodInterc
 	public @Nullable Object invoke(final MethodInvocation invocation) throws Throwable {
 		Method method = invocation.getMethod();
 
-		CacheOperationInvoker aopAllianceInvoker = () -> {
-			try {
-				return invocation.proceed();
-			}
-			catch (Throwable ex) {
-				throw new CacheOperationInvoker.ThrowableWrapper(ex);
-			}
-		};
+		CacheOperationInvoker aopAllianceInvoker = new MethodInvocationInvoker(invocation);
 
 		Object target = invocation.getThis();
 		Assert.state(target != null, "Target must not be null");
@@ -68,4 +62,41 @@ public class CacheInterceptor extends CacheAspectSupport implements MethodInterc
 		}
 	}
 
+
+	/**
+	 * Invoker for an AOP Alliance {@link MethodInvocation}, able to clone
+	 * a {@link ProxyMethodInvocation} for invoking the method again,
+	 * possibly with different arguments.
+	 */
+	private static class MethodInvocationInvoker implements CacheOperationInvoker {
+
+		private final MethodInvocation invocation;
+
+		MethodInvocationInvoker(MethodInvocation invocation) {
+			this.invocation = invocation;
+		}
+
+		@Override
+		public @Nullable Object invoke() {
+			try {
+				return this.invocation.proceed();
+			}
+			catch (Throwable ex) {
+				throw new ThrowableWrapper(ex);
+			}
+		}
+
+		@Override
+		public @Nullable CacheOperationInvoker invocableClone() {
+			return (this.invocation instanceof ProxyMethodInvocation pmi ?
+					new MethodInvocationInvoker(pmi.invocableClone()) : null);
+		}
+
+		@Override
+		public @Nullable CacheOperationInvoker invocableClone(@Nullable Object... arguments) {
+			return (this.invocation instanceof ProxyMethodInvocation pmi ?
+					new MethodInvocationInvoker(pmi.invocableClone(arguments)) : null);
+		}
+	}
+
 }
@@ -40,6 +40,36 @@ public interface CacheOperationInvoker {
 	 */
 	@Nullable Object invoke() throws ThrowableWrapper;
 
+	/**
+	 * Create an independent invoker for invoking the same operation again,
+	 * for example for reloading a cached value in the background.
+	 * <p>Must be called before this invoker itself has been invoked.
+	 * The default implementation returns {@code null}, indicating that
+	 * the operation cannot be invoked again.
+	 * @return the new invoker, or {@code null} if not supported
+	 * @since 7.1
+	 * @see org.springframework.aop.ProxyMethodInvocation#invocableClone()
+	 */
+	default @Nullable CacheOperationInvoker invocableClone() {
+		return null;
+	}
+
+	/**
+	 * Create an independent invoker for invoking the same operation with
+	 * the given arguments, for example for loading only those elements of
+	 * a bulk request that have not been found in the cache.
+	 * <p>Must be called before this invoker itself has been invoked.
+	 * The default implementation returns {@code null}, indicating that
+	 * the operation cannot be invoked with different arguments.
+	 * @param arguments the arguments to use instead of the original ones
+	 * @return the new invoker, or {@code null} if not supported
+	 * @since 7.1
+	 * @see org.springframework.aop.ProxyMethodInvocation#invocableClone(Object...)
+	 */
+	default @Nullable CacheOperationInvoker invocableClone(@Nullable Object... arguments) {
+		return null;
+	}
+
 
 	/**
 	 * Wrap any exception thrown while invoking {@link #invoke()}.
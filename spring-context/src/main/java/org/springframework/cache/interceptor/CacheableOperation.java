@@ -32,6 +32,8 @@ public class CacheableOperation extends CacheOperation {
 
 	private final boolean sync;
 
+	private final boolean bulk;
+
 
 	/**
 	 * Create a new {@link CacheableOperation} instance from the given builder.
@@ -41,6 +43,7 @@ public class CacheableOperation extends CacheOperation {
 		super(b);
 		this.unless = b.unless;
 		this.sync = b.sync;
+		this.bulk = b.bulk;
 	}
 
 
@@ -52,6 +55,14 @@ public class CacheableOperation extends CacheOperation {
 		return this.sync;
 	}
 
+	/**
+	 * Return whether the elements of a collection argument are cached individually.
+	 * @since 7.1
+	 */
+	public boolean isBulk() {
+		return this.bulk;
+	}
+
 
 	/**
 	 * A builder that can be used to create a {@link CacheableOperation}.
@@ -63,6 +74,8 @@ public class CacheableOperation extends CacheOperation {
 
 		private boolean sync;
 
+		private boolean bulk;
+
 		public void setUnless(String unless) {
 			this.unless = unless;
 		}
@@ -71,6 +84,14 @@ public class CacheableOperation extends CacheOperation {
 			this.sync = sync;
 		}
 
+		/**
+		 * Set whether the elements of a collection argument are cached individually.
+		 * @since 7.1
+		 */
+		public void setBulk(boolean bulk) {
+			this.bulk = bulk;
+		}
+
 		@Override
 		protected StringBuilder getOperationDescription() {
 			StringBuilder sb = super.getOperationDescription();
@@ -80,6 +101,9 @@ public class CacheableOperation extends CacheOperation {
 			sb.append(" | sync='");
 			sb.append(this.sync);
 			sb.append('\'');
+			sb.append(" | bulk='");
+			sb.append(this.bulk);
+			sb.append('\'');
 			return sb;
 		}
 
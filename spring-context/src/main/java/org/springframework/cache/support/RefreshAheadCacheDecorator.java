@@ -0,0 +1,328 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.Cache;
+import org.springframework.util.Assert;
+
+/**
+ * Cache decorator which refreshes entries ahead of their expiration: when an
+ * entry older than the specified refresh interval is obtained through one of
+ * the value-loading operations, the stale value is returned immediately while
+ * a single reload for that key is performed in the background on the given
+ * {@link Executor}. Callers therefore do not observe the latency of a reload
+ * as long as entries are read again before the target cache expires them.
+ *
+ * <p>Refreshing applies to {@link #get(Object, Callable)} and
+ * {@link #retrieve(Object, Supplier)} since these receive the value loader,
+ * as is the case for {@code @Cacheable(sync = true)} methods. A background
+ * reload requires a {@link RefreshableValueLoader} which provides a separate
+ * loader for that purpose: {@code @Cacheable} methods on AOP proxies get
+ * reloaded through an invocable clone of their method invocation, going
+ * through all remaining interceptors (e.g. for transactions) on the executor
+ * thread, without any context bound to the original caller's thread. Any
+ * other value loader is bound to its caller and cannot be invoked in the
+ * background: a stale entry is returned as-is then, without any reload,
+ * until the target cache expires it and the next access loads it as for
+ * a cache miss.
+ *
+ * <p>Values are stored in the target cache as private wrapper objects which
+ * hold the value along with its creation timestamp, transparently unwrapped
+ * by all read operations of this decorator. The target cache should therefore
+ * only be accessed through this decorator: its {@linkplain #getNativeCache()
+ * native cache} exposes the wrappers, a store-by-value cache serializes them
+ * (along with the value), and any entry written to the target cache directly
+ * is returned as-is and never refreshed. The same applies to {@code null}
+ * values, which are stored without a wrapper.
+ *
+ * <p>Typically applied to all caches of a {@link org.springframework.cache.CacheManager}
+ * through {@link AbstractCacheManager#decorateCache}, with the refresh interval
+ * chosen as a fraction of the expiration configured in the cache provider.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ */
+public class RefreshAheadCacheDecorator implements Cache {
+
+	private static final Log logger = LogFactory.getLog(RefreshAheadCacheDecorator.class);
+
+	private final Cache targetCache;
+
+	private final long refreshAfterMillis;
+
+	private final Executor executor;
+
+	private final Set<Object> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+	private Clock clock = Clock.systemUTC();
+
+
+	/**
+	 * Create a new RefreshAheadCacheDecorator for the given target Cache.
+	 * @param targetCache the target Cache to decorate
+	 * @param refreshAfter the age after which an entry gets reloaded
+	 * in the background on access
+	 * @param executor the executor to perform background reloads on
+	 */
+	public RefreshAheadCacheDecorator(Cache targetCache, Duration refreshAfter, Executor executor) {
+		Assert.notNull(targetCache, "Target Cache must not be null");
+		Assert.notNull(refreshAfter, "Refresh interval must not be null");
+		Assert.isTrue(!refreshAfter.isNegative() && !refreshAfter.isZero(), "Refresh interval must be positive");
+		Assert.notNull(executor, "Executor must not be null");
+		this.targetCache = targetCache;
+		this.refreshAfterMillis = refreshAfter.toMillis();
+		this.executor = executor;
+	}
+
+
+	/**
+	 * Set the clock to determine the age of entries with.
+	 * <p>The default is {@link Clock#systemUTC()}.
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Return the target Cache that this Cache should delegate to.
+	 */
+	public Cache getTargetCache() {
+		return this.targetCache;
+	}
+
+	@Override
+	public String getName() {
+		return this.targetCache.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return this.targetCache.getNativeCache();
+	}
+
+	@Override
+	public @Nullable ValueWrapper get(Object key) {
+		ValueWrapper wrapper = this.targetCache.get(key);
+		if (wrapper != null && wrapper.get() instanceof TimestampedValue timestamped) {
+			return new SimpleValueWrapper(timestamped.value);
+		}
+		return wrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = (wrapper != null ? wrapper.get() : null);
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+					"Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+		Object cached = this.targetCache.get(key, () -> timestamped(valueLoader.call()));
+		if (cached instanceof TimestampedValue timestamped) {
+			// A value loader bound to the caller cannot be used for a background reload
+			if (isStale(timestamped) && valueLoader instanceof RefreshableValueLoader<?> refreshable &&
+					refreshable.createRefreshLoader() instanceof Callable<?> refreshLoader) {
+				refresh(key, refreshLoader);
+			}
+			return (T) timestamped.value;
+		}
+		return (T) cached;
+	}
+
+	@Override
+	public @Nullable CompletableFuture<?> retrieve(Object key) {
+		CompletableFuture<?> result = this.targetCache.retrieve(key);
+		return (result != null ? result.thenApply(value -> {
+			if (value instanceof ValueWrapper wrapper && wrapper.get() instanceof TimestampedValue timestamped) {
+				return new SimpleValueWrapper(timestamped.value);
+			}
+			return (value instanceof TimestampedValue timestamped ? timestamped.value : value);
+		}) : null);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		CompletableFuture<Object> result = this.targetCache.retrieve(key,
+				() -> valueLoader.get().thenApply(this::timestamped));
+		return result.thenApply(cached -> {
+			if (cached instanceof TimestampedValue timestamped) {
+				// A value loader bound to the caller cannot be used for a background reload
+				if (isStale(timestamped) && valueLoader instanceof RefreshableValueLoader<?> refreshable &&
+						refreshable.createRefreshLoader() instanceof Supplier<?> refreshLoader) {
+					refreshAsync(key, (Supplier<? extends CompletableFuture<?>>) refreshLoader);
+				}
+				return (T) timestamped.value;
+			}
+			return (T) cached;
+		});
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		this.targetCache.put(key, timestamped(value));
+	}
+
+	@Override
+	public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		ValueWrapper existing = this.targetCache.putIfAbsent(key, timestamped(value));
+		if (existing != null && existing.get() instanceof TimestampedValue timestamped) {
+			return new SimpleValueWrapper(timestamped.value);
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		this.targetCache.evict(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		return this.targetCache.evictIfPresent(key);
+	}
+
+	@Override
+	public void clear() {
+		this.targetCache.clear();
+	}
+
+	@Override
+	public boolean invalidate() {
+		return this.targetCache.invalidate();
+	}
+
+
+	private @Nullable Object timestamped(@Nullable Object value) {
+		return (value != null ? new TimestampedValue(value, this.clock.millis()) : null);
+	}
+
+	private boolean isStale(TimestampedValue timestamped) {
+		return (this.clock.millis() - timestamped.timestamp >= this.refreshAfterMillis);
+	}
+
+	/**
+	 * Reload the value for the given key in the background,
+	 * unless a reload for the same key is in progress already.
+	 */
+	private void refresh(Object key, Callable<?> valueLoader) {
+		if (!this.refreshingKeys.add(key)) {
+			return;
+		}
+		try {
+			this.executor.execute(() -> {
+				try {
+					refreshed(key, valueLoader.call(), null);
+				}
+				catch (Throwable ex) {
+					refreshed(key, null, ex);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			rejected(key, ex);
+		}
+	}
+
+	/**
+	 * Reload the value for the given key in the background through the given
+	 * asynchronous loader, unless a reload for the same key is in progress already.
+	 * The executor thread only initiates the reload; the value gets stored once
+	 * the returned future completes.
+	 */
+	private void refreshAsync(Object key, Supplier<? extends CompletableFuture<?>> valueLoader) {
+		if (!this.refreshingKeys.add(key)) {
+			return;
+		}
+		try {
+			this.executor.execute(() -> {
+				try {
+					valueLoader.get().whenComplete((value, ex) -> refreshed(key, value, ex));
+				}
+				catch (Throwable ex) {
+					refreshed(key, null, ex);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			rejected(key, ex);
+		}
+	}
+
+	private void refreshed(Object key, @Nullable Object value, @Nullable Throwable failure) {
+		try {
+			if (failure == null) {
+				put(key, value);
+			}
+			else if (logger.isDebugEnabled()) {
+				// Keep serving the stale value until the next attempt
+				logger.debug("Failed to refresh entry for key '" + key + "' in cache '" + getName() + "'", failure);
+			}
+		}
+		finally {
+			this.refreshingKeys.remove(key);
+		}
+	}
+
+	private void rejected(Object key, RejectedExecutionException ex) {
+		this.refreshingKeys.remove(key);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Refresh of entry for key '" + key + "' in cache '" + getName() + "' rejected", ex);
+		}
+	}
+
+
+	/**
+	 * Holder for a cached value along with its creation timestamp.
+	 */
+	@SuppressWarnings("serial")
+	private static final class TimestampedValue implements Serializable {
+
+		final Object value;
+
+		final long timestamp;
+
+		TimestampedValue(Object value, long timestamp) {
+			this.value = value;
+			this.timestamp = timestamp;
+		}
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Extension of a cache value loader &mdash; a {@link java.util.concurrent.Callable}
+ * for {@link org.springframework.cache.Cache#get(Object, java.util.concurrent.Callable)}
+ * or a {@link java.util.function.Supplier} for
+ * {@link org.springframework.cache.Cache#retrieve(Object, java.util.function.Supplier)}
+ * &mdash; which is able to provide an independent loader for loading the same
+ * value again at a later point, typically in the background on another thread.
+ *
+ * <p>A regular value loader is bound to the current caller and must not be
+ * invoked more than once, or outside the cache operation it was passed to.
+ * Implementing this interface signals that reloading is safe, for example
+ * through an invocable clone of an AOP method invocation, going through
+ * all remaining interceptors once again.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @param <L> the type of value loader
+ * @see RefreshAheadCacheDecorator
+ * @see org.springframework.cache.interceptor.CacheOperationInvoker#invocableClone()
+ */
+public interface RefreshableValueLoader<L> {
+
+	/**
+	 * Create an independent value loader for reloading the value.
+	 * <p>Called within the cache operation that this loader has been passed to,
+	 * or once the asynchronous completion of that operation provided a value
+	 * to be refreshed, in any case before this loader itself has been invoked.
+	 * @return the new value loader, or {@code null} if the value cannot be
+	 * reloaded in this case
+	 */
+	@Nullable L createRefreshLoader();
+
+}
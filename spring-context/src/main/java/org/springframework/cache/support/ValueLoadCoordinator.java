@@ -0,0 +1,182 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Helper for {@link org.springframework.cache.Cache} implementations which
+ * coordinates concurrent loads of the same key: the first caller for a key
+ * invokes the value loader, with any further callers for that key sharing
+ * its outcome instead of invoking their own value loader.
+ *
+ * <p>Loads for different keys proceed independently. A load completes by
+ * storing its value, unregistering the pending load and completing it, in that
+ * order: a caller arriving after the pending load has been removed is therefore
+ * guaranteed to find the stored value through the cache's regular lookup.
+ *
+ * <p>A value loader which requests its own key again on the same thread would
+ * otherwise wait for itself: this is rejected with an {@link IllegalStateException},
+ * in line with the recursive update check in
+ * {@link ConcurrentHashMap#computeIfAbsent}.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see org.springframework.cache.Cache#get(Object, java.util.concurrent.Callable)
+ * @see org.springframework.cache.Cache#retrieve(Object, Supplier)
+ */
+public final class ValueLoadCoordinator {
+
+	private final ConcurrentMap<Object, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Obtain the store value for the given key, invoking the given loader
+	 * unless a load for the same key is in progress already, in which case
+	 * the outcome of that load is awaited instead.
+	 * <p>A failed load is rethrown to all callers sharing it: as-is if unchecked,
+	 * wrapped in an {@link IllegalStateException} otherwise (only possible for
+	 * a load from {@link #retrieve}).
+	 * @param key the cache key
+	 * @param lookup a lookup function for the store value of the given key, or
+	 * {@code null} if none: invoked once the current caller owns the load, in
+	 * order to detect a concurrent load that has completed in the meantime
+	 * @param loader a function loading and storing the value for the given key,
+	 * returning its store value
+	 * @return the store value (never {@code null})
+	 * @throws IllegalStateException if a load for the given key has been
+	 * started on the current thread already, that is, if a value loader
+	 * recursively requests its own key
+	 */
+	public Object load(Object key, Function<Object, @Nullable Object> lookup, Function<Object, Object> loader) {
+		Thread currentThread = Thread.currentThread();
+		PendingLoad load = new PendingLoad(currentThread, new CompletableFuture<>());
+		PendingLoad existingLoad = this.pendingLoads.putIfAbsent(key, load);
+		if (existingLoad != null) {
+			if (existingLoad.owner() == currentThread) {
+				throw new IllegalStateException("Recursive load for cache key '" + key + "'");
+			}
+			// Another caller is loading the same key already: wait for its result.
+			try {
+				return existingLoad.future().join();
+			}
+			catch (CompletionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof RuntimeException rex) {
+					throw rex;
+				}
+				if (cause instanceof Error err) {
+					throw err;
+				}
+				throw new IllegalStateException("Failed to load value for cache key '" + key + "'", cause);
+			}
+		}
+
+		Object storeValue;
+		try {
+			storeValue = lookup.apply(key);
+			if (storeValue == null) {
+				storeValue = loader.apply(key);
+			}
+		}
+		catch (RuntimeException | Error ex) {
+			this.pendingLoads.remove(key, load);
+			load.future().completeExceptionally(ex);
+			throw ex;
+		}
+		this.pendingLoads.remove(key, load);
+		load.future().complete(storeValue);
+		return storeValue;
+	}
+
+	/**
+	 * Obtain the store value for the given key asynchronously, invoking the given
+	 * loader unless a load for the same key is in progress already, in which case
+	 * the future of that load is returned instead.
+	 * @param key the cache key
+	 * @param lookup a lookup function for the store value of the given key, or
+	 * {@code null} if none: invoked once the current caller owns the load, in
+	 * order to detect a concurrent load that has completed in the meantime
+	 * @param loader the value loader for the given key
+	 * @param store a function storing a loaded value for the given key,
+	 * returning its store value
+	 * @return a future for the store value, shared between all callers for
+	 * the same load (not to be cancelled or completed by the caller)
+	 */
+	public CompletableFuture<Object> retrieve(Object key, Function<Object, @Nullable Object> lookup,
+			Supplier<? extends CompletableFuture<?>> loader, Function<@Nullable Object, Object> store) {
+
+		PendingLoad load = new PendingLoad(null, new CompletableFuture<>());
+		PendingLoad existingLoad = this.pendingLoads.putIfAbsent(key, load);
+		if (existingLoad != null) {
+			// Another caller is loading the same key already: share its result.
+			return existingLoad.future();
+		}
+		try {
+			Object storeValue = lookup.apply(key);
+			if (storeValue != null) {
+				// A concurrent load completed in the meantime.
+				this.pendingLoads.remove(key, load);
+				load.future().complete(storeValue);
+			}
+			else {
+				loader.get().whenComplete((result, ex) -> completeLoad(key, load, store, result, ex));
+			}
+		}
+		catch (Throwable ex) {
+			completeLoad(key, load, store, null, ex);
+		}
+		return load.future();
+	}
+
+	private void completeLoad(Object key, PendingLoad load, Function<@Nullable Object, Object> store,
+			@Nullable Object result, @Nullable Throwable ex) {
+
+		Object storeValue = null;
+		Throwable failure = ex;
+		if (failure == null) {
+			try {
+				storeValue = store.apply(result);
+			}
+			catch (Throwable storeEx) {
+				failure = storeEx;
+			}
+		}
+		this.pendingLoads.remove(key, load);
+		if (failure != null) {
+			load.future().completeExceptionally(failure);
+		}
+		else {
+			load.future().complete(storeValue);
+		}
+	}
+
+
+	/**
+	 * A load in progress, along with the thread performing it (if synchronous).
+	 */
+	private record PendingLoad(@Nullable Thread owner, CompletableFuture<Object> future) {
+	}
+
+}
@@ -111,7 +111,13 @@ public abstract class AbstractApplicationEventMulticaster
 				this.defaultRetriever.applicationListeners.remove(singletonTarget);
 			}
 			this.defaultRetriever.applicationListeners.add(listener);
-			this.retrieverCache.clear();
+			// Only invalidate cached retrievers that the new listener affects,
+			// keeping the cache warm for unrelated event types.
+			this.retrieverCache.entrySet().removeIf(entry -> {
+				ListenerCacheKey cacheKey = entry.getKey();
+				return (entry.getValue().containsOrIsPopulating(singletonTarget) ||
+						supportsEvent(listener, cacheKey.eventType, cacheKey.sourceType));
+			});
 		}
 	}
 
@@ -127,7 +133,8 @@ public abstract class AbstractApplicationEventMulticaster
 	public void removeApplicationListener(ApplicationListener<?> listener) {
 		synchronized (this.defaultRetriever) {
 			this.defaultRetriever.applicationListeners.remove(listener);
-			this.retrieverCache.clear();
+			// Only invalidate cached retrievers that include the removed listener
+			this.retrieverCache.values().removeIf(retriever -> retriever.containsOrIsPopulating(listener));
 		}
 	}
 
@@ -459,6 +466,18 @@ public abstract class AbstractApplicationEventMulticaster
 
 		public volatile @Nullable Set<String> applicationListenerBeans;
 
+		/**
+		 * Determine whether this retriever holds the given listener instance, or is
+		 * not fully populated yet and therefore cannot be trusted to exclude it.
+		 */
+		public boolean containsOrIsPopulating(@Nullable Object listener) {
+			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
+			if (applicationListeners == null || this.applicationListenerBeans == null) {
+				return true;
+			}
+			return (listener != null && applicationListeners.contains(listener));
+		}
+
 		public @Nullable Collection<ApplicationListener<?>> getApplicationListeners() {
 			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
 			Set<String> applicationListenerBeans = this.applicationListenerBeans;
@@ -16,6 +16,8 @@
 
 package org.springframework.context.event;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 
@@ -29,6 +31,7 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.context.PayloadApplicationEvent;
 import org.springframework.core.ResolvableType;
 import org.springframework.util.ErrorHandler;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Simple implementation of the {@link ApplicationEventMulticaster} interface.
@@ -55,6 +58,8 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 
 	private @Nullable ErrorHandler errorHandler;
 
+	private boolean singleTaskPerEvent;
+
 	private volatile @Nullable Log lazyLogger;
 
 
@@ -101,6 +106,39 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		return this.taskExecutor;
 	}
 
+	/**
+	 * Specify whether all listeners for an event that support asynchronous
+	 * execution should be invoked one after the other within a single task
+	 * on the {@linkplain #setTaskExecutor task executor}, rather than with
+	 * a separate task per listener.
+	 * <p>Default is {@code false}. Consider switching this to {@code true}
+	 * for high event volumes with many cheap listeners, where task submission
+	 * would otherwise dominate. A listener exception does not prevent the
+	 * remaining listeners in the task from being invoked; the first exception
+	 * is propagated to the executor after all listeners have been invoked,
+	 * unless an {@linkplain #setErrorHandler error handler} is specified.
+	 * <p>Note that this changes the order of invocation: the single task for
+	 * the asynchronous listeners is only submitted once all other listeners
+	 * for the event have been invoked on the publishing thread. With a task
+	 * executor running tasks on the calling thread, asynchronous listeners are
+	 * therefore invoked after all synchronous listeners, rather than in their
+	 * declared order among them.
+	 * @since 7.1
+	 * @see #setTaskExecutor
+	 */
+	public void setSingleTaskPerEvent(boolean singleTaskPerEvent) {
+		this.singleTaskPerEvent = singleTaskPerEvent;
+	}
+
+	/**
+	 * Return whether all asynchronous listeners for an event are invoked
+	 * within a single task.
+	 * @since 7.1
+	 */
+	public boolean isSingleTaskPerEvent() {
+		return this.singleTaskPerEvent;
+	}
+
 	/**
 	 * Set the {@link ErrorHandler} to invoke in case an exception is thrown
 	 * from a listener.
@@ -137,8 +175,16 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 	public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
 		ResolvableType type = (eventType != null ? eventType : ResolvableType.forInstance(event));
 		Executor executor = getTaskExecutor();
+		List<ApplicationListener<?>> asyncListeners = null;
 		for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
 			if (executor != null && listener.supportsAsyncExecution()) {
+				if (this.singleTaskPerEvent) {
+					if (asyncListeners == null) {
+						asyncListeners = new ArrayList<>();
+					}
+					asyncListeners.add(listener);
+					continue;
+				}
 				try {
 					executor.execute(() -> invokeListener(listener, event));
 				}
@@ -151,6 +197,40 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 				invokeListener(listener, event);
 			}
 		}
+		if (executor != null && asyncListeners != null) {
+			List<ApplicationListener<?>> listenersToInvoke = asyncListeners;
+			try {
+				executor.execute(() -> invokeListeners(listenersToInvoke, event));
+			}
+			catch (RejectedExecutionException ex) {
+				// Probably on shutdown -> invoke listeners locally instead
+				invokeListeners(listenersToInvoke, event);
+			}
+		}
+	}
+
+	/**
+	 * Invoke the given listeners one after the other, propagating the
+	 * first listener exception (if any) once all of them have been invoked.
+	 */
+	private void invokeListeners(List<ApplicationListener<?>> listeners, ApplicationEvent event) {
+		Throwable failure = null;
+		for (ApplicationListener<?> listener : listeners) {
+			try {
+				invokeListener(listener, event);
+			}
+			catch (Throwable ex) {
+				if (failure == null) {
+					failure = ex;
+				}
+				else {
+					failure.addSuppressed(ex);
+				}
+			}
+		}
+		if (failure != null) {
+			ReflectionUtils.rethrowRuntimeException(failure);
+		}
 	}
 
 	/**
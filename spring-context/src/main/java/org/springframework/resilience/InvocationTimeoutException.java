@@ -0,0 +1,60 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.resilience;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when an invocation did not complete within the amount of
+ * time allowed by a resilience policy, such as for a method annotated with
+ * {@link org.springframework.resilience.annotation.Timeout @Timeout} or
+ * {@link org.springframework.resilience.annotation.Hedged#timeout() @Hedged(timeout=...)}.
+ *
+ * <p>Any attempts still running at that point will have been cancelled,
+ * or interrupted in case of a single attempt on the calling thread.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see org.springframework.resilience.annotation.Timeout
+ * @see org.springframework.resilience.annotation.Hedged
+ */
+@SuppressWarnings("serial")
+public class InvocationTimeoutException extends RuntimeException {
+
+	private final Duration timeout;
+
+
+	/**
+	 * Create a new {@code InvocationTimeoutException}
+	 * with the specified detail message and timeout.
+	 * @param msg the detail message
+	 * @param timeout the timeout that has been exceeded
+	 */
+	public InvocationTimeoutException(String msg, Duration timeout) {
+		super(msg);
+		this.timeout = timeout;
+	}
+
+
+	/**
+	 * Return the timeout that has been exceeded.
+	 */
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+}
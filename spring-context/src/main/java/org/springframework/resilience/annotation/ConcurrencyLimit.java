@@ -47,6 +47,9 @@ import org.springframework.core.annotation.AliasFor;
  * and its inherited concurrency throttling support (new as of 7.0) for
  * programmatic use.
  *
+ * <p>As of 7.1, the limit may also be adapted at runtime according to the observed
+ * latency of the method invocations: see {@link #algorithm()}.
+ *
  * @author Juergen Hoeller
  * @author Hyunsang Han
  * @author Sam Brannen
@@ -54,6 +57,7 @@ import org.springframework.core.annotation.AliasFor;
  * @see EnableResilientMethods
  * @see ConcurrencyLimitBeanPostProcessor
  * @see org.springframework.aop.interceptor.ConcurrencyThrottleInterceptor
+ * @see org.springframework.aop.interceptor.AdaptiveConcurrencyThrottleInterceptor
  * @see org.springframework.core.task.SyncTaskExecutor#setConcurrencyLimit
  * @see org.springframework.core.task.SimpleAsyncTaskExecutor#setConcurrencyLimit
  */
@@ -109,6 +113,31 @@ public @interface ConcurrencyLimit {
 	 */
 	ThrottlePolicy policy() default ThrottlePolicy.BLOCK;
 
+	/**
+	 * The algorithm for adapting the concurrency limit at runtime.
+	 * <p>The default is a fixed limit: {@link LimitAlgorithm#FIXED}.
+	 * <p>With an adaptive algorithm, the specified {@link #limit()} serves as the
+	 * initial limit, which is then adjusted between {@link #minLimit()} and
+	 * {@link #maxLimit()} based on the round-trip time of each invocation.
+	 * @since 7.1
+	 * @see org.springframework.aop.interceptor.AdaptiveConcurrencyThrottleInterceptor
+	 */
+	LimitAlgorithm algorithm() default LimitAlgorithm.FIXED;
+
+	/**
+	 * The minimum concurrency limit for an adaptive {@link #algorithm()}.
+	 * <p>The default is 1.
+	 * @since 7.1
+	 */
+	int minLimit() default 1;
+
+	/**
+	 * The maximum concurrency limit for an adaptive {@link #algorithm()}.
+	 * <p>The default is 1000.
+	 * @since 7.1
+	 */
+	int maxLimit() default 1000;
+
 
 	/**
 	 * Policy to apply for throttling method invocations when the limit has been reached.
@@ -128,4 +157,31 @@ public @interface ConcurrencyLimit {
 		REJECT
 	}
 
+
+	/**
+	 * Algorithm for determining the concurrency limit at runtime.
+	 * @since 7.1
+	 */
+	enum LimitAlgorithm {
+
+		/**
+		 * The default: a fixed limit as specified.
+		 */
+		FIXED,
+
+		/**
+		 * Gradient-based adaptation, reducing the limit when the latency of current
+		 * invocations rises above the long-term latency and increasing it otherwise.
+		 * @see org.springframework.aop.interceptor.AdaptiveConcurrencyThrottleInterceptor.Algorithm#GRADIENT
+		 */
+		GRADIENT,
+
+		/**
+		 * Additive increase while the limit is in use, multiplicative decrease
+		 * on invocations failing with an exception.
+		 * @see org.springframework.aop.interceptor.AdaptiveConcurrencyThrottleInterceptor.Algorithm#AIMD
+		 */
+		AIMD
+	}
+
 }
@@ -29,6 +29,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.aop.Pointcut;
 import org.springframework.aop.ProxyMethodInvocation;
 import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.interceptor.AdaptiveConcurrencyThrottleInterceptor;
 import org.springframework.aop.interceptor.ConcurrencyThrottleInterceptor;
 import org.springframework.aop.support.ComposablePointcut;
 import org.springframework.aop.support.DefaultPointcutAdvisor;
@@ -118,9 +119,24 @@ public class ConcurrencyLimitBeanPostProcessor extends AbstractBeanFactoryAwareA
 								throw new IllegalStateException(annotation + " must be configured with a valid limit");
 							}
 							String name = (perMethod ? ClassUtils.getQualifiedMethodName(method) : targetClass.getName());
-							interceptor = (annotation.policy() == ConcurrencyLimit.ThrottlePolicy.REJECT ?
-									new RejectingConcurrencyThrottleInterceptor(concurrencyLimit, name, instance) :
-									new ResilienceConcurrencyThrottleInterceptor(concurrencyLimit, name, instance));
+							boolean reject = (annotation.policy() == ConcurrencyLimit.ThrottlePolicy.REJECT);
+							if (annotation.algorithm() != ConcurrencyLimit.LimitAlgorithm.FIXED) {
+								if (concurrencyLimit < annotation.minLimit() || concurrencyLimit > annotation.maxLimit()) {
+									throw new IllegalStateException(annotation +
+											" must be configured with a limit between minLimit and maxLimit");
+								}
+								AdaptiveConcurrencyThrottleInterceptor.Algorithm algorithm =
+										(annotation.algorithm() == ConcurrencyLimit.LimitAlgorithm.AIMD ?
+												AdaptiveConcurrencyThrottleInterceptor.Algorithm.AIMD :
+												AdaptiveConcurrencyThrottleInterceptor.Algorithm.GRADIENT);
+								interceptor = new ResilienceAdaptiveConcurrencyThrottleInterceptor(algorithm,
+										concurrencyLimit, annotation.minLimit(), annotation.maxLimit(), name, instance, reject);
+							}
+							else {
+								interceptor = (reject ?
+										new RejectingConcurrencyThrottleInterceptor(concurrencyLimit, name, instance) :
+										new ResilienceConcurrencyThrottleInterceptor(concurrencyLimit, name, instance));
+							}
 							if (!perMethod) {
 								holder.classInterceptor = interceptor;
 							}
@@ -185,4 +201,38 @@ public class ConcurrencyLimitBeanPostProcessor extends AbstractBeanFactoryAwareA
 		}
 	}
 
+
+	private static class ResilienceAdaptiveConcurrencyThrottleInterceptor extends AdaptiveConcurrencyThrottleInterceptor {
+
+		private final String identifier;
+
+		private final Object target;
+
+		private final boolean reject;
+
+		public ResilienceAdaptiveConcurrencyThrottleInterceptor(Algorithm algorithm, int initialLimit,
+				int minLimit, int maxLimit, String identifier, Object target, boolean reject) {
+
+			super(algorithm, initialLimit, minLimit, maxLimit);
+			this.identifier = identifier;
+			this.target = target;
+			this.reject = reject;
+		}
+
+		@Override
+		protected void onLimitReached() {
+			if (this.reject) {
+				onAccessRejected("Concurrency limit reached: " + getConcurrencyLimit() + " - not allowed to enter");
+			}
+			else {
+				super.onLimitReached();
+			}
+		}
+
+		@Override
+		protected void onAccessRejected(String msg) {
+			throw new InvocationRejectedException(msg + " " + this.identifier, this.target);
+		}
+	}
+
 }
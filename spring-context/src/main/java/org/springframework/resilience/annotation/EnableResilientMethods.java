@@ -27,16 +27,19 @@ import org.springframework.core.Ordered;
 
 /**
  * Enables Spring's core resilience features for method invocations:
- * {@link Retryable @Retryable} as well as {@link ConcurrencyLimit @ConcurrencyLimit}.
+ * {@link Retryable @Retryable}, {@link ConcurrencyLimit @ConcurrencyLimit},
+ * {@link Hedged @Hedged} as well as {@link Timeout @Timeout}.
  *
  * <p>These annotations can also be individually enabled by
- * defining a {@link RetryAnnotationBeanPostProcessor} or a
- * {@link ConcurrencyLimitBeanPostProcessor}.
+ * defining a {@link RetryAnnotationBeanPostProcessor}, a
+ * {@link ConcurrencyLimitBeanPostProcessor} or a
+ * {@link HedgedAnnotationBeanPostProcessor}.
  *
  * @author Juergen Hoeller
  * @since 7.0
  * @see RetryAnnotationBeanPostProcessor
  * @see ConcurrencyLimitBeanPostProcessor
+ * @see HedgedAnnotationBeanPostProcessor
  */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
@@ -49,8 +52,9 @@ public @interface EnableResilientMethods {
 	 * to standard Java interface-based proxies.
 	 * <p>The default is {@code false}.
 	 * <p>Note that setting this attribute to {@code true} will only affect
-	 * {@link RetryAnnotationBeanPostProcessor} and
-	 * {@link ConcurrencyLimitBeanPostProcessor}.
+	 * {@link RetryAnnotationBeanPostProcessor},
+	 * {@link ConcurrencyLimitBeanPostProcessor} and
+	 * {@link HedgedAnnotationBeanPostProcessor}.
 	 * <p>It is usually recommendable to rely on a global default proxy configuration
 	 * instead, with specific proxy requirements for certain beans expressed through
 	 * a {@link org.springframework.context.annotation.Proxyable} annotation on
@@ -60,8 +64,9 @@ public @interface EnableResilientMethods {
 	boolean proxyTargetClass() default false;
 
 	/**
-	 * Indicate the order in which the {@link RetryAnnotationBeanPostProcessor}
-	 * and {@link ConcurrencyLimitBeanPostProcessor} should be applied.
+	 * Indicate the order in which the {@link RetryAnnotationBeanPostProcessor},
+	 * {@link ConcurrencyLimitBeanPostProcessor} and
+	 * {@link HedgedAnnotationBeanPostProcessor} should be applied.
 	 * <p>The default is {@link Ordered#LOWEST_PRECEDENCE - 1} in order to run
 	 * after all common post-processors, except for {@code @EnableAsync}.
 	 * @see org.springframework.scheduling.annotation.EnableAsync#order()
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.resilience.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.aot.hint.annotation.Reflective;
+
+/**
+ * A common annotation specifying hedging characteristics for an individual method,
+ * or for all proxy-invoked methods in a given class hierarchy if annotated at
+ * the type level.
+ *
+ * <p>A hedged method gets invoked again if the initial invocation has not completed
+ * after a given {@link #delay()}, with the first successful result being returned
+ * and any outstanding attempts getting cancelled. This trades a small amount of
+ * additional load for a significantly lower tail latency, in particular when
+ * deriving the delay from a high {@link #percentile()} of the observed latency.
+ * Hedging is only appropriate for idempotent operations such as reads.
+ *
+ * <p>Imperative methods get invoked on virtual threads (on JDK 21+), with the
+ * caller waiting for the first successful attempt. Note that the method body
+ * runs on a different thread than the caller then: thread-bound context of the
+ * calling thread, such as the security context or request attributes, is not
+ * visible to the method unless propagated through a
+ * {@link HedgedAnnotationBeanPostProcessor#setTaskDecorator TaskDecorator}.
+ * With {@link #maxAttempts()} set to 1, the method gets invoked on the calling
+ * thread, just like for {@link Timeout @Timeout} on its own. Methods returning
+ * a {@code CompletableFuture} or {@code CompletionStage} get invoked on the
+ * calling thread for the initial attempt and on the task executor for each
+ * further attempt. For reactive return types, the returned publisher gets
+ * resubscribed for each further attempt instead.
+ *
+ * <p>For bounding the overall invocation time, specify a {@link #timeout()}, or
+ * use {@link Timeout @Timeout} on its own for a plain invocation timeout. For
+ * bulkhead-style isolation, combine this with
+ * {@link ConcurrencyLimit @ConcurrencyLimit} and its {@code REJECT} policy.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see EnableResilientMethods
+ * @see HedgedAnnotationBeanPostProcessor
+ * @see org.springframework.resilience.hedge.AbstractHedgingInterceptor
+ * @see reactor.core.publisher.Mono#firstWithValue
+ * @see reactor.core.publisher.Flux#firstWithValue
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Reflective
+public @interface Hedged {
+
+	/**
+	 * The maximum number of concurrent attempts, including the initial invocation.
+	 * <p>A failed attempt triggers the next attempt right away, with the original
+	 * exception being rethrown once all attempts have failed.
+	 * <p>The default is 2.
+	 */
+	int maxAttempts() default 2;
+
+	/**
+	 * The maximum number of concurrent attempts, as a configurable String.
+	 * <p>A non-empty value specified here overrides the {@link #maxAttempts()} attribute.
+	 * <p>This supports Spring-style "${...}" placeholders as well as SpEL expressions.
+	 * @see #maxAttempts()
+	 */
+	String maxAttemptsString() default "";
+
+	/**
+	 * The delay before issuing a further attempt. If a {@link #percentile()} is
+	 * specified, this serves as the delay until enough latency samples have been
+	 * collected for the method.
+	 * <p>The time unit is milliseconds by default but can be overridden via
+	 * {@link #timeUnit}.
+	 * <p>Must be greater than or equal to zero. The default is 100.
+	 * @see #percentile()
+	 */
+	long delay() default 100;
+
+	/**
+	 * The delay before issuing a further attempt, as a duration String.
+	 * <p>A non-empty value specified here overrides the {@link #delay()} attribute.
+	 * <p>The duration String can be in several formats:
+	 * <ul>
+	 * <li>a plain integer &mdash; which is interpreted to represent a duration in
+	 * milliseconds by default unless overridden via {@link #timeUnit()} (prefer
+	 * using {@link #delay()} in that case)</li>
+	 * <li>any of the known {@link org.springframework.format.annotation.DurationFormat.Style
+	 * DurationFormat.Style}: the {@link org.springframework.format.annotation.DurationFormat.Style#ISO8601 ISO8601}
+	 * style or the {@link org.springframework.format.annotation.DurationFormat.Style#SIMPLE SIMPLE} style
+	 * &mdash; using the {@link #timeUnit()} as fallback if the string doesn't contain an explicit unit</li>
+	 * <li>one of the above, with Spring-style "${...}" placeholders as well as SpEL expressions</li>
+	 * </ul>
+	 * @return the delay as a String value &mdash; for example a placeholder,
+	 * or a {@link org.springframework.format.annotation.DurationFormat.Style#ISO8601 java.time.Duration} compliant value
+	 * or a {@link org.springframework.format.annotation.DurationFormat.Style#SIMPLE simple format} compliant value
+	 * @see #delay()
+	 */
+	String delayString() default "";
+
+	/**
+	 * The latency percentile of recent successful attempts to use as the delay
+	 * before issuing a further attempt &mdash; for example, {@code 95} for hedging
+	 * only those invocations which take longer than 95% of recent invocations did.
+	 * <p>The fixed {@link #delay()} applies until enough samples are available.
+	 * <p>Must be greater than or equal to zero and less than 100.
+	 * The default is 0, which signals that the fixed delay is always used.
+	 * @see #delay()
+	 */
+	double percentile() default 0.0;
+
+	/**
+	 * The latency percentile to use as the delay, as a configurable String.
+	 * <p>A non-empty value specified here overrides the {@link #percentile()} attribute.
+	 * <p>This supports Spring-style "${...}" placeholders as well as SpEL expressions.
+	 * @see #percentile()
+	 */
+	String percentileString() default "";
+
+	/**
+	 * The maximum amount of elapsed time allowed for all attempts, after which
+	 * outstanding attempts get cancelled and an
+	 * {@link org.springframework.resilience.InvocationTimeoutException} is thrown.
+	 * For multi-value reactive publishers, this bounds the entire stream.
+	 * <p>The default is {@code 0}, which signals that no timeout should be applied.
+	 * <p>The time unit is milliseconds by default but can be overridden via
+	 * {@link #timeUnit}.
+	 * <p>Must be greater than or equal to zero.
+	 * @see Timeout
+	 */
+	long timeout() default 0;
+
+	/**
+	 * The timeout, as a duration String.
+	 * <p>A non-empty value specified here overrides the {@link #timeout()} attribute.
+	 * <p>The duration String can be in several formats:
+	 * <ul>
+	 * <li>a plain integer &mdash; which is interpreted to represent a duration in
+	 * milliseconds by default unless overridden via {@link #timeUnit()} (prefer
+	 * using {@link #timeout()} in that case)</li>
+	 * <li>any of the known {@link org.springframework.format.annotation.DurationFormat.Style
+	 * DurationFormat.Style}: the {@link org.springframework.format.annotation.DurationFormat.Style#ISO8601 ISO8601}
+	 * style or the {@link org.springframework.format.annotation.DurationFormat.Style#SIMPLE SIMPLE} style
+	 * &mdash; using the {@link #timeUnit()} as fallback if the string doesn't contain an explicit unit</li>
+	 * <li>one of the above, with Spring-style "${...}" placeholders as well as SpEL expressions</li>
+	 * </ul>
+	 * @return the timeout as a String value &mdash; for example, a placeholder, a
+	 * {@link org.springframework.format.annotation.DurationFormat.Style#ISO8601 java.time.Duration} compliant value,
+	 * or a {@link org.springframework.format.annotation.DurationFormat.Style#SIMPLE simple format} compliant value
+	 * @see #timeout()
+	 */
+	String timeoutString() default "";
+
+	/**
+	 * The {@link TimeUnit} to use for {@link #delay}, {@link #delayString},
+	 * {@link #timeout}, and {@link #timeoutString}.
+	 * <p>The default is {@link TimeUnit#MILLISECONDS}.
+	 * <p>This attribute is ignored for {@link java.time.Duration} values supplied
+	 * via {@link #delayString} or {@link #timeoutString}.
+	 * @return the {@code TimeUnit} to use
+	 */
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+}
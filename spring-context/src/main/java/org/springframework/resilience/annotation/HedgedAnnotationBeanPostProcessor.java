@@ -0,0 +1,194 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.resilience.annotation;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.context.EmbeddedValueResolverAware;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.format.annotation.DurationFormat;
+import org.springframework.format.datetime.standard.DurationFormatterUtils;
+import org.springframework.resilience.hedge.AbstractHedgingInterceptor;
+import org.springframework.resilience.hedge.MethodHedgeSpec;
+import org.springframework.util.StringUtils;
+import org.springframework.util.StringValueResolver;
+
+/**
+ * A convenient {@link org.springframework.beans.factory.config.BeanPostProcessor
+ * BeanPostProcessor} that applies a hedging interceptor to all bean methods
+ * annotated with {@link Hedged @Hedged} or {@link Timeout @Timeout}.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ */
+@SuppressWarnings("serial")
+public class HedgedAnnotationBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor
+		implements EmbeddedValueResolverAware {
+
+	private final HedgedAnnotationInterceptor interceptor = new HedgedAnnotationInterceptor();
+
+	private @Nullable StringValueResolver embeddedValueResolver;
+
+
+	public HedgedAnnotationBeanPostProcessor() {
+		setBeforeExistingAdvisors(true);
+
+		Pointcut cpc = new AnnotationMatchingPointcut(Hedged.class, true);
+		Pointcut mpc = new AnnotationMatchingPointcut(null, Hedged.class, true);
+		Pointcut tcpc = new AnnotationMatchingPointcut(Timeout.class, true);
+		Pointcut tmpc = new AnnotationMatchingPointcut(null, Timeout.class, true);
+		this.advisor = new DefaultPointcutAdvisor(
+				new ComposablePointcut(cpc).union(mpc).union(tcpc).union(tmpc), this.interceptor);
+	}
+
+
+	@Override
+	public void setEmbeddedValueResolver(StringValueResolver resolver) {
+		this.embeddedValueResolver = resolver;
+	}
+
+	/**
+	 * Specify the executor to run imperative attempts on.
+	 * <p>The default is a {@link org.springframework.core.task.SimpleAsyncTaskExecutor},
+	 * using virtual threads on JDK 21+.
+	 * @see AbstractHedgingInterceptor#setTaskExecutor
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		this.interceptor.setTaskExecutor(taskExecutor);
+	}
+
+	/**
+	 * Specify a {@link TaskDecorator} to apply to each attempt run on the
+	 * task executor, for example, to propagate thread-bound context from
+	 * the calling thread.
+	 * @see AbstractHedgingInterceptor#setTaskDecorator
+	 */
+	public void setTaskDecorator(@Nullable TaskDecorator taskDecorator) {
+		this.interceptor.setTaskDecorator(taskDecorator);
+	}
+
+
+	private class HedgedAnnotationInterceptor extends AbstractHedgingInterceptor {
+
+		private final Map<MethodClassKey, MethodHedgeSpec> hedgeSpecCache = new ConcurrentHashMap<>();
+
+		@Override
+		protected @Nullable MethodHedgeSpec getHedgeSpec(Method method, Class<?> targetClass) {
+			MethodClassKey cacheKey = new MethodClassKey(method, targetClass);
+			MethodHedgeSpec hedgeSpec = this.hedgeSpecCache.get(cacheKey);
+			if (hedgeSpec != null) {
+				return hedgeSpec;
+			}
+
+			Hedged hedged = AnnotatedElementUtils.findMergedAnnotation(method, Hedged.class);
+			if (hedged == null) {
+				hedged = AnnotatedElementUtils.findMergedAnnotation(targetClass, Hedged.class);
+			}
+			Timeout timeout = AnnotatedElementUtils.findMergedAnnotation(method, Timeout.class);
+			if (timeout == null) {
+				timeout = AnnotatedElementUtils.findMergedAnnotation(targetClass, Timeout.class);
+			}
+			if (hedged == null && timeout == null) {
+				return null;
+			}
+
+			Duration timeoutValue = Duration.ZERO;
+			if (timeout != null) {
+				timeoutValue = parseDuration(timeout.value(), timeout.valueString(), timeout.timeUnit());
+				if (timeoutValue.isNegative() || timeoutValue.isZero()) {
+					throw new IllegalStateException("@Timeout on method [" + method + "] requires a positive value");
+				}
+			}
+
+			if (hedged != null) {
+				TimeUnit timeUnit = hedged.timeUnit();
+				Duration hedgedTimeout = parseDuration(hedged.timeout(), hedged.timeoutString(), timeUnit);
+				hedgeSpec = new MethodHedgeSpec(
+						parseInt(hedged.maxAttempts(), hedged.maxAttemptsString()),
+						parseDuration(hedged.delay(), hedged.delayString(), timeUnit),
+						parseDouble(hedged.percentile(), hedged.percentileString()),
+						(hedgedTimeout.isZero() ? timeoutValue : hedgedTimeout));
+			}
+			else {
+				hedgeSpec = new MethodHedgeSpec(timeoutValue);
+			}
+
+			MethodHedgeSpec existing = this.hedgeSpecCache.putIfAbsent(cacheKey, hedgeSpec);
+			return (existing != null ? existing : hedgeSpec);
+		}
+
+		private int parseInt(int value, String stringValue) {
+			if (StringUtils.hasText(stringValue)) {
+				if (embeddedValueResolver != null) {
+					stringValue = embeddedValueResolver.resolveStringValue(stringValue);
+				}
+				if (StringUtils.hasText(stringValue)) {
+					return Integer.parseInt(stringValue);
+				}
+			}
+			return value;
+		}
+
+		private double parseDouble(double value, String stringValue) {
+			if (StringUtils.hasText(stringValue)) {
+				if (embeddedValueResolver != null) {
+					stringValue = embeddedValueResolver.resolveStringValue(stringValue);
+				}
+				if (StringUtils.hasText(stringValue)) {
+					return Double.parseDouble(stringValue);
+				}
+			}
+			return value;
+		}
+
+		private Duration parseDuration(long value, String stringValue, TimeUnit timeUnit) {
+			if (StringUtils.hasText(stringValue)) {
+				if (embeddedValueResolver != null) {
+					stringValue = embeddedValueResolver.resolveStringValue(stringValue);
+				}
+				if (StringUtils.hasText(stringValue)) {
+					return toDuration(stringValue, timeUnit);
+				}
+			}
+			return toDuration(value, timeUnit);
+		}
+
+		private static Duration toDuration(long value, TimeUnit timeUnit) {
+			return Duration.of(value, timeUnit.toChronoUnit());
+		}
+
+		private static Duration toDuration(String value, TimeUnit timeUnit) {
+			DurationFormat.Unit unit = DurationFormat.Unit.fromChronoUnit(timeUnit.toChronoUnit());
+			return DurationFormatterUtils.detectAndParse(value, unit);
+		}
+	}
+
+}
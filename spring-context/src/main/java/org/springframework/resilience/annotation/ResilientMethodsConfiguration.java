@@ -29,13 +29,14 @@ import org.springframework.core.type.AnnotationMetadata;
 
 /**
  * {@code @Configuration} class that registers the Spring infrastructure beans necessary
- * to enable proxy-based method invocations with retry and concurrency limit behavior.
+ * to enable proxy-based method invocations with retry, concurrency limit and hedging behavior.
  *
  * @author Juergen Hoeller
  * @since 7.0
  * @see EnableResilientMethods
  * @see RetryAnnotationBeanPostProcessor
  * @see ConcurrencyLimitBeanPostProcessor
+ * @see HedgedAnnotationBeanPostProcessor
  */
 @Configuration(proxyBeanMethods = false)
 @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
@@ -76,4 +77,12 @@ public class ResilientMethodsConfiguration implements ImportAware {
 		return bpp;
 	}
 
+	@Bean(name = "org.springframework.resilience.annotation.internalHedgedAnnotationProcessor")
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public HedgedAnnotationBeanPostProcessor hedgedAdvisor() {
+		HedgedAnnotationBeanPostProcessor bpp = new HedgedAnnotationBeanPostProcessor();
+		configureProxySupport(bpp);
+		return bpp;
+	}
+
 }
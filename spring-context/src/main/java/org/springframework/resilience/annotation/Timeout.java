@@ -0,0 +1,105 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.resilience.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.aot.hint.annotation.Reflective;
+
+/**
+ * A common annotation specifying an invocation timeout for an individual method,
+ * or for all proxy-invoked methods in a given class hierarchy if annotated at
+ * the type level.
+ *
+ * <p>Imperative methods get invoked on the calling thread, which gets interrupted
+ * once the timeout has elapsed, with an
+ * {@link org.springframework.resilience.InvocationTimeoutException} thrown as
+ * soon as the method returns. Thread-bound context of the calling thread, such
+ * as transactions or the security context, therefore remains visible to the
+ * method; however, a method which does not respond to interruption runs to
+ * completion before the timeout exception is thrown, with its result discarded.
+ * Methods returning a {@code CompletableFuture} or {@code CompletionStage} get
+ * invoked on the calling thread as well, with the returned future being completed
+ * exceptionally on timeout. For reactive return types, Reactor's timeout
+ * operator is applied to single-value publishers, whereas multi-value publishers
+ * are subject to a deadline for the entire stream.
+ *
+ * <p>When combined with {@link Hedged @Hedged}, the timeout specified here applies
+ * to all hedged attempts unless {@link Hedged#timeout()} is specified as well.
+ * In combination with {@link ConcurrencyLimit @ConcurrencyLimit} and its
+ * {@code REJECT} policy, this serves as a bulkhead for a slow dependency:
+ * bounding both the number of concurrent invocations and their duration.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see EnableResilientMethods
+ * @see HedgedAnnotationBeanPostProcessor
+ * @see org.springframework.resilience.hedge.MethodHedgeSpec#MethodHedgeSpec(java.time.Duration)
+ * @see reactor.core.publisher.Mono#timeout
+ * @see reactor.core.publisher.Flux#takeUntilOther
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Reflective
+public @interface Timeout {
+
+	/**
+	 * The maximum amount of elapsed time allowed for an invocation.
+	 * <p>The time unit is milliseconds by default but can be overridden via
+	 * {@link #timeUnit}.
+	 * <p>Must be greater than zero unless {@link #valueString()} is specified.
+	 */
+	long value() default 0;
+
+	/**
+	 * The maximum amount of elapsed time allowed for an invocation,
+	 * as a duration String.
+	 * <p>A non-empty value specified here overrides the {@link #value()} attribute.
+	 * <p>The duration String can be in several formats:
+	 * <ul>
+	 * <li>a plain integer &mdash; which is interpreted to represent a duration in
+	 * milliseconds by default unless overridden via {@link #timeUnit()} (prefer
+	 * using {@link #value()} in that case)</li>
+	 * <li>any of the known {@link org.springframework.format.annotation.DurationFormat.Style
+	 * DurationFormat.Style}: the {@link org.springframework.format.annotation.DurationFormat.Style#ISO8601 ISO8601}
+	 * style or the {@link org.springframework.format.annotation.DurationFormat.Style#SIMPLE SIMPLE} style
+	 * &mdash; using the {@link #timeUnit()} as fallback if the string doesn't contain an explicit unit</li>
+	 * <li>one of the above, with Spring-style "${...}" placeholders as well as SpEL expressions</li>
+	 * </ul>
+	 * @return the timeout as a String value &mdash; for example, a placeholder, a
+	 * {@link org.springframework.format.annotation.DurationFormat.Style#ISO8601 java.time.Duration} compliant value,
+	 * or a {@link org.springframework.format.annotation.DurationFormat.Style#SIMPLE simple format} compliant value
+	 * @see #value()
+	 */
+	String valueString() default "";
+
+	/**
+	 * The {@link TimeUnit} to use for {@link #value} and {@link #valueString}.
+	 * <p>The default is {@link TimeUnit#MILLISECONDS}.
+	 * <p>This attribute is ignored for {@link java.time.Duration} values supplied
+	 * via {@link #valueString}.
+	 * @return the {@code TimeUnit} to use
+	 */
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+}
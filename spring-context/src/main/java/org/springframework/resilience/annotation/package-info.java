@@ -1,5 +1,5 @@
 /**
- * Annotation-based retry and concurrency limit support.
+ * Annotation-based retry, concurrency limit, hedging and timeout support.
  */
 @NullMarked
 package org.springframework.resilience.annotation;
@@ -0,0 +1,820 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.resilience.hedge;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.resilience.InvocationTimeoutException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Abstract hedging interceptor implementation, issuing further attempts for
+ * a slow invocation after a given delay and taking the first successful result,
+ * either on a task executor for imperative methods or through Reactor for
+ * reactive return types.
+ *
+ * <p>Imperative attempts run on a {@link SimpleAsyncTaskExecutor} with virtual
+ * threads on JDK 21+ by default, with the calling thread waiting for the first
+ * successful attempt. Attempts still running at that point get cancelled and
+ * interrupted. A failed attempt triggers the next attempt right away; the
+ * original exception gets rethrown once all attempts have failed. A single
+ * attempt with a timeout runs on the calling thread instead, preserving its
+ * thread-bound context such as transactions: the calling thread gets
+ * interrupted on timeout, with an {@link InvocationTimeoutException} thrown
+ * as soon as the invocation returns.
+ *
+ * <p>Methods returning a {@link CompletableFuture} or {@link CompletionStage}
+ * get invoked again for each further attempt, with the first attempt being
+ * invoked on the calling thread and further attempts on the task executor.
+ * The caller receives a new {@code CompletableFuture} which completes with
+ * the first successful attempt (cancelling the futures of the other attempts)
+ * or exceptionally on timeout. Other {@link Future} types are not supported.
+ *
+ * <p>Reactive publishers get resubscribed for each further attempt, with
+ * subscriptions delayed by multiples of the hedging delay, and the first
+ * emitted value winning. A timeout is applied through Reactor's timeout
+ * operator for single-value publishers, and as a deadline for the entire
+ * stream (not for each element) for multi-value publishers.
+ *
+ * <p>Further attempts require a {@link ProxyMethodInvocation} which can be
+ * cloned for each attempt. Other invocations are performed in a single
+ * attempt, still subject to the timeout.
+ *
+ * <p>If a {@linkplain MethodHedgeSpec#percentile() percentile} is specified,
+ * the hedging delay adapts to the given latency percentile of the recent
+ * successful attempts for each method, falling back to the fixed
+ * {@linkplain MethodHedgeSpec#delay() delay} until enough samples are
+ * available. For example, a percentile of 95 only hedges the slowest
+ * 5% of invocations, at the expense of roughly 5% additional load.
+ *
+ * <p>Hedging is only appropriate for idempotent operations, typically reads.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see #getHedgeSpec
+ * @see #setTaskExecutor
+ * @see #setTaskDecorator
+ * @see Mono#firstWithValue
+ * @see Flux#firstWithValue
+ */
+public abstract class AbstractHedgingInterceptor implements MethodInterceptor {
+
+	private static final Log logger = LogFactory.getLog(AbstractHedgingInterceptor.class);
+
+	/**
+	 * Reactive Streams API present on the classpath?
+	 */
+	private static final boolean REACTIVE_STREAMS_PRESENT = ClassUtils.isPresent(
+			"org.reactivestreams.Publisher", AbstractHedgingInterceptor.class.getClassLoader());
+
+	/**
+	 * Virtual threads available on the current JDK?
+	 */
+	private static final boolean VIRTUAL_THREADS_PRESENT = ClassUtils.hasMethod(Thread.class, "ofVirtual");
+
+	private final @Nullable ReactiveAdapterRegistry reactiveAdapterRegistry;
+
+	private final Map<Method, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+
+	private Executor taskExecutor;
+
+	private @Nullable TaskDecorator taskDecorator;
+
+
+	public AbstractHedgingInterceptor() {
+		if (REACTIVE_STREAMS_PRESENT) {
+			this.reactiveAdapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
+		}
+		else {
+			this.reactiveAdapterRegistry = null;
+		}
+		SimpleAsyncTaskExecutor defaultExecutor = new SimpleAsyncTaskExecutor("hedge-");
+		if (VIRTUAL_THREADS_PRESENT) {
+			defaultExecutor.setVirtualThreads(true);
+		}
+		this.taskExecutor = defaultExecutor;
+	}
+
+	/**
+	 * Specify the executor to run imperative attempts on.
+	 * <p>The default is a {@link SimpleAsyncTaskExecutor}, using virtual
+	 * threads on JDK 21+. Since the calling thread waits for the first
+	 * successful attempt, the given executor should be able to run all
+	 * attempts concurrently: a bounded pool with a queue may otherwise
+	 * delay further attempts, defeating the purpose of hedging.
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		Assert.notNull(taskExecutor, "Executor must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Specify a {@link TaskDecorator} to apply to each attempt run on the
+	 * task executor, for example, to propagate thread-bound context such as
+	 * the security context or request attributes from the calling thread.
+	 * <p>The decorator gets applied on the calling thread, in addition to
+	 * any decoration that the executor itself might perform.
+	 * @see org.springframework.core.task.support.ContextPropagatingTaskDecorator
+	 */
+	public void setTaskDecorator(@Nullable TaskDecorator taskDecorator) {
+		this.taskDecorator = taskDecorator;
+	}
+
+
+	@Override
+	public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
+		Method method = invocation.getMethod();
+		Object target = invocation.getThis();
+		Class<?> targetClass = (target != null ? target.getClass() : method.getDeclaringClass());
+		MethodHedgeSpec spec = getHedgeSpec(method, targetClass);
+
+		if (spec == null || (spec.maxAttempts() == 1 && !spec.hasTimeout())) {
+			return invocation.proceed();
+		}
+
+		String methodName = ClassUtils.getQualifiedMethodName(method, targetClass);
+		Class<?> returnType = method.getReturnType();
+
+		if (Future.class.isAssignableFrom(returnType) || CompletionStage.class.isAssignableFrom(returnType)) {
+			if (!returnType.isAssignableFrom(CompletableFuture.class)) {
+				throw new IllegalStateException(("Hedged operation '%s' declares unsupported return type [%s]: " +
+						"use CompletableFuture or CompletionStage").formatted(methodName, returnType.getName()));
+			}
+			return new AsyncHedge(invocation, methodName, spec).start();
+		}
+
+		if (this.reactiveAdapterRegistry != null) {
+			ReactiveAdapter adapter = this.reactiveAdapterRegistry.getAdapter(returnType);
+			if (adapter != null) {
+				Object result = invocation.proceed();
+				if (result == null) {
+					return null;
+				}
+				return new ReactorDelegate().adaptReactiveResult(methodName, result, adapter, spec,
+						determineDelay(method, spec), getLatencyWindow(method, spec));
+			}
+		}
+
+		return invokeHedged(invocation, methodName, spec);
+	}
+
+	private @Nullable Object invokeHedged(MethodInvocation invocation, String methodName, MethodHedgeSpec spec)
+			throws Throwable {
+
+		Method method = invocation.getMethod();
+		LatencyWindow latencyWindow = getLatencyWindow(method, spec);
+		long delayNanos = toNanos(determineDelay(method, spec));
+		long timeoutNanos = toNanos(spec.timeout());
+		long startTime = System.nanoTime();
+		long nextAttemptTime = startTime;
+		int maxAttempts = (invocation instanceof ProxyMethodInvocation ? spec.maxAttempts() : 1);
+		if (maxAttempts == 1) {
+			return (spec.hasTimeout() ? invokeWithTimeout(invocation, methodName, spec) : invocation.proceed());
+		}
+
+		TaskDecorator taskDecorator = this.taskDecorator;
+		Executor executor = (taskDecorator != null ?
+				task -> this.taskExecutor.execute(taskDecorator.decorate(task)) : this.taskExecutor);
+		CompletionService<@Nullable Object> completionService = new ExecutorCompletionService<>(executor);
+		List<Future<@Nullable Object>> attempts = new ArrayList<>(maxAttempts);
+		Throwable failure = null;
+		int failureCount = 0;
+
+		try {
+			while (true) {
+				long now = System.nanoTime();
+				if (attempts.size() < maxAttempts &&
+						(now - nextAttemptTime >= 0 || failureCount == attempts.size())) {
+					try {
+						attempts.add(completionService.submit(attempt(attemptInvocation(invocation), latencyWindow)));
+						nextAttemptTime = now + delayNanos;
+						if (attempts.size() > 1 && logger.isTraceEnabled()) {
+							logger.trace("Issuing attempt %d for hedged operation '%s'".formatted(attempts.size(), methodName));
+						}
+						continue;
+					}
+					catch (RejectedExecutionException ex) {
+						if (attempts.isEmpty()) {
+							throw ex;
+						}
+						// Continue with the attempts that are running already
+						maxAttempts = attempts.size();
+						if (failure != null && failureCount == maxAttempts) {
+							throw failure;
+						}
+					}
+				}
+
+				long waitNanos = (spec.hasTimeout() ? timeoutNanos - (now - startTime) : Long.MAX_VALUE);
+				if (waitNanos <= 0) {
+					throw timeoutException(methodName, spec);
+				}
+				if (attempts.size() < maxAttempts) {
+					waitNanos = Math.min(waitNanos, nextAttemptTime - now);
+				}
+				Future<@Nullable Object> completed = (waitNanos == Long.MAX_VALUE ? completionService.take() :
+						completionService.poll(waitNanos, TimeUnit.NANOSECONDS));
+				if (completed == null) {
+					continue;
+				}
+
+				try {
+					return completed.get();
+				}
+				catch (ExecutionException ex) {
+					Throwable cause = ex.getCause();
+					if (cause == null) {
+						cause = ex;
+					}
+					if (failure == null) {
+						failure = cause;
+					}
+					else if (failure != cause) {
+						failure.addSuppressed(cause);
+					}
+					failureCount++;
+					if (failureCount == maxAttempts) {
+						if (logger.isDebugEnabled()) {
+							logger.debug("Hedged operation '%s' failed".formatted(methodName), failure);
+						}
+						throw failure;
+					}
+				}
+			}
+		}
+		finally {
+			for (Future<?> attempt : attempts) {
+				attempt.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * Perform a single attempt on the calling thread, interrupting it once the
+	 * timeout has elapsed and throwing an {@link InvocationTimeoutException}
+	 * when the invocation returns after that point.
+	 */
+	private static @Nullable Object invokeWithTimeout(MethodInvocation invocation, String methodName,
+			MethodHedgeSpec spec) throws Throwable {
+
+		TimeoutGuard guard = new TimeoutGuard(Thread.currentThread());
+		ScheduledFuture<?> timer = TimerHolder.scheduler.schedule(
+				guard::expire, toNanos(spec.timeout()), TimeUnit.NANOSECONDS);
+		Object result;
+		try {
+			result = invocation.proceed();
+		}
+		catch (Throwable ex) {
+			if (guard.complete()) {
+				InvocationTimeoutException timeoutEx = timeoutException(methodName, spec);
+				timeoutEx.addSuppressed(ex);
+				throw timeoutEx;
+			}
+			throw ex;
+		}
+		finally {
+			timer.cancel(false);
+		}
+		if (guard.complete()) {
+			throw timeoutException(methodName, spec);
+		}
+		return result;
+	}
+
+	/**
+	 * Obtain an independent invocation for an attempt, or the given invocation
+	 * itself if it cannot be cloned (only allowing for a single attempt then).
+	 */
+	private static MethodInvocation attemptInvocation(MethodInvocation invocation) {
+		return (invocation instanceof ProxyMethodInvocation pmi ? pmi.invocableClone() : invocation);
+	}
+
+	private static Callable<@Nullable Object> attempt(MethodInvocation invocation, @Nullable LatencyWindow latencyWindow) {
+		return () -> {
+			long startTime = System.nanoTime();
+			Object result;
+			try {
+				result = invocation.proceed();
+			}
+			catch (Exception | Error ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				throw new UndeclaredThrowableException(ex);
+			}
+			if (latencyWindow != null) {
+				latencyWindow.record(System.nanoTime() - startTime);
+			}
+			return result;
+		};
+	}
+
+	private static InvocationTimeoutException timeoutException(String methodName, MethodHedgeSpec spec) {
+		return new InvocationTimeoutException(
+				"Hedged operation '%s' did not complete within %s".formatted(methodName, spec.timeout()),
+				spec.timeout());
+	}
+
+	private static long toNanos(Duration duration) {
+		try {
+			return duration.toNanos();
+		}
+		catch (ArithmeticException ex) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	private @Nullable LatencyWindow getLatencyWindow(Method method, MethodHedgeSpec spec) {
+		if (spec.percentile() <= 0.0) {
+			return null;
+		}
+		return this.latencyWindows.computeIfAbsent(method, key -> new LatencyWindow(spec.percentile()));
+	}
+
+	/**
+	 * Determine the delay before issuing a further attempt for the given method:
+	 * by default, the configured latency percentile of recent successful attempts
+	 * if available, or the fixed delay of the given specification otherwise.
+	 * @param method the currently executing method
+	 * @param spec the hedging specification for the method
+	 * @return the delay to apply between attempts
+	 */
+	protected Duration determineDelay(Method method, MethodHedgeSpec spec) {
+		LatencyWindow latencyWindow = getLatencyWindow(method, spec);
+		if (latencyWindow != null) {
+			long percentileNanos = latencyWindow.getPercentileNanos();
+			if (percentileNanos >= 0) {
+				return Duration.ofNanos(percentileNanos);
+			}
+		}
+		return spec.delay();
+	}
+
+	/**
+	 * Determine the hedging specification for the given method on the given target.
+	 * @param method the currently executing method
+	 * @param targetClass the class of the current target object
+	 * @return the hedging specification as a {@link MethodHedgeSpec}
+	 */
+	protected abstract @Nullable MethodHedgeSpec getHedgeSpec(Method method, Class<?> targetClass);
+
+
+	/**
+	 * Hedged invocation of a method with a {@code CompletableFuture} or
+	 * {@code CompletionStage} result, completing a new future with the
+	 * first successful attempt.
+	 */
+	private final class AsyncHedge {
+
+		private final MethodInvocation invocation;
+
+		private final String methodName;
+
+		private final MethodHedgeSpec spec;
+
+		private final long delayNanos;
+
+		private final @Nullable LatencyWindow latencyWindow;
+
+		// Further attempts, decorated on the calling thread
+		private final Runnable[] attemptTasks;
+
+		private final CompletableFuture<@Nullable Object> result = new CompletableFuture<>();
+
+		// All following fields guarded by this
+		private final List<Future<?>> attempts = new ArrayList<>();
+
+		private final List<Future<?>> timers = new ArrayList<>();
+
+		private int maxAttempts;
+
+		private int attemptCount;
+
+		private int failureCount;
+
+		private @Nullable Throwable failure;
+
+		AsyncHedge(MethodInvocation invocation, String methodName, MethodHedgeSpec spec) {
+			Method method = invocation.getMethod();
+			this.invocation = invocation;
+			this.methodName = methodName;
+			this.spec = spec;
+			this.delayNanos = toNanos(determineDelay(method, spec));
+			this.latencyWindow = getLatencyWindow(method, spec);
+			this.maxAttempts = (invocation instanceof ProxyMethodInvocation ? spec.maxAttempts() : 1);
+			this.attemptTasks = new Runnable[this.maxAttempts];
+			for (int i = 1; i < this.maxAttempts; i++) {
+				int index = i;
+				Runnable task = () -> runAttempt(index);
+				this.attemptTasks[i] = (taskDecorator != null ? taskDecorator.decorate(task) : task);
+			}
+		}
+
+		CompletableFuture<@Nullable Object> start() {
+			this.result.whenComplete((value, ex) -> cancelAttempts());
+			if (this.spec.hasTimeout()) {
+				addTimer(TimerHolder.scheduler.schedule(
+						() -> this.result.completeExceptionally(timeoutException(this.methodName, this.spec)),
+						toNanos(this.spec.timeout()), TimeUnit.NANOSECONDS));
+			}
+			runAttempt(0);
+			return this.result;
+		}
+
+		private void runAttempt(int index) {
+			boolean furtherAttempts;
+			synchronized (this) {
+				if (this.result.isDone() || index != this.attemptCount || index >= this.maxAttempts) {
+					return;
+				}
+				this.attemptCount++;
+				furtherAttempts = (this.attemptCount < this.maxAttempts);
+			}
+			if (furtherAttempts) {
+				scheduleAttempt(index + 1, this.delayNanos);
+			}
+			if (index > 0 && logger.isTraceEnabled()) {
+				logger.trace("Issuing attempt %d for hedged operation '%s'".formatted(index + 1, this.methodName));
+			}
+
+			long startTime = System.nanoTime();
+			CompletableFuture<?> future;
+			try {
+				Object value = attemptInvocation(this.invocation).proceed();
+				if (value instanceof CompletionStage<?> stage) {
+					future = stage.toCompletableFuture();
+				}
+				else if (value == null) {
+					future = CompletableFuture.completedFuture(null);
+				}
+				else {
+					throw new IllegalStateException(("Hedged operation '%s' returned unsupported Future [%s]: " +
+							"expected CompletionStage").formatted(this.methodName, value.getClass().getName()));
+				}
+			}
+			catch (Throwable ex) {
+				onFailure(ex);
+				return;
+			}
+
+			synchronized (this) {
+				this.attempts.add(future);
+			}
+			if (this.result.isDone()) {
+				future.cancel(true);
+				return;
+			}
+			future.whenComplete((value, ex) -> {
+				if (ex == null) {
+					if (this.latencyWindow != null) {
+						this.latencyWindow.record(System.nanoTime() - startTime);
+					}
+					this.result.complete(value);
+				}
+				else {
+					onFailure(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+				}
+			});
+		}
+
+		private void scheduleAttempt(int index, long delayNanos) {
+			Runnable task = this.attemptTasks[index];
+			Runnable submission = () -> {
+				try {
+					taskExecutor.execute(task);
+				}
+				catch (RejectedExecutionException ex) {
+					onRejected(index, ex);
+				}
+			};
+			if (delayNanos > 0) {
+				addTimer(TimerHolder.scheduler.schedule(submission, delayNanos, TimeUnit.NANOSECONDS));
+			}
+			else {
+				submission.run();
+			}
+		}
+
+		private void addTimer(ScheduledFuture<?> timer) {
+			synchronized (this) {
+				this.timers.add(timer);
+			}
+			if (this.result.isDone()) {
+				timer.cancel(false);
+			}
+		}
+
+		private void onFailure(Throwable ex) {
+			Throwable finalFailure = null;
+			int nextAttempt = -1;
+			synchronized (this) {
+				if (this.failure == null) {
+					this.failure = ex;
+				}
+				else if (this.failure != ex) {
+					this.failure.addSuppressed(ex);
+				}
+				this.failureCount++;
+				if (this.failureCount >= this.maxAttempts) {
+					finalFailure = this.failure;
+				}
+				else if (this.failureCount == this.attemptCount) {
+					nextAttempt = this.attemptCount;
+				}
+			}
+			if (finalFailure != null) {
+				fail(finalFailure);
+			}
+			else if (nextAttempt > 0) {
+				scheduleAttempt(nextAttempt, 0);
+			}
+		}
+
+		private void onRejected(int index, RejectedExecutionException ex) {
+			Throwable finalFailure = null;
+			synchronized (this) {
+				if (index != this.attemptCount) {
+					return;
+				}
+				// Continue with the attempts that are running already
+				this.maxAttempts = this.attemptCount;
+				if (this.failureCount == this.maxAttempts) {
+					finalFailure = this.failure;
+					if (finalFailure == null) {
+						finalFailure = ex;
+					}
+				}
+			}
+			if (finalFailure != null) {
+				fail(finalFailure);
+			}
+		}
+
+		private void fail(Throwable failure) {
+			if (this.result.completeExceptionally(failure) && logger.isDebugEnabled()) {
+				logger.debug("Hedged operation '%s' failed".formatted(this.methodName), failure);
+			}
+		}
+
+		private void cancelAttempts() {
+			List<Future<?>> attemptsToCancel;
+			List<Future<?>> timersToCancel;
+			synchronized (this) {
+				attemptsToCancel = new ArrayList<>(this.attempts);
+				timersToCancel = new ArrayList<>(this.timers);
+			}
+			for (Future<?> timer : timersToCancel) {
+				timer.cancel(false);
+			}
+			for (Future<?> attempt : attemptsToCancel) {
+				attempt.cancel(true);
+			}
+		}
+	}
+
+
+	/**
+	 * Interruption of a single attempt on the calling thread at its timeout,
+	 * unless the attempt has completed before.
+	 */
+	private static final class TimeoutGuard {
+
+		private final Thread thread;
+
+		// All following fields guarded by this
+		private boolean completed;
+
+		private boolean timedOut;
+
+		TimeoutGuard(Thread thread) {
+			this.thread = thread;
+		}
+
+		synchronized void expire() {
+			if (!this.completed) {
+				this.timedOut = true;
+				this.thread.interrupt();
+			}
+		}
+
+		/**
+		 * Mark the attempt as completed, to be called on the attempt's thread.
+		 * @return whether the attempt timed out (with the interrupt flag cleared)
+		 */
+		synchronized boolean complete() {
+			this.completed = true;
+			if (this.timedOut) {
+				Thread.interrupted();
+			}
+			return this.timedOut;
+		}
+	}
+
+
+	/**
+	 * Holder for the scheduler of timeouts and delayed attempts, shared
+	 * between all hedging interceptors and lazily initialized on first use.
+	 */
+	private static final class TimerHolder {
+
+		static final ScheduledExecutorService scheduler;
+
+		static {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hedge-timer-");
+			threadFactory.setDaemon(true);
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+			executor.setRemoveOnCancelPolicy(true);
+			scheduler = executor;
+		}
+	}
+
+
+	/**
+	 * Sliding window of recent successful attempt latencies for a method,
+	 * with the requested percentile recalculated every few samples.
+	 */
+	private static final class LatencyWindow {
+
+		private static final int SIZE = 128;
+
+		private static final int MIN_SAMPLES = 20;
+
+		private static final int RECALCULATION_INTERVAL = 16;
+
+		private final double percentile;
+
+		private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+
+		private final AtomicLong sampleCount = new AtomicLong();
+
+		private volatile long percentileNanos = -1;
+
+		private volatile long percentileSampleCount;
+
+		LatencyWindow(double percentile) {
+			this.percentile = percentile;
+		}
+
+		void record(long nanos) {
+			long index = this.sampleCount.getAndIncrement();
+			this.samples.set((int) (index & (SIZE - 1)), nanos);
+		}
+
+		long getPercentileNanos() {
+			long count = this.sampleCount.get();
+			if (count < MIN_SAMPLES) {
+				return -1;
+			}
+			long cached = this.percentileNanos;
+			if (cached >= 0 && count - this.percentileSampleCount < RECALCULATION_INTERVAL) {
+				return cached;
+			}
+			int size = (int) Math.min(count, SIZE);
+			long[] snapshot = new long[size];
+			for (int i = 0; i < size; i++) {
+				snapshot[i] = this.samples.get(i);
+			}
+			Arrays.sort(snapshot);
+			int rank = (int) Math.ceil(this.percentile / 100.0 * size) - 1;
+			long result = snapshot[Math.max(0, Math.min(rank, size - 1))];
+			this.percentileSampleCount = count;
+			this.percentileNanos = result;
+			return result;
+		}
+	}
+
+
+	/**
+	 * Inner class to avoid a hard dependency on Reactive Streams and Reactor at runtime.
+	 */
+	private static class ReactorDelegate {
+
+		public Object adaptReactiveResult(String methodName, Object result, ReactiveAdapter adapter,
+				MethodHedgeSpec spec, Duration delay, @Nullable LatencyWindow latencyWindow) {
+
+			Publisher<?> publisher = adapter.toPublisher(result);
+			if (adapter.isMultiValue()) {
+				publisher = hedge(Flux.from(publisher), methodName, spec, delay, latencyWindow);
+			}
+			else {
+				publisher = hedge(Mono.from(publisher), methodName, spec, delay, latencyWindow);
+			}
+			return adapter.fromPublisher(publisher);
+		}
+
+		private static <T> Mono<T> hedge(Mono<T> source, String methodName, MethodHedgeSpec spec,
+				Duration delay, @Nullable LatencyWindow latencyWindow) {
+
+			Mono<T> mono = source;
+			if (spec.maxAttempts() > 1) {
+				List<Mono<T>> attempts = new ArrayList<>(spec.maxAttempts());
+				for (int i = 0; i < spec.maxAttempts(); i++) {
+					Mono<T> attempt = Mono.defer(() -> {
+						long startTime = System.nanoTime();
+						return source.doOnNext(value -> record(latencyWindow, startTime));
+					});
+					attempts.add(i > 0 ? attempt.delaySubscription(delay.multipliedBy(i)) : attempt);
+				}
+				mono = Mono.firstWithValue(attempts);
+			}
+			if (spec.hasTimeout()) {
+				mono = mono.timeout(spec.timeout(), Mono.error(() -> timeoutException(methodName, spec)));
+			}
+			return mono;
+		}
+
+		private static <T> Flux<T> hedge(Flux<T> source, String methodName, MethodHedgeSpec spec,
+				Duration delay, @Nullable LatencyWindow latencyWindow) {
+
+			Flux<T> flux = source;
+			if (spec.maxAttempts() > 1) {
+				List<Flux<T>> attempts = new ArrayList<>(spec.maxAttempts());
+				for (int i = 0; i < spec.maxAttempts(); i++) {
+					Flux<T> attempt = Flux.defer(() -> {
+						long startTime = System.nanoTime();
+						AtomicBoolean first = new AtomicBoolean(true);
+						return source.doOnNext(value -> {
+							if (first.compareAndSet(true, false)) {
+								record(latencyWindow, startTime);
+							}
+						});
+					});
+					attempts.add(i > 0 ? attempt.delaySubscription(delay.multipliedBy(i)) : attempt);
+				}
+				flux = Flux.firstWithValue(attempts);
+			}
+			if (spec.hasTimeout()) {
+				// A single deadline for the entire stream, rather than Flux.timeout for each element
+				Flux<T> hedged = flux;
+				flux = Flux.defer(() -> {
+					AtomicBoolean timedOut = new AtomicBoolean();
+					return hedged.takeUntilOther(Mono.delay(spec.timeout()).doOnNext(tick -> timedOut.set(true)))
+							.concatWith(Mono.defer(() -> timedOut.get() ?
+									Mono.error(timeoutException(methodName, spec)) : Mono.empty()));
+				});
+			}
+			return flux;
+		}
+
+		private static void record(@Nullable LatencyWindow latencyWindow, long startTime) {
+			if (latencyWindow != null) {
+				latencyWindow.record(System.nanoTime() - startTime);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.resilience.hedge;
+
+import java.time.Duration;
+
+/**
+ * A specification for hedged invocations of a given method, combining
+ * common hedging characteristics. This roughly matches the annotation
+ * attributes on {@link org.springframework.resilience.annotation.Hedged}.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @param maxAttempts the maximum number of concurrent attempts, including
+ * the initial invocation ({@code 1} for no hedging at all)
+ * @param delay the delay before issuing a further attempt, used as long as
+ * no percentile-based delay is available
+ * @param percentile the latency percentile (between 0 and 100, exclusive) of
+ * recent successful attempts to use as the delay, or {@code 0} for always
+ * using the fixed delay
+ * @param timeout the maximum amount of elapsed time allowed for all attempts,
+ * or {@link Duration#ZERO} for no timeout
+ * @see AbstractHedgingInterceptor#getHedgeSpec
+ * @see SimpleHedgingInterceptor#SimpleHedgingInterceptor(MethodHedgeSpec)
+ * @see org.springframework.resilience.annotation.Hedged
+ */
+public record MethodHedgeSpec(int maxAttempts, Duration delay, double percentile, Duration timeout) {
+
+	/**
+	 * Create a {@code MethodHedgeSpec} for a fixed delay between attempts
+	 * and no overall timeout.
+	 * @param maxAttempts the maximum number of concurrent attempts
+	 * @param delay the delay before issuing a further attempt
+	 */
+	public MethodHedgeSpec(int maxAttempts, Duration delay) {
+		this(maxAttempts, delay, 0.0, Duration.ZERO);
+	}
+
+	/**
+	 * Create a {@code MethodHedgeSpec} for a single attempt within the given
+	 * timeout, without any hedging.
+	 * @param timeout the maximum amount of elapsed time allowed
+	 */
+	public MethodHedgeSpec(Duration timeout) {
+		this(1, Duration.ZERO, 0.0, timeout);
+	}
+
+	public MethodHedgeSpec {
+		if (maxAttempts < 1) {
+			throw new IllegalArgumentException("Invalid maxAttempts (" + maxAttempts + "): must be positive.");
+		}
+		if (delay.isNegative()) {
+			throw new IllegalArgumentException("Invalid delay (" + delay + "): must be >= 0.");
+		}
+		if (percentile < 0.0 || percentile >= 100.0) {
+			throw new IllegalArgumentException("Invalid percentile (" + percentile + "): must be >= 0 and < 100.");
+		}
+		if (timeout.isNegative()) {
+			throw new IllegalArgumentException("Invalid timeout (" + timeout + "): must be >= 0.");
+		}
+	}
+
+
+	boolean hasTimeout() {
+		return (!this.timeout.isNegative() && !this.timeout.isZero());
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.resilience.hedge;
+
+import java.lang.reflect.Method;
+
+/**
+ * A simple concrete hedging interceptor based on a given {@link MethodHedgeSpec}.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ */
+public class SimpleHedgingInterceptor extends AbstractHedgingInterceptor {
+
+	private final MethodHedgeSpec hedgeSpec;
+
+
+	/**
+	 * Create a {@code SimpleHedgingInterceptor} for the given {@link MethodHedgeSpec}.
+	 * @param hedgeSpec the specification to use for all method invocations
+	 */
+	public SimpleHedgingInterceptor(MethodHedgeSpec hedgeSpec) {
+		this.hedgeSpec = hedgeSpec;
+	}
+
+	@Override
+	protected MethodHedgeSpec getHedgeSpec(Method method, Class<?> targetClass) {
+		return this.hedgeSpec;
+	}
+
+}
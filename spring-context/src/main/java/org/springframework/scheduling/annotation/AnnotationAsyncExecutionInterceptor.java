@@ -17,13 +17,29 @@
 package org.springframework.scheduling.annotation;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 
+import org.aopalliance.intercept.MethodInvocation;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.aop.interceptor.AsyncExecutionInterceptor;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.config.EmbeddedValueResolver;
+import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.format.annotation.DurationFormat;
+import org.springframework.format.datetime.standard.DurationFormatterUtils;
+import org.springframework.scheduling.concurrent.KeyedTaskExecutor;
+import org.springframework.util.StringUtils;
+import org.springframework.util.StringValueResolver;
 
 /**
  * Specialization of {@link AsyncExecutionInterceptor} that delegates method execution to
@@ -34,6 +50,10 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
  *
  * <p>Supports detecting qualifier metadata via {@code @Async} at the method or
  * declaring class level. See {@link #getExecutorQualifier(Method)} for details.
+ * As of 7.1, the {@link Async#key()} expression is supported as well, routing
+ * each invocation to the corresponding lane of a {@link KeyedTaskExecutor},
+ * as well as the {@link Async#timeout()} for structured fan-out within a
+ * {@link org.springframework.core.task.TaskScope}.
  *
  * @author Chris Beams
  * @author Stephane Nicoll
@@ -43,6 +63,15 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
  */
 public class AnnotationAsyncExecutionInterceptor extends AsyncExecutionInterceptor {
 
+	private final AsyncKeyExpressionEvaluator keyEvaluator = new AsyncKeyExpressionEvaluator();
+
+	private final Map<Method, AsyncAttributes> attributeCache = new ConcurrentHashMap<>(16);
+
+	private @Nullable BeanFactoryResolver beanResolver;
+
+	private @Nullable StringValueResolver embeddedValueResolver;
+
+
 	/**
 	 * Create a new {@code AnnotationAsyncExecutionInterceptor} with the given executor
 	 * and a simple {@link AsyncUncaughtExceptionHandler}.
@@ -90,4 +119,88 @@ public class AnnotationAsyncExecutionInterceptor extends AsyncExecutionIntercept
 		return (async != null ? async.value() : null);
 	}
 
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		super.setBeanFactory(beanFactory);
+		this.beanResolver = new BeanFactoryResolver(beanFactory);
+		if (beanFactory instanceof ConfigurableBeanFactory configurableBeanFactory) {
+			this.embeddedValueResolver = new EmbeddedValueResolver(configurableBeanFactory);
+		}
+		this.attributeCache.clear();
+	}
+
+	/**
+	 * Route the invocation to the lane of a {@link KeyedTaskExecutor} for the key
+	 * computed from the {@link Async#key} expression, if specified at the method
+	 * or declaring class level (with the same precedence as for the qualifier).
+	 * @since 7.1
+	 * @see KeyedTaskExecutor#forKey(Object)
+	 */
+	@Override
+	protected AsyncTaskExecutor adaptAsyncExecutor(
+			AsyncTaskExecutor executor, Method method, MethodInvocation invocation) {
+
+		String keyExpression = getAsyncAttributes(method).keyExpression();
+		if (keyExpression.isEmpty()) {
+			return executor;
+		}
+		if (!(executor instanceof KeyedTaskExecutor keyedTaskExecutor)) {
+			throw new IllegalStateException("@Async key specified on method '" + method.toGenericString() +
+					"' but target executor is not a KeyedTaskExecutor: " + executor);
+		}
+		Object target = invocation.getThis();
+		Class<?> targetClass = (target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass());
+		Object key = this.keyEvaluator.key(keyExpression, method, new AnnotatedElementKey(method, targetClass),
+				invocation.getArguments(), target, this.beanResolver);
+		return (key != null ? keyedTaskExecutor.forKey(key) : executor);
+	}
+
+	/**
+	 * Return the timeout specified via {@link Async#timeout} or
+	 * {@link Async#timeoutString} at the method or declaring class level
+	 * (with the same precedence as for the qualifier).
+	 * @since 7.1
+	 */
+	@Override
+	protected @Nullable Duration determineTimeout(Method method) {
+		return getAsyncAttributes(method).timeout();
+	}
+
+	private AsyncAttributes getAsyncAttributes(Method method) {
+		return this.attributeCache.computeIfAbsent(method, key -> {
+			Async async = AnnotatedElementUtils.findMergedAnnotation(method, Async.class);
+			if (async == null) {
+				async = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Async.class);
+			}
+			if (async == null) {
+				return AsyncAttributes.NONE;
+			}
+			Duration timeout = parseTimeout(async);
+			return new AsyncAttributes(async.key(), (timeout.isZero() ? null : timeout));
+		});
+	}
+
+	private Duration parseTimeout(Async async) {
+		String timeoutString = async.timeoutString();
+		if (StringUtils.hasText(timeoutString)) {
+			if (this.embeddedValueResolver != null) {
+				timeoutString = this.embeddedValueResolver.resolveStringValue(timeoutString);
+			}
+			if (StringUtils.hasText(timeoutString)) {
+				DurationFormat.Unit unit = DurationFormat.Unit.fromChronoUnit(async.timeUnit().toChronoUnit());
+				return DurationFormatterUtils.detectAndParse(timeoutString, unit);
+			}
+		}
+		return Duration.of(async.timeout(), async.timeUnit().toChronoUnit());
+	}
+
+
+	/**
+	 * Per-method attributes derived from the {@code @Async} annotation.
+	 */
+	private record AsyncAttributes(String keyExpression, @Nullable Duration timeout) {
+
+		static final AsyncAttributes NONE = new AsyncAttributes("", null);
+	}
+
 }
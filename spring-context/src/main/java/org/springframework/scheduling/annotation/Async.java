@@ -21,6 +21,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.aot.hint.annotation.Reflective;
 
@@ -48,6 +49,13 @@ import org.springframework.aot.hint.annotation.Reflective;
  * provided value will be exposed to the caller through the actual asynchronous
  * {@code Future} handle at runtime.
  *
+ * <p>As of 7.1, a {@link #timeout} may be specified, executing the method within a
+ * {@link org.springframework.core.task.TaskScope} for structured fan-out of subtasks:
+ * subtasks forked through {@code TaskScope.open()} within the method run on the same
+ * executor, adhere to the method's deadline, and get cancelled when the method times
+ * out or its returned {@code Future} is cancelled. This is particularly useful with an
+ * executor based on virtual threads.
+ *
  * @author Juergen Hoeller
  * @author Chris Beams
  * @since 3.0
@@ -78,4 +86,66 @@ public @interface Async {
 	 */
 	String value() default "";
 
+	/**
+	 * Spring Expression Language (SpEL) expression for computing an ordering key
+	 * for each invocation: invocations with equal keys are executed one at a time
+	 * in submission order, while invocations with different keys may run in parallel.
+	 * <p>The target executor needs to be a
+	 * {@link org.springframework.scheduling.concurrent.KeyedTaskExecutor}, typically
+	 * selected through {@link #value}. An expression evaluating to {@code null}
+	 * leads to unordered execution for the particular invocation.
+	 * <p>The SpEL expression evaluates against a dedicated context that provides
+	 * the following meta-data:
+	 * <ul>
+	 * <li>{@code #root.method} and {@code #root.target} for references to the
+	 * {@link java.lang.reflect.Method method} and target object, respectively.</li>
+	 * <li>{@code #root.args} for a reference to the method arguments.</li>
+	 * <li>Method arguments can be accessed by index. For example, the first
+	 * argument can be accessed via {@code #root.args[0]}, {@code #p0}, or
+	 * {@code #a0}. Arguments can also be accessed by name if that information
+	 * is available.</li>
+	 * </ul>
+	 * <p>Default is {@code ""}, meaning no ordering key.
+	 * @since 7.1
+	 * @see org.springframework.scheduling.concurrent.KeyedTaskExecutor#forKey(Object)
+	 */
+	String key() default "";
+
+	/**
+	 * The maximum amount of time for the method execution, starting with the
+	 * invocation, after which a returned {@code CompletableFuture} completes with
+	 * a {@link java.util.concurrent.TimeoutException} and the method's
+	 * {@link org.springframework.core.task.TaskScope} gets cancelled.
+	 * <p>For {@code void} and other {@code Future} return types, the timeout only
+	 * serves as the deadline of the method's {@code TaskScope}, bounding
+	 * {@link org.springframework.core.task.TaskScope#join()} for the method's
+	 * subtasks but not the method execution itself.
+	 * <p>In any case, the method does not get invoked at all if its deadline
+	 * has passed while waiting for an executor thread.
+	 * <p>The default is {@code 0}, which signals that no timeout should be applied.
+	 * <p>The time unit is milliseconds by default but can be overridden via
+	 * {@link #timeUnit}.
+	 * @since 7.1
+	 * @see org.springframework.core.task.TaskScope#open()
+	 */
+	long timeout() default 0;
+
+	/**
+	 * The timeout, as a duration String.
+	 * <p>A non-empty value specified here overrides the {@link #timeout()} attribute.
+	 * <p>The duration String can be a plain integer (using the {@link #timeUnit()}),
+	 * any of the known {@link org.springframework.format.annotation.DurationFormat.Style
+	 * DurationFormat.Style} values, or a Spring-style "${...}" placeholder.
+	 * @since 7.1
+	 * @see #timeout()
+	 */
+	String timeoutString() default "";
+
+	/**
+	 * The {@link TimeUnit} to use for {@link #timeout} and {@link #timeoutString}.
+	 * <p>The default is {@link TimeUnit#MILLISECONDS}.
+	 * @since 7.1
+	 */
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
 }
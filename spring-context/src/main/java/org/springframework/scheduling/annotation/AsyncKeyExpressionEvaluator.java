@@ -0,0 +1,59 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.annotation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.context.expression.CachedExpressionEvaluator;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.Expression;
+
+/**
+ * Utility class for handling SpEL expression parsing for {@code @Async} keys.
+ * <p>Meant to be used as a reusable, thread-safe component.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see Async#key()
+ */
+class AsyncKeyExpressionEvaluator extends CachedExpressionEvaluator {
+
+	private final Map<ExpressionKey, Expression> keyCache = new ConcurrentHashMap<>(64);
+
+
+	/**
+	 * Evaluate the specified key expression for the given invocation.
+	 */
+	public @Nullable Object key(String keyExpression, Method method, AnnotatedElementKey methodKey,
+			@Nullable Object[] args, @Nullable Object target, @Nullable BeanResolver beanResolver) {
+
+		AsyncKeyExpressionRootObject rootObject = new AsyncKeyExpressionRootObject(method, args, target);
+		MethodBasedEvaluationContext evaluationContext = new MethodBasedEvaluationContext(
+				rootObject, method, args, getParameterNameDiscoverer());
+		if (beanResolver != null) {
+			evaluationContext.setBeanResolver(beanResolver);
+		}
+		return getExpression(this.keyCache, methodKey, keyExpression).getValue(evaluationContext);
+	}
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.annotation;
+
+import java.lang.reflect.Method;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Root object used during {@code @Async} key expression evaluation.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @param method the asynchronous method
+ * @param args the arguments supplied to the method
+ * @param target the target object
+ * @see Async#key()
+ */
+record AsyncKeyExpressionRootObject(Method method, @Nullable Object[] args, @Nullable Object target) {
+}
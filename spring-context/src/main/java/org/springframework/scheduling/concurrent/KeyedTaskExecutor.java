@@ -0,0 +1,385 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.SchedulingTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.FutureUtils;
+
+/**
+ * {@link AsyncTaskExecutor} which executes tasks submitted for the same key
+ * in submission order, one at a time, while tasks for different keys run in
+ * parallel: for example, for processing events per account in order without
+ * external locking.
+ *
+ * <p>Keys are hashed to a fixed number of <i>lanes</i>, each of which is drained
+ * by at most one worker thread at any given time. The lanes are executed on a
+ * work-stealing {@link ForkJoinPool}: a lane which becomes ready is queued with
+ * the submitting worker (or the common submission queue), and idle workers
+ * steal ready lanes from busy ones, keeping all workers busy as long as there
+ * are enough active keys. Tasks for different keys may end up in the same lane
+ * and are then executed in submission order as well; the number of lanes is
+ * therefore a multiple of the pool size by default. After a
+ * {@link #setMaxBatchSize batch} of tasks, a busy lane yields its worker
+ * to other ready lanes.
+ *
+ * <p>Tasks submitted without a key through the regular {@link #execute(Runnable)}
+ * and {@code submit} methods are executed on the pool directly, without any
+ * ordering guarantees. Use {@link #forKey(Object)} to obtain an executor view
+ * for a specific key, as applied by the {@code @Async} key attribute.
+ *
+ * <p>Since the worker threads are {@link ForkJoinWorkerThread ForkJoinWorkerThreads},
+ * a custom {@link #setThreadFactory ThreadFactory} and {@link #setVirtualThreads
+ * virtual threads} are not supported; thread names, priority and daemon flag
+ * are applied from this executor's configuration.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see #execute(Object, Runnable)
+ * @see #forKey(Object)
+ * @see org.springframework.scheduling.annotation.Async#key()
+ */
+@SuppressWarnings("serial")
+public class KeyedTaskExecutor extends ExecutorConfigurationSupport
+		implements AsyncTaskExecutor, SchedulingTaskExecutor {
+
+	/**
+	 * The default maximum number of tasks that a lane executes before
+	 * yielding its worker thread to other lanes: 16.
+	 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 16;
+
+
+	private int poolSize = Runtime.getRuntime().availableProcessors();
+
+	private int laneCount = -1;
+
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+	private @Nullable TaskDecorator taskDecorator;
+
+	private @Nullable ForkJoinPool forkJoinPool;
+
+	private Lane @Nullable [] lanes;
+
+
+	/**
+	 * Set the number of worker threads.
+	 * Default is the number of available processors.
+	 */
+	public void setPoolSize(int poolSize) {
+		Assert.isTrue(poolSize > 0, "'poolSize' must be 1 or higher");
+		this.poolSize = poolSize;
+	}
+
+	/**
+	 * Return the number of worker threads.
+	 */
+	public int getPoolSize() {
+		return this.poolSize;
+	}
+
+	/**
+	 * Set the number of lanes that keys are hashed to, rounded up to the next
+	 * power of two. Default is four times the {@link #setPoolSize pool size}.
+	 * <p>A higher number of lanes reduces the likelihood of unrelated keys
+	 * being serialized behind each other, at the expense of a queue per lane.
+	 */
+	public void setLaneCount(int laneCount) {
+		Assert.isTrue(laneCount > 0, "'laneCount' must be 1 or higher");
+		this.laneCount = laneCount;
+	}
+
+	/**
+	 * Set the maximum number of tasks that a lane executes in one go before
+	 * yielding its worker thread to other ready lanes.
+	 * Default is {@value #DEFAULT_MAX_BATCH_SIZE}.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "'maxBatchSize' must be 1 or higher");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Specify a custom {@link TaskDecorator} to be applied to any {@link Runnable}
+	 * about to be executed, keyed or not.
+	 * @see ThreadPoolTaskExecutor#setTaskDecorator
+	 */
+	public void setTaskDecorator(TaskDecorator taskDecorator) {
+		this.taskDecorator = taskDecorator;
+	}
+
+
+	@Override
+	protected ExecutorService initializeExecutor(
+			ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+
+		Assert.state(threadFactory == this,
+				"KeyedTaskExecutor does not support a custom ThreadFactory or virtual threads");
+
+		int count = (this.laneCount > 0 ? this.laneCount : this.poolSize * 4);
+		count = (count > 1 ? Integer.highestOneBit(count - 1) << 1 : 1);
+		Lane[] lanes = new Lane[count];
+		for (int i = 0; i < count; i++) {
+			lanes[i] = new Lane();
+		}
+		this.lanes = lanes;
+
+		ForkJoinPool.ForkJoinWorkerThreadFactory workerThreadFactory = pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName(nextThreadName());
+			thread.setPriority(getThreadPriority());
+			thread.setDaemon(isDaemon());
+			return thread;
+		};
+		ForkJoinPool pool = new ForkJoinPool(this.poolSize, workerThreadFactory, null, true) {
+			@Override
+			public List<Runnable> shutdownNow() {
+				super.shutdownNow();
+				return drainLanes();
+			}
+		};
+		this.forkJoinPool = pool;
+		return pool;
+	}
+
+	/**
+	 * Return the underlying ForkJoinPool for native access.
+	 * @return the underlying ForkJoinPool (never {@code null})
+	 * @throws IllegalStateException if the KeyedTaskExecutor hasn't been initialized yet
+	 */
+	public ForkJoinPool getForkJoinPool() throws IllegalStateException {
+		Assert.state(this.forkJoinPool != null, "KeyedTaskExecutor not initialized");
+		return this.forkJoinPool;
+	}
+
+	/**
+	 * Return the number of lanes that keys are hashed to.
+	 * @throws IllegalStateException if the KeyedTaskExecutor hasn't been initialized yet
+	 */
+	public int getLaneCount() {
+		return obtainLanes().length;
+	}
+
+	/**
+	 * Return the number of keyed tasks which are currently waiting
+	 * for execution or executing.
+	 */
+	public int getQueueSize() {
+		int count = 0;
+		if (this.lanes != null) {
+			for (Lane lane : this.lanes) {
+				count += lane.pending.get();
+			}
+		}
+		return count;
+	}
+
+
+	@Override
+	public void execute(Runnable task) {
+		ForkJoinPool pool = getForkJoinPool();
+		try {
+			pool.execute(decorate(task));
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException(pool, task, ex);
+		}
+	}
+
+	@Override
+	public Future<?> submit(Runnable task) {
+		FutureTask<Object> future = new FutureTask<>(task, null);
+		execute(future);
+		return future;
+	}
+
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+		FutureTask<T> future = new FutureTask<>(task);
+		execute(future);
+		return future;
+	}
+
+	/**
+	 * Execute the given task after all previously submitted tasks for the same key.
+	 * @param key the ordering key (for example, an account identifier)
+	 * @param task the {@code Runnable} to execute
+	 * @throws TaskRejectedException if the executor has been shut down
+	 */
+	public void execute(Object key, Runnable task) {
+		Assert.notNull(key, "Key must not be null");
+		Lane[] lanes = obtainLanes();
+		lanes[spread(key.hashCode()) & (lanes.length - 1)].add(decorate(task));
+	}
+
+	/**
+	 * Submit the given task for execution after all previously submitted tasks
+	 * for the same key, receiving a Future representing that task.
+	 * @param key the ordering key (for example, an account identifier)
+	 * @param task the {@code Callable} to execute
+	 * @return a Future representing pending completion of the task
+	 * @throws TaskRejectedException if the executor has been shut down
+	 */
+	public <T> Future<T> submit(Object key, Callable<T> task) {
+		FutureTask<T> future = new FutureTask<>(task);
+		execute(key, future);
+		return future;
+	}
+
+	/**
+	 * Submit the given task for execution after all previously submitted tasks
+	 * for the same key, receiving a {@code CompletableFuture} representing that task.
+	 * @param key the ordering key (for example, an account identifier)
+	 * @param task the {@code Callable} to execute
+	 * @return a {@code CompletableFuture} representing pending completion of the task
+	 * @throws TaskRejectedException if the executor has been shut down
+	 */
+	public <T> CompletableFuture<T> submitCompletable(Object key, Callable<T> task) {
+		return FutureUtils.callAsync(task, forKey(key));
+	}
+
+	/**
+	 * Return an executor view which executes all of its tasks in the lane for
+	 * the given key, in submission order.
+	 * @param key the ordering key (for example, an account identifier)
+	 * @return the executor view for the given key
+	 */
+	public AsyncTaskExecutor forKey(Object key) {
+		Assert.notNull(key, "Key must not be null");
+		return task -> execute(key, task);
+	}
+
+
+	private Runnable decorate(Runnable task) {
+		return (this.taskDecorator != null ? this.taskDecorator.decorate(task) : task);
+	}
+
+	private Lane[] obtainLanes() {
+		Assert.state(this.lanes != null, "KeyedTaskExecutor not initialized");
+		return this.lanes;
+	}
+
+	private List<Runnable> drainLanes() {
+		List<Runnable> remainingTasks = new ArrayList<>();
+		if (this.lanes != null) {
+			for (Lane lane : this.lanes) {
+				Runnable task;
+				while ((task = lane.tasks.poll()) != null) {
+					remainingTasks.add(task);
+				}
+			}
+		}
+		return remainingTasks;
+	}
+
+	private static int spread(int hash) {
+		return (hash ^ (hash >>> 16));
+	}
+
+
+	/**
+	 * A queue of tasks executed by at most one worker at a time.
+	 * The lane is scheduled on the pool when its first pending task
+	 * arrives, and reschedules itself after each batch while tasks
+	 * remain, so that no other worker can pick it up in between.
+	 */
+	private final class Lane implements Runnable {
+
+		final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+		final AtomicInteger pending = new AtomicInteger();
+
+		void add(Runnable task) {
+			this.tasks.add(task);
+			if (this.pending.getAndIncrement() == 0) {
+				ForkJoinPool pool = getForkJoinPool();
+				try {
+					pool.execute(this);
+				}
+				catch (RejectedExecutionException ex) {
+					this.tasks.remove(task);
+					this.pending.decrementAndGet();
+					throw new TaskRejectedException(pool, task, ex);
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			int batch = 0;
+			while (true) {
+				Runnable task = this.tasks.poll();
+				if (task == null) {
+					// Drained on shutdown
+					return;
+				}
+				runTask(task);
+				if (this.pending.decrementAndGet() == 0) {
+					return;
+				}
+				if (++batch >= maxBatchSize) {
+					try {
+						// Yield to other ready lanes, keeping ownership of this lane
+						getForkJoinPool().execute(this);
+						return;
+					}
+					catch (RejectedExecutionException ex) {
+						// Shutting down: keep draining in the current thread
+					}
+				}
+			}
+		}
+
+		private void runTask(Runnable task) {
+			beforeExecute(Thread.currentThread(), task);
+			Throwable failure = null;
+			try {
+				task.run();
+			}
+			catch (Throwable ex) {
+				failure = ex;
+				logger.error("Unexpected error occurred in keyed task", ex);
+			}
+			finally {
+				afterExecute(task, failure);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,651 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.DelegatingErrorHandlingRunnable;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * A {@link TaskScheduler} implementation based on a hashed timer wheel, designed
+ * for a large number of fine-grained delayed tasks such as per-request deadlines
+ * or session expirations. Scheduling and cancelling a task are constant-time
+ * operations without contention on a shared priority queue, in contrast to the
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} underneath
+ * {@link ThreadPoolTaskScheduler} and {@link SimpleAsyncTaskScheduler}.
+ *
+ * <p>A single wheel thread advances through the wheel once per tick and hands
+ * off expired tasks for execution. Tasks further away than a full revolution
+ * of the wheel remain in their bucket for the corresponding number of rounds.
+ * As a consequence, tasks fire with a precision of one tick: they never fire
+ * early but may fire up to one {@link #setTickDuration tick duration} late.
+ * The wheel thread is started on first use and stopped on {@link #close()}.
+ *
+ * <p>Like {@link SimpleAsyncTaskScheduler}, this scheduler extends
+ * {@link SimpleAsyncTaskExecutor}, executing every task in an individual
+ * thread: an attractive choice with {@link #setVirtualThreads virtual threads}.
+ * Alternatively, a {@link #setTargetTaskExecutor target executor} can be
+ * specified for task execution. Fixed-delay tasks are rescheduled on
+ * completion of each execution, without blocking the wheel thread.
+ *
+ * <p><b>NOTE: Cancelling a task does not interrupt a running execution.</b>
+ * A {@link ScheduledFuture} handle of a one-time task completes once the
+ * execution of the task has finished.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see #setTickDuration
+ * @see #setTicksPerWheel
+ * @see #setVirtualThreads
+ * @see SimpleAsyncTaskScheduler
+ */
+@SuppressWarnings("serial")
+public class TimerWheelTaskScheduler extends SimpleAsyncTaskExecutor implements TaskScheduler {
+
+	/**
+	 * The default tick duration: 10 milliseconds.
+	 */
+	public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+
+	/**
+	 * The default number of ticks (buckets) per wheel: 512.
+	 */
+	public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+
+	private final Queue<WheelTask> pendingTasks = new ConcurrentLinkedQueue<>();
+
+	private final Queue<WheelTask> cancelledTasks = new ConcurrentLinkedQueue<>();
+
+	private final Lock wheelLock = new ReentrantLock();
+
+	private Duration tickDuration = DEFAULT_TICK_DURATION;
+
+	private int ticksPerWheel = DEFAULT_TICKS_PER_WHEEL;
+
+	private @Nullable ErrorHandler errorHandler;
+
+	private Clock clock = Clock.systemDefaultZone();
+
+	private @Nullable Executor targetTaskExecutor;
+
+	private volatile @Nullable Wheel wheel;
+
+
+	/**
+	 * Set the duration of a single tick of the wheel, that is, the precision
+	 * of scheduled task execution. The default is 10 milliseconds.
+	 * <p>Needs to be set before the first task gets scheduled.
+	 */
+	public void setTickDuration(Duration tickDuration) {
+		Assert.isTrue(!tickDuration.isNegative() && !tickDuration.isZero(), "Tick duration must be positive");
+		Assert.state(this.wheel == null, "Wheel already started");
+		this.tickDuration = tickDuration;
+	}
+
+	/**
+	 * Set the number of ticks (buckets) per wheel, rounded up to a power of two.
+	 * The default is 512. A larger wheel reduces the number of rounds that
+	 * long-delayed tasks wait for, at the expense of memory.
+	 * <p>Needs to be set before the first task gets scheduled.
+	 */
+	public void setTicksPerWheel(int ticksPerWheel) {
+		Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= (1 << 30), "Ticks per wheel must be between 1 and 2^30");
+		Assert.state(this.wheel == null, "Wheel already started");
+		this.ticksPerWheel = ticksPerWheel;
+	}
+
+	/**
+	 * Provide an {@link ErrorHandler} strategy.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		Assert.notNull(errorHandler, "ErrorHandler must not be null");
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Set the clock to use for scheduling purposes.
+	 * <p>The default clock is the system clock for the default time zone.
+	 * @see Clock#systemDefaultZone()
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	@Override
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Specify a custom target {@link Executor} to delegate to for
+	 * the individual execution of scheduled tasks. This can for example
+	 * be set to a separate thread pool for executing scheduled tasks,
+	 * whereas this scheduler keeps using its single wheel thread.
+	 * <p>If not set, the regular {@link SimpleAsyncTaskExecutor}
+	 * arrangements kicks in with a new thread per task.
+	 */
+	public void setTargetTaskExecutor(Executor targetTaskExecutor) {
+		this.targetTaskExecutor = (targetTaskExecutor == this ? null : targetTaskExecutor);
+	}
+
+
+	@Override
+	protected void doExecute(Runnable task) {
+		if (this.targetTaskExecutor != null) {
+			this.targetTaskExecutor.execute(task);
+		}
+		else {
+			super.doExecute(task);
+		}
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		super.execute(TaskUtils.decorateTaskWithErrorHandler(task, this.errorHandler, false));
+	}
+
+	@Override
+	public Future<?> submit(Runnable task) {
+		return super.submit(TaskUtils.decorateTaskWithErrorHandler(task, this.errorHandler, false));
+	}
+
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+		return super.submit(new DelegatingErrorHandlingCallable<>(task, this.errorHandler));
+	}
+
+	@Override
+	public @Nullable ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+		SimpleTriggerContext triggerContext = new SimpleTriggerContext(this.clock);
+		Instant nextExecution = trigger.nextExecution(triggerContext);
+		if (nextExecution == null) {
+			return null;
+		}
+		return enqueue(new WheelTask(this, errorHandling(task), delayFrom(nextExecution), 0, trigger, triggerContext));
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+		return enqueue(new WheelTask(this, errorHandling(task), delayFrom(startTime), 0, null, null));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+		return enqueue(new WheelTask(this, errorHandling(task), delayFrom(startTime), positive(period), null, null));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+		return enqueue(new WheelTask(this, errorHandling(task), 0, positive(period), null, null));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+		return enqueue(new WheelTask(this, errorHandling(task), delayFrom(startTime), -positive(delay), null, null));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+		return enqueue(new WheelTask(this, errorHandling(task), 0, -positive(delay), null, null));
+	}
+
+	private Runnable errorHandling(Runnable task) {
+		return new DelegatingErrorHandlingRunnable(task,
+				(this.errorHandler != null ? this.errorHandler : TaskUtils.getDefaultErrorHandler(true)));
+	}
+
+	private long delayFrom(Instant startTime) {
+		return Math.max(0, Duration.between(this.clock.instant(), startTime).toNanos());
+	}
+
+	private static long positive(Duration duration) {
+		long nanos = duration.toNanos();
+		Assert.isTrue(nanos > 0, "Period/delay must be positive");
+		return nanos;
+	}
+
+	private WheelTask enqueue(WheelTask task) {
+		if (!isActive()) {
+			throw new TaskRejectedException(getClass().getSimpleName() + " is not active");
+		}
+		startWheelIfNecessary();
+		this.pendingTasks.add(task);
+		return task;
+	}
+
+	private void startWheelIfNecessary() {
+		if (this.wheel == null) {
+			this.wheelLock.lock();
+			try {
+				if (this.wheel == null) {
+					Wheel wheel = new Wheel(this.tickDuration.toNanos(), this.ticksPerWheel);
+					wheel.thread = newThread(wheel);
+					wheel.thread.start();
+					this.wheel = wheel;
+				}
+			}
+			finally {
+				this.wheelLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Hand off an expired task for execution.
+	 */
+	private void dispatch(WheelTask task) {
+		try {
+			super.execute(task);
+		}
+		catch (RuntimeException ex) {
+			task.cancel(false);
+			if (isActive()) {
+				(this.errorHandler != null ? this.errorHandler : TaskUtils.getDefaultErrorHandler(true)).handleError(ex);
+			}
+		}
+	}
+
+	/**
+	 * Return the number of tasks currently waiting for execution,
+	 * including tasks that have been scheduled but not yet been
+	 * placed into the wheel.
+	 */
+	public int getScheduledTaskCount() {
+		Wheel wheel = this.wheel;
+		return (wheel != null ? wheel.taskCount : 0) + this.pendingTasks.size();
+	}
+
+	/**
+	 * Stop the wheel thread, cancelling all remaining scheduled tasks,
+	 * and close the underlying executor.
+	 * <p>Waits for the wheel thread to terminate, with all remaining
+	 * tasks reliably cancelled when this method returns.
+	 */
+	@Override
+	public void close() {
+		super.close();
+		Wheel wheel = this.wheel;
+		if (wheel != null) {
+			wheel.stop();
+		}
+		WheelTask task;
+		while ((task = this.pendingTasks.poll()) != null) {
+			task.cancel(false);
+		}
+	}
+
+
+	/**
+	 * The wheel itself: a ring of buckets, each holding a doubly linked list of
+	 * tasks. Only accessed by the wheel thread, apart from the task count.
+	 */
+	private final class Wheel implements Runnable {
+
+		private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+		private final long startTime = System.nanoTime();
+
+		private final long tickNanos;
+
+		private final Bucket[] buckets;
+
+		private final int mask;
+
+		private long tick;
+
+		@Nullable Thread thread;
+
+		private volatile boolean running = true;
+
+		volatile int taskCount;
+
+		Wheel(long tickNanos, int ticksPerWheel) {
+			int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+			size = Math.max(1, size);
+			this.tickNanos = tickNanos;
+			this.buckets = new Bucket[size];
+			for (int i = 0; i < size; i++) {
+				this.buckets[i] = new Bucket();
+			}
+			this.mask = size - 1;
+		}
+
+		@Override
+		public void run() {
+			while (this.running) {
+				long tickDeadline = this.startTime + (this.tick + 1) * this.tickNanos;
+				long sleepNanos = tickDeadline - System.nanoTime();
+				if (sleepNanos > 0) {
+					LockSupport.parkNanos(this, sleepNanos);
+					continue;
+				}
+				removeCancelledTasks();
+				transferPendingTasks();
+				expireTasks(this.buckets[(int) (this.tick & this.mask)], tickDeadline);
+				this.tick++;
+			}
+			// Shutdown: cancel all remaining tasks
+			for (Bucket bucket : this.buckets) {
+				WheelTask task;
+				while ((task = bucket.head) != null) {
+					bucket.remove(task);
+					task.cancel(false);
+				}
+			}
+			this.taskCount = 0;
+			cancelledTasks.clear();
+		}
+
+		void stop() {
+			this.running = false;
+			Thread thread = this.thread;
+			if (thread != null && thread != Thread.currentThread()) {
+				LockSupport.unpark(thread);
+				try {
+					thread.join();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		private void removeCancelledTasks() {
+			WheelTask task;
+			while ((task = cancelledTasks.poll()) != null) {
+				if (task.bucket != null) {
+					task.bucket.remove(task);
+					this.taskCount--;
+				}
+			}
+		}
+
+		private void transferPendingTasks() {
+			int transferred = 0;
+			while (transferred < MAX_TRANSFERS_PER_TICK) {
+				WheelTask task = pendingTasks.poll();
+				if (task == null) {
+					break;
+				}
+				if (task.isCancelled()) {
+					continue;
+				}
+				transferred++;
+				// Tick at which the task expires, not earlier than the current tick
+				long expirationTick = Math.max(ceilDiv(task.deadline - this.startTime, this.tickNanos) - 1, this.tick);
+				task.remainingRounds = (expirationTick - this.tick) / this.buckets.length;
+				this.buckets[(int) (expirationTick & this.mask)].add(task);
+				this.taskCount++;
+			}
+		}
+
+		private void expireTasks(Bucket bucket, long tickDeadline) {
+			WheelTask task = bucket.head;
+			while (task != null) {
+				WheelTask next = task.next;
+				if (task.isCancelled()) {
+					bucket.remove(task);
+					this.taskCount--;
+				}
+				else if (task.remainingRounds <= 0 && task.deadline <= tickDeadline) {
+					bucket.remove(task);
+					this.taskCount--;
+					dispatch(task);
+				}
+				else {
+					task.remainingRounds--;
+				}
+				task = next;
+			}
+		}
+
+		private static long ceilDiv(long x, long y) {
+			return -Math.floorDiv(-x, y);
+		}
+	}
+
+
+	/**
+	 * A bucket of the wheel: a doubly linked list of tasks.
+	 */
+	private static final class Bucket {
+
+		@Nullable WheelTask head;
+
+		@Nullable WheelTask tail;
+
+		void add(WheelTask task) {
+			task.bucket = this;
+			if (this.tail == null) {
+				this.head = task;
+				this.tail = task;
+			}
+			else {
+				this.tail.next = task;
+				task.prev = this.tail;
+				this.tail = task;
+			}
+		}
+
+		void remove(WheelTask task) {
+			WheelTask prev = task.prev;
+			WheelTask next = task.next;
+			if (prev != null) {
+				prev.next = next;
+			}
+			else {
+				this.head = next;
+			}
+			if (next != null) {
+				next.prev = prev;
+			}
+			else {
+				this.tail = prev;
+			}
+			task.prev = null;
+			task.next = null;
+			task.bucket = null;
+		}
+	}
+
+
+	/**
+	 * A scheduled task in the wheel, serving as its own {@link ScheduledFuture}
+	 * handle and being rescheduled after each execution if periodic.
+	 */
+	private static final class WheelTask implements ScheduledFuture<Object>, Runnable {
+
+		private static final int WAITING = 0;
+
+		private static final int RUNNING = 1;
+
+		private static final int CANCELLED = 2;
+
+		private static final int DONE = 3;
+
+		private static final AtomicIntegerFieldUpdater<WheelTask> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(WheelTask.class, "state");
+
+		private final TimerWheelTaskScheduler scheduler;
+
+		private final Runnable task;
+
+		// Positive for a fixed rate, negative for a fixed delay, zero for none
+		private final long period;
+
+		private final @Nullable Trigger trigger;
+
+		private final @Nullable SimpleTriggerContext triggerContext;
+
+		private final CompletableFuture<Object> completion = new CompletableFuture<>();
+
+		private volatile int state = WAITING;
+
+		volatile long deadline;
+
+		// Accessed by the wheel thread only
+		long remainingRounds;
+
+		@Nullable WheelTask prev;
+
+		@Nullable WheelTask next;
+
+		@Nullable Bucket bucket;
+
+		WheelTask(TimerWheelTaskScheduler scheduler, Runnable task, long delay, long period,
+				@Nullable Trigger trigger, @Nullable SimpleTriggerContext triggerContext) {
+
+			this.scheduler = scheduler;
+			this.task = task;
+			this.period = period;
+			this.trigger = trigger;
+			this.triggerContext = triggerContext;
+			this.deadline = System.nanoTime() + delay;
+		}
+
+		@Override
+		public void run() {
+			if (!STATE.compareAndSet(this, WAITING, RUNNING)) {
+				return;
+			}
+			long scheduledDeadline = this.deadline;
+			Instant actualExecution = (this.trigger != null ? this.scheduler.clock.instant() : null);
+			try {
+				this.task.run();
+			}
+			catch (Throwable ex) {
+				// Propagated by a custom ErrorHandler: no further executions
+				if (STATE.compareAndSet(this, RUNNING, DONE)) {
+					this.completion.completeExceptionally(ex);
+				}
+				throw ex;
+			}
+			if (!updateDeadline(scheduledDeadline, actualExecution)) {
+				if (STATE.compareAndSet(this, RUNNING, DONE)) {
+					this.completion.complete(null);
+				}
+			}
+			else if (STATE.compareAndSet(this, RUNNING, WAITING)) {
+				this.scheduler.pendingTasks.add(this);
+			}
+		}
+
+		/**
+		 * Determine the deadline for the next execution of a periodic task.
+		 * @return {@code true} if there is a next execution,
+		 * {@code false} for a one-time task or an exhausted trigger
+		 */
+		private boolean updateDeadline(long scheduledDeadline, @Nullable Instant actualExecution) {
+			if (this.period > 0) {
+				this.deadline = scheduledDeadline + this.period;
+				return true;
+			}
+			else if (this.period < 0) {
+				this.deadline = System.nanoTime() - this.period;
+				return true;
+			}
+			else if (this.trigger != null && this.triggerContext != null && actualExecution != null) {
+				Instant scheduledExecution = actualExecution.minusNanos(System.nanoTime() - scheduledDeadline);
+				this.triggerContext.update(scheduledExecution, actualExecution, this.scheduler.clock.instant());
+				Instant nextExecution = this.trigger.nextExecution(this.triggerContext);
+				if (nextExecution != null) {
+					this.deadline = System.nanoTime() + this.scheduler.delayFrom(nextExecution);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			int current;
+			while ((current = this.state) == WAITING || current == RUNNING) {
+				if (STATE.compareAndSet(this, current, CANCELLED)) {
+					if (current == WAITING) {
+						this.scheduler.cancelledTasks.add(this);
+					}
+					this.completion.cancel(false);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return (this.state == CANCELLED);
+		}
+
+		@Override
+		public boolean isDone() {
+			return (this.state >= CANCELLED);
+		}
+
+		@Override
+		public Object get() throws InterruptedException, ExecutionException {
+			return this.completion.get();
+		}
+
+		@Override
+		public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			return this.completion.get(timeout, unit);
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(this.deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			if (this == other) {
+				return 0;
+			}
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+	}
+
+}
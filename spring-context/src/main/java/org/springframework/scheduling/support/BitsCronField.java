@@ -205,6 +205,10 @@ final class BitsCronField extends CronField {
 		return (this.bits & (1L << index)) != 0;
 	}
 
+	long getBits() {
+		return this.bits;
+	}
+
 	private int nextSetBit(int fromIndex) {
 		long result = this.bits & (MASK << fromIndex);
 		if (result != 0) {
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.support;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.time.temporal.Temporal;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Precomputed evaluation of a {@link CronExpression} that consists of plain
+ * {@link BitsCronField bit fields} only (no Quartz-specific L/W/# expressions).
+ * Works on the primitive date and time values of {@link LocalDateTime},
+ * {@link OffsetDateTime} and {@link ZonedDateTime}, looking up each field
+ * in its bit set and moving on to the next candidate month, day and time
+ * of day directly, instead of adjusting {@link Temporal} instances.
+ *
+ * <p>For a {@link ZonedDateTime}, the result is only calculated here if there
+ * is no time zone transition between the given date-time and the result;
+ * otherwise the regular field-by-field evaluation is used, applying the
+ * established daylight saving time semantics.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see CronExpression#next(Temporal)
+ */
+final class CompiledCronExpression {
+
+	/**
+	 * The number of years to search for a match: a full Gregorian cycle,
+	 * after which every combination of month, day and weekday recurs.
+	 */
+	private static final int MAX_YEARS = 400;
+
+	private static final long MASK = 0xFFFFFFFFFFFFFFFFL;
+
+	// Sakamoto's month offsets for the day of the week calculation
+	private static final int[] MONTH_OFFSETS = {0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4};
+
+
+	private final long seconds;
+
+	private final long minutes;
+
+	private final long hours;
+
+	private final long daysOfMonth;
+
+	private final long months;
+
+	private final long daysOfWeek;
+
+	private final int firstSecond;
+
+	private final int firstMinute;
+
+	private final int firstMonth;
+
+
+	private CompiledCronExpression(BitsCronField seconds, BitsCronField minutes, BitsCronField hours,
+			BitsCronField daysOfMonth, BitsCronField months, BitsCronField daysOfWeek) {
+
+		this.seconds = seconds.getBits();
+		this.minutes = minutes.getBits();
+		this.hours = hours.getBits();
+		this.daysOfMonth = daysOfMonth.getBits();
+		this.months = months.getBits();
+		this.daysOfWeek = daysOfWeek.getBits();
+		this.firstSecond = Long.numberOfTrailingZeros(this.seconds);
+		this.firstMinute = Long.numberOfTrailingZeros(this.minutes);
+		this.firstMonth = Long.numberOfTrailingZeros(this.months);
+	}
+
+
+	/**
+	 * Compile the given cron fields, if possible.
+	 * @return the compiled expression, or {@code null} if any of the
+	 * fields is not a plain {@link BitsCronField}
+	 */
+	static @Nullable CompiledCronExpression compile(CronField seconds, CronField minutes, CronField hours,
+			CronField daysOfMonth, CronField months, CronField daysOfWeek) {
+
+		if (seconds instanceof BitsCronField bitsSeconds && minutes instanceof BitsCronField bitsMinutes &&
+				hours instanceof BitsCronField bitsHours && daysOfMonth instanceof BitsCronField bitsDaysOfMonth &&
+				months instanceof BitsCronField bitsMonths && daysOfWeek instanceof BitsCronField bitsDaysOfWeek) {
+			return new CompiledCronExpression(
+					bitsSeconds, bitsMinutes, bitsHours, bitsDaysOfMonth, bitsMonths, bitsDaysOfWeek);
+		}
+		return null;
+	}
+
+
+	/**
+	 * Determine whether the given temporal can be handled by {@link #next}.
+	 */
+	static boolean supports(Temporal temporal) {
+		return (temporal instanceof LocalDateTime || temporal instanceof OffsetDateTime ||
+				temporal instanceof ZonedDateTime);
+	}
+
+	/**
+	 * Calculate the next date-time after the given one that matches the expression.
+	 * @param temporal a {@link LocalDateTime}, {@link OffsetDateTime} or {@link ZonedDateTime}
+	 * @param fallback the regular evaluation to use in case of a time zone transition
+	 * @return the next match, or {@code null} if none could be found
+	 */
+	@SuppressWarnings("unchecked")
+	<T extends Temporal & Comparable<? super T>> @Nullable T next(T temporal, CronExpression fallback) {
+		if (temporal instanceof LocalDateTime localDateTime) {
+			return (T) nextLocal(localDateTime);
+		}
+		else if (temporal instanceof OffsetDateTime offsetDateTime) {
+			LocalDateTime result = nextLocal(offsetDateTime.toLocalDateTime());
+			return (result != null ? (T) OffsetDateTime.of(result, offsetDateTime.getOffset()) : null);
+		}
+		else {
+			ZonedDateTime zonedDateTime = (ZonedDateTime) temporal;
+			LocalDateTime result = nextLocal(zonedDateTime.toLocalDateTime());
+			if (result == null) {
+				return null;
+			}
+			ZoneId zone = zonedDateTime.getZone();
+			ZoneRules rules = zone.getRules();
+			ZonedDateTime zonedResult = ZonedDateTime.ofLocal(result, zone, zonedDateTime.getOffset());
+			if (rules.isFixedOffset()) {
+				return (T) zonedResult;
+			}
+			ZoneOffsetTransition transition = rules.nextTransition(zonedDateTime.toInstant());
+			if (zonedResult.getOffset().equals(zonedDateTime.getOffset()) &&
+					(transition == null || transition.getInstant().isAfter(zonedResult.toInstant()))) {
+				return (T) zonedResult;
+			}
+			// Time zone transition in between: apply regular evaluation
+			return fallback.nextFieldByField(temporal);
+		}
+	}
+
+	/**
+	 * Calculate the first whole second after the given local date-time that
+	 * matches the expression.
+	 */
+	@Nullable LocalDateTime nextLocal(LocalDateTime dateTime) {
+		int year = dateTime.getYear();
+		if (year > Year.MAX_VALUE - MAX_YEARS) {
+			return null;
+		}
+		int maxYear = year + MAX_YEARS;
+		int month = dateTime.getMonthValue();
+		int day = dateTime.getDayOfMonth();
+		int hour = dateTime.getHour();
+		int minute = dateTime.getMinute();
+		// The first whole second after the given date-time
+		int second = dateTime.getSecond() + 1;
+
+		while (year <= maxYear) {
+			int nextMonth = nextSetBit(this.months, month);
+			if (nextMonth == -1) {
+				year++;
+				month = this.firstMonth;
+				day = 1;
+				hour = minute = second = 0;
+				continue;
+			}
+			if (nextMonth != month) {
+				month = nextMonth;
+				day = 1;
+				hour = minute = second = 0;
+			}
+			int lengthOfMonth = Month.of(month).length(Year.isLeap(year));
+			while (day <= lengthOfMonth) {
+				int nextDay = nextSetBit(this.daysOfMonth, day);
+				if (nextDay == -1 || nextDay > lengthOfMonth) {
+					break;
+				}
+				if (nextDay != day) {
+					day = nextDay;
+					hour = minute = second = 0;
+				}
+				if ((this.daysOfWeek & (1L << dayOfWeek(year, month, day))) != 0) {
+					int secondOfDay = nextSecondOfDay(hour, minute, second);
+					if (secondOfDay != -1) {
+						return LocalDateTime.of(year, month, day,
+								secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60);
+					}
+				}
+				day++;
+				hour = minute = second = 0;
+			}
+			month++;
+			if (month > 12) {
+				year++;
+				month = 1;
+			}
+			day = 1;
+			hour = minute = second = 0;
+		}
+		return null;
+	}
+
+	/**
+	 * Determine the first matching time of day at or after the given time,
+	 * where the second may be 60 for the start of the following minute.
+	 * @return the second of the day, or -1 if there is no match on that day
+	 */
+	private int nextSecondOfDay(int hour, int minute, int second) {
+		int nextHour = nextSetBit(this.hours, hour);
+		if (nextHour == -1) {
+			return -1;
+		}
+		if (nextHour > hour) {
+			return secondOfDay(nextHour, this.firstMinute, this.firstSecond);
+		}
+		int nextMinute = nextSetBit(this.minutes, minute);
+		if (nextMinute != -1) {
+			if (nextMinute > minute) {
+				return secondOfDay(hour, nextMinute, this.firstSecond);
+			}
+			int nextSecond = nextSetBit(this.seconds, second);
+			if (nextSecond != -1) {
+				return secondOfDay(hour, minute, nextSecond);
+			}
+			nextMinute = nextSetBit(this.minutes, minute + 1);
+			if (nextMinute != -1) {
+				return secondOfDay(hour, nextMinute, this.firstSecond);
+			}
+		}
+		nextHour = nextSetBit(this.hours, hour + 1);
+		return (nextHour != -1 ? secondOfDay(nextHour, this.firstMinute, this.firstSecond) : -1);
+	}
+
+	private static int secondOfDay(int hour, int minute, int second) {
+		return hour * 3600 + minute * 60 + second;
+	}
+
+	private static int nextSetBit(long bits, int fromIndex) {
+		long result = bits & (MASK << fromIndex);
+		return (result != 0 ? Long.numberOfTrailingZeros(result) : -1);
+	}
+
+	/**
+	 * Calculate the ISO day of the week, from 1 (Monday) to 7 (Sunday).
+	 */
+	private static int dayOfWeek(int year, int month, int day) {
+		int y = (month < 3 ? year - 1 : year);
+		int dayOfWeek = Math.floorMod(y + Math.floorDiv(y, 4) - Math.floorDiv(y, 100) + Math.floorDiv(y, 400) +
+				MONTH_OFFSETS[month - 1] + day, 7);
+		return (dayOfWeek == 0 ? 7 : dayOfWeek);
+	}
+
+}
@@ -62,6 +62,8 @@ public final class CronExpression {
 
 	private final String expression;
 
+	private final @Nullable CompiledCronExpression compiled;
+
 
 	private CronExpression(CronField seconds, CronField minutes, CronField hours,
 			CronField daysOfMonth, CronField months, CronField daysOfWeek, String expression) {
@@ -70,6 +72,7 @@ public final class CronExpression {
 		// To make sure we end up at 0 nanos, we add an extra field.
 		this.fields = new CronField[] {daysOfWeek, months, daysOfMonth, hours, minutes, seconds, CronField.zeroNanos()};
 		this.expression = expression;
+		this.compiled = CompiledCronExpression.compile(seconds, minutes, hours, daysOfMonth, months, daysOfWeek);
 	}
 
 
@@ -238,6 +241,19 @@ public final class CronExpression {
 	 * if no such temporal can be found
 	 */
 	public <T extends Temporal & Comparable<? super T>> @Nullable T next(T temporal) {
+		CompiledCronExpression compiled = this.compiled;
+		if (compiled != null && CompiledCronExpression.supports(temporal)) {
+			return compiled.next(temporal, this);
+		}
+		return nextFieldByField(temporal);
+	}
+
+	/**
+	 * Calculate the next {@link Temporal} that matches this expression,
+	 * adjusting the given temporal one field at a time.
+	 * @see #next(Temporal)
+	 */
+	<T extends Temporal & Comparable<? super T>> @Nullable T nextFieldByField(T temporal) {
 		return nextOrSame(ChronoUnit.NANOS.addTo(temporal, 1));
 	}
 
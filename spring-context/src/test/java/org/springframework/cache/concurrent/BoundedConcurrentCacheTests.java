@@ -0,0 +1,167 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.context.testfixture.cache.AbstractValueAdaptingCacheTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link BoundedConcurrentCache}.
+ *
+ * @author Juergen Hoeller
+ */
+class BoundedConcurrentCacheTests extends AbstractValueAdaptingCacheTests<BoundedConcurrentCache> {
+
+	private final AtomicLong time = new AtomicLong();
+
+	private BoundedConcurrentCache cache;
+
+	private BoundedConcurrentCache cacheNoNull;
+
+
+	@BeforeEach
+	void setup() {
+		this.cache = new BoundedConcurrentCache(CACHE_NAME, 100, Duration.ofSeconds(10), true);
+		this.cache.setTicker(this.time::get);
+		this.cacheNoNull = new BoundedConcurrentCache(CACHE_NAME_NO_NULL, 100, null, false);
+	}
+
+	@Override
+	protected BoundedConcurrentCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected BoundedConcurrentCache getCache(boolean allowNull) {
+		return (allowNull ? this.cache : this.cacheNoNull);
+	}
+
+	@Override
+	protected Object getNativeCache() {
+		return this.cache;
+	}
+
+
+	@Test
+	void evictsBeyondMaximumSize() {
+		BoundedConcurrentCache cache = new BoundedConcurrentCache(CACHE_NAME, 10);
+		for (int i = 0; i < 20; i++) {
+			cache.put(i, "value" + i);
+		}
+		assertThat(cache.size()).isEqualTo(10);
+		assertThat(cache.getEvictionCount()).isEqualTo(10);
+	}
+
+	@Test
+	void frequentlyReadEntriesSurviveScan() {
+		BoundedConcurrentCache cache = new BoundedConcurrentCache(CACHE_NAME, 10);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, "value" + i);
+		}
+		for (int round = 0; round < 5; round++) {
+			for (int i = 0; i < 10; i++) {
+				cache.get(i);
+			}
+		}
+		for (int i = 0; i < 100; i++) {
+			cache.put("scan" + i, "value");
+		}
+		// all but the admission window's single slot are retained
+		for (int i = 0; i < 9; i++) {
+			assertThat(cache.get(i)).as("key " + i).isNotNull();
+		}
+		assertThat(cache.size()).isEqualTo(10);
+	}
+
+	@Test
+	void expiresAfterWrite() {
+		this.cache.put("key", "value");
+		this.time.addAndGet(Duration.ofSeconds(9).toNanos());
+		assertThat(this.cache.get("key")).isNotNull();
+
+		this.time.addAndGet(Duration.ofSeconds(1).toNanos());
+		assertThat(this.cache.get("key")).isNull();
+		assertThat(this.cache.size()).isZero();
+
+		this.cache.put("key", "value");
+		this.time.addAndGet(Duration.ofSeconds(10).toNanos());
+		assertThat(this.cache.putIfAbsent("key", "newValue")).isNull();
+		assertThat(this.cache.get("key", String.class)).isEqualTo("newValue");
+	}
+
+	@Test
+	void recordsStatistics() {
+		assertThat(this.cache.get("key", () -> {
+			this.time.addAndGet(5);
+			return "value";
+		})).isEqualTo("value");
+		assertThat(this.cache.get("key", () -> "other")).isEqualTo("value");
+		assertThatExceptionOfType(Cache.ValueRetrievalException.class).isThrownBy(() ->
+				this.cache.get("failing", () -> {
+					throw new IllegalStateException();
+				})).withCauseInstanceOf(IllegalStateException.class);
+
+		assertThat(this.cache.getHitCount()).isEqualTo(1);
+		assertThat(this.cache.getMissCount()).isEqualTo(2);
+		assertThat(this.cache.getLoadSuccessCount()).isEqualTo(1);
+		assertThat(this.cache.getLoadFailureCount()).isEqualTo(1);
+		assertThat(this.cache.getTotalLoadTime()).isEqualTo(Duration.ofNanos(5));
+		assertThat(this.cache.get("failing")).isNull();
+	}
+
+	@Test
+	void loaderMayNotLoadItsOwnKey() {
+		assertThatExceptionOfType(Cache.ValueRetrievalException.class).isThrownBy(() ->
+				this.cache.get("key", () -> this.cache.get("key", () -> "value")))
+				.withCauseInstanceOf(IllegalStateException.class);
+		assertThat(this.cache.get("key", () -> "value")).isEqualTo("value");
+	}
+
+	@Test
+	void concurrentRetrieveSharesLoad() {
+		AtomicInteger loads = new AtomicInteger();
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		CompletableFuture<String> first = this.cache.retrieve("key", () -> {
+			loads.incrementAndGet();
+			return pending;
+		});
+		CompletableFuture<String> second = this.cache.retrieve("key", () -> {
+			loads.incrementAndGet();
+			return CompletableFuture.completedFuture("other");
+		});
+		assertThat(second).isNotDone();
+
+		pending.complete("value");
+		assertThat(first.join()).isEqualTo("value");
+		assertThat(second.join()).isEqualTo("value");
+		assertThat(loads).hasValue(1);
+		assertThat(this.cache.get("key", String.class)).isEqualTo("value");
+		assertThat(this.cache.getLoadSuccessCount()).isEqualTo(1);
+	}
+
+}
@@ -16,11 +16,14 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cache.Cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
  * @author Juergen Hoeller
@@ -151,4 +154,39 @@ class ConcurrentMapCacheManagerTests {
 		assertThat(cache1x.get("key")).isNull();
 	}
 
+	@Test
+	void changeMaximumSizeAndExpiration() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager("c1");
+		Cache cache1 = cm.getCache("c1");
+		assertThat(cache1).isInstanceOf(ConcurrentMapCache.class);
+
+		cm.setMaximumSize(100);
+		Cache cache1x = cm.getCache("c1");
+		assertThat(cache1x).isInstanceOf(BoundedConcurrentCache.class);
+		assertThat(((BoundedConcurrentCache) cache1x).getMaximumSize()).isEqualTo(100);
+		assertThat(((BoundedConcurrentCache) cache1x).getExpireAfterWrite()).isNull();
+
+		cm.setExpireAfterWrite(Duration.ofMinutes(5));
+		Cache cache1y = cm.getCache("c1");
+		assertThat(cache1y).isNotSameAs(cache1x);
+		assertThat(((BoundedConcurrentCache) cache1y).getExpireAfterWrite()).isEqualTo(Duration.ofMinutes(5));
+
+		cm.setMaximumSize(0);
+		cm.setExpireAfterWrite(null);
+		assertThat(cm.getCache("c1")).isInstanceOf(ConcurrentMapCache.class);
+	}
+
+	@Test
+	void storeByValueNotSupportedWithMaximumSizeOrExpiration() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager("c1");
+		cm.setMaximumSize(100);
+		assertThatIllegalArgumentException().isThrownBy(() -> cm.setStoreByValue(true));
+
+		cm.setMaximumSize(0);
+		cm.setStoreByValue(true);
+		assertThatIllegalArgumentException().isThrownBy(() -> cm.setMaximumSize(100));
+		assertThatIllegalArgumentException().isThrownBy(() -> cm.setExpireAfterWrite(Duration.ofMinutes(5)));
+		assertThat(cm.getCache("c1")).isInstanceOf(ConcurrentMapCache.class);
+	}
+
 }
@@ -19,8 +19,11 @@ package org.springframework.cache.concurrent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,7 @@ import org.springframework.context.testfixture.cache.AbstractValueAdaptingCacheT
 import org.springframework.core.serializer.support.SerializationDelegate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
@@ -115,6 +119,45 @@ class ConcurrentMapCacheTests extends AbstractValueAdaptingCacheTests<Concurrent
 			.withMessageContaining("Some garbage");
 	}
 
+	@Test
+	void retrieveWithConcurrentMissesSharesSingleLoad() {
+		String key = createRandomKey();
+		AtomicInteger loads = new AtomicInteger();
+		CompletableFuture<String> pending = new CompletableFuture<>();
+
+		CompletableFuture<String> first = this.cache.retrieve(key, () -> {
+			loads.incrementAndGet();
+			return pending;
+		});
+		CompletableFuture<String> second = this.cache.retrieve(key, () -> {
+			loads.incrementAndGet();
+			return CompletableFuture.completedFuture("other");
+		});
+		assertThat(first).isNotDone();
+		assertThat(second).isNotDone();
+
+		pending.complete("value");
+		assertThat(first.join()).isEqualTo("value");
+		assertThat(second.join()).isEqualTo("value");
+		assertThat(loads).hasValue(1);
+		assertThat(this.cache.get(key, String.class)).isEqualTo("value");
+	}
+
+	@Test
+	void retrieveWithFailedLoadDoesNotCacheFailure() {
+		String key = createRandomKey();
+
+		CompletableFuture<String> failed = this.cache.retrieve(key,
+				() -> CompletableFuture.failedFuture(new IllegalStateException("boom")));
+		assertThatExceptionOfType(CompletionException.class).isThrownBy(failed::join)
+				.withCauseInstanceOf(IllegalStateException.class);
+		assertThat(this.cache.get(key)).isNull();
+
+		CompletableFuture<String> retried = this.cache.retrieve(key,
+				() -> CompletableFuture.completedFuture("value"));
+		assertThat(retried.join()).isEqualTo("value");
+	}
+
 
 	private ConcurrentMapCache createCacheWithStoreByValue() {
 		return new ConcurrentMapCache(CACHE_NAME, this.nativeCache, true,
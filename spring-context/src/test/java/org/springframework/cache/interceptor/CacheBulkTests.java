@@ -0,0 +1,276 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cache.interceptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.testfixture.cache.CacheTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link Cacheable#bulk()} operations.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ */
+class CacheBulkTests {
+
+	private ConfigurableApplicationContext context;
+
+	private Cache cache;
+
+	private BulkService bulkService;
+
+
+	@BeforeEach
+	void setup() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.cache = this.context.getBean(CacheManager.class).getCache("testCache");
+		this.bulkService = this.context.getBean(BulkService.class);
+	}
+
+	@AfterEach
+	void closeContext() {
+		if (this.context != null) {
+			this.context.close();
+		}
+	}
+
+
+	@Test
+	void mapResultLoadsMissingElementsOnly() {
+		assertThat(this.bulkService.findAll(List.of(1L, 2L))).containsExactly(
+				Map.entry(1L, "book-1"), Map.entry(2L, "book-2"));
+		assertThat(this.cache.get(1L).get()).isEqualTo("book-1");
+		assertThat(this.cache.get(2L).get()).isEqualTo("book-2");
+
+		assertThat(this.bulkService.findAll(List.of(3L, 1L, 2L))).containsExactly(
+				Map.entry(3L, "book-3"), Map.entry(1L, "book-1"), Map.entry(2L, "book-2"));
+		assertThat(this.bulkService.getInvocations()).containsExactly(List.of(1L, 2L), List.of(3L));
+	}
+
+	@Test
+	void mapResultWithAllElementsCached() {
+		this.cache.put(1L, "cached-1");
+		this.cache.put(2L, "cached-2");
+
+		assertThat(this.bulkService.findAll(List.of(2L, 1L))).containsExactly(
+				Map.entry(2L, "cached-2"), Map.entry(1L, "cached-1"));
+		assertThat(this.bulkService.getInvocations()).isEmpty();
+	}
+
+	@Test
+	void mapResultWithAbsentElementIsNotCached() {
+		assertThat(this.bulkService.findAll(List.of(1L, 0L))).containsExactly(Map.entry(1L, "book-1"));
+		assertThat(this.cache.get(0L)).isNull();
+
+		assertThat(this.bulkService.findAll(List.of(0L, 1L))).containsExactly(Map.entry(1L, "book-1"));
+		assertThat(this.bulkService.getInvocations()).containsExactly(List.of(1L, 0L), List.of(0L));
+	}
+
+	@Test
+	void listResultMatchedByPosition() {
+		assertThat(this.bulkService.findAllInOrder(List.of(1L, 2L))).containsExactly("book-1", "book-2");
+		assertThat(this.bulkService.findAllInOrder(List.of(2L, 3L, 2L, 1L)))
+				.containsExactly("book-2", "book-3", "book-2", "book-1");
+		assertThat(this.bulkService.getInvocations()).containsExactly(List.of(1L, 2L), List.of(3L));
+	}
+
+	@Test
+	void listResultWithMismatchedSize() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.bulkService.findSome(List.of(1L, 2L)))
+				.withMessageContaining("returned 1 values for 2 requested elements");
+	}
+
+	@Test
+	void keyExpressionEvaluatedPerElement() {
+		this.bulkService.findAllWithKey(List.of(1L, 2L));
+		assertThat(this.cache.get("book:1").get()).isEqualTo("book-1");
+		assertThat(this.cache.get("book:2").get()).isEqualTo("book-2");
+
+		this.bulkService.findAllWithKey(List.of(2L, 3L));
+		assertThat(this.bulkService.getInvocations()).containsExactly(List.of(1L, 2L), List.of(3L));
+	}
+
+	@Test
+	void unlessEvaluatedPerElement() {
+		this.bulkService.findAllUnless(List.of(1L, 2L));
+		assertThat(this.cache.get(1L).get()).isEqualTo("book-1");
+		assertThat(this.cache.get(2L)).isNull();
+	}
+
+	@Test
+	void conditionNotPassing() {
+		this.bulkService.findAllConditional(List.of(1L, 2L), false);
+		this.bulkService.findAllConditional(List.of(1L, 2L), false);
+		assertThat(this.cache.get(1L)).isNull();
+		assertThat(this.bulkService.getInvocations()).containsExactly(List.of(1L, 2L), List.of(1L, 2L));
+	}
+
+	@Test
+	void bulkWithSync() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.bulkService.bulkWithSync(List.of(1L)))
+				.withMessageContaining("A bulk=true operation does not support the sync attribute");
+	}
+
+	@Test
+	void bulkWithAnotherOperation() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.bulkService.bulkWithAnotherOperation(List.of(1L)))
+				.withMessageContaining("A bulk=true operation cannot be combined with other cache operations");
+	}
+
+	@Test
+	void bulkWithoutCollectionParameter() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.bulkService.bulkWithoutCollectionParameter(1L))
+				.withMessageContaining("A bulk=true operation requires exactly one Collection parameter");
+	}
+
+	@Test
+	void bulkWithUnsupportedReturnType() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.bulkService.bulkWithUnsupportedReturnType(List.of(1L)))
+				.withMessageContaining("A bulk=true operation requires a Map or List return type");
+	}
+
+	@Test
+	void errorHandlerInvokedForEachKey() {
+		Cache failingCache = mock(Cache.class);
+		CacheErrorHandler errorHandler = mock(CacheErrorHandler.class);
+		UnsupportedOperationException exception = new UnsupportedOperationException("Test exception");
+		willThrow(exception).given(failingCache).getAll(any());
+		willThrow(exception).given(failingCache).putAll(any());
+		AbstractCacheInvoker invoker = new AbstractCacheInvoker(errorHandler) {};
+
+		assertThat(invoker.doGetAll(failingCache, List.of(1L, 2L))).isEmpty();
+		verify(errorHandler).handleCacheGetError(exception, failingCache, 1L);
+		verify(errorHandler).handleCacheGetError(exception, failingCache, 2L);
+
+		invoker.doPutAll(failingCache, Map.of(1L, "book-1", 2L, "book-2"));
+		verify(errorHandler).handleCachePutError(exception, failingCache, 1L, "book-1");
+		verify(errorHandler).handleCachePutError(exception, failingCache, 2L, "book-2");
+	}
+
+
+	static class BulkService {
+
+		private final List<List<Long>> invocations = new ArrayList<>();
+
+		public List<List<Long>> getInvocations() {
+			return this.invocations;
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		public Map<Long, String> findAll(List<Long> ids) {
+			this.invocations.add(new ArrayList<>(ids));
+			Map<Long, String> result = new LinkedHashMap<>();
+			ids.stream().filter(id -> id > 0).forEach(id -> result.put(id, "book-" + id));
+			return result;
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		public List<String> findAllInOrder(Collection<Long> ids) {
+			this.invocations.add(new ArrayList<>(ids));
+			return ids.stream().map(id -> "book-" + id).toList();
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		public List<String> findSome(List<Long> ids) {
+			return List.of("book-" + ids.get(0));
+		}
+
+		@Cacheable(cacheNames = "testCache", key = "'book:' + #ids", bulk = true)
+		public Map<Long, String> findAllWithKey(List<Long> ids) {
+			return findAll(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", unless = "#result.endsWith('2')", bulk = true)
+		public Map<Long, String> findAllUnless(List<Long> ids) {
+			return findAll(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", condition = "#enabled", bulk = true)
+		public Map<Long, String> findAllConditional(List<Long> ids, boolean enabled) {
+			return findAll(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true, bulk = true)
+		public Map<Long, String> bulkWithSync(List<Long> ids) {
+			return findAll(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		@CacheEvict(cacheNames = "anotherTestCache", allEntries = true)
+		public Map<Long, String> bulkWithAnotherOperation(List<Long> ids) {
+			return findAll(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		public Map<Long, String> bulkWithoutCollectionParameter(Long id) {
+			return findAll(List.of(id));
+		}
+
+		@Cacheable(cacheNames = "testCache", bulk = true)
+		public String bulkWithUnsupportedReturnType(List<Long> ids) {
+			return "book";
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class Config implements CachingConfigurer {
+
+		@Override
+		@Bean
+		public CacheManager cacheManager() {
+			return CacheTestUtils.createSimpleCacheManager("testCache", "anotherTestCache");
+		}
+
+		@Bean
+		public BulkService bulkService() {
+			return new BulkService();
+		}
+	}
+
+}
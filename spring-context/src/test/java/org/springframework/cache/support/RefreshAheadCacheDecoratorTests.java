@@ -0,0 +1,275 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.interceptor.CacheInterceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RefreshAheadCacheDecorator}.
+ *
+ * @author Juergen Hoeller
+ */
+class RefreshAheadCacheDecoratorTests {
+
+	private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final ConcurrentMapCache target = new ConcurrentMapCache("testCache");
+
+	private final List<Runnable> tasks = new ArrayList<>();
+
+	private final RefreshAheadCacheDecorator cache =
+			new RefreshAheadCacheDecorator(this.target, Duration.ofMinutes(1), this.tasks::add);
+
+	private final AtomicInteger loadCount = new AtomicInteger();
+
+
+	@BeforeEach
+	void setup() {
+		advanceTo(Duration.ZERO);
+	}
+
+
+	@Test
+	void regularOperationsUnwrapValues() {
+		this.cache.put("key", "value");
+		assertThat(this.target.get("key").get()).isNotEqualTo("value");
+		assertThat(this.cache.get("key").get()).isEqualTo("value");
+		assertThat(this.cache.get("key", String.class)).isEqualTo("value");
+		assertThat(this.cache.putIfAbsent("key", "other").get()).isEqualTo("value");
+
+		this.cache.put("null", null);
+		assertThat(this.cache.get("null").get()).isNull();
+	}
+
+	@Test
+	void freshValueIsNotRefreshed() {
+		assertThat(this.cache.get("key", this::load)).isEqualTo("value1");
+		advanceTo(Duration.ofSeconds(30));
+		assertThat(this.cache.get("key", this::load)).isEqualTo("value1");
+		assertThat(this.tasks).isEmpty();
+		assertThat(this.loadCount).hasValue(1);
+	}
+
+	@Test
+	void staleValueIsReturnedAndRefreshedInBackground() {
+		assertThat(this.cache.get("key", new RefreshableLoader())).isEqualTo("value1");
+		advanceTo(Duration.ofMinutes(2));
+
+		assertThat(this.cache.get("key", new RefreshableLoader())).isEqualTo("value1");
+		assertThat(this.cache.get("key", new RefreshableLoader())).isEqualTo("value1");
+		assertThat(this.tasks).hasSize(1);
+
+		this.tasks.remove(0).run();
+		assertThat(this.cache.get("key", new RefreshableLoader())).isEqualTo("value2");
+		assertThat(this.loadCount).hasValue(2);
+		assertThat(this.tasks).isEmpty();
+	}
+
+	@Test
+	void staleValueWithPlainLoaderIsReturnedWithoutReload() {
+		assertThat(this.cache.get("key", this::load)).isEqualTo("value1");
+		advanceTo(Duration.ofMinutes(2));
+
+		assertThat(this.cache.get("key", this::load)).isEqualTo("value1");
+		assertThat(this.tasks).isEmpty();
+		assertThat(this.loadCount).hasValue(1);
+
+		// Expiration in the target cache leads to a regular load
+		this.cache.evict("key");
+		assertThat(this.cache.get("key", this::load)).isEqualTo("value2");
+	}
+
+	@Test
+	void failedRefreshKeepsStaleValue() {
+		this.cache.put("key", "value");
+		advanceTo(Duration.ofMinutes(2));
+
+		assertThat(this.cache.get("key", new RefreshableLoader(() -> {
+			throw new IllegalStateException("Expected");
+		}))).isEqualTo("value");
+		this.tasks.remove(0).run();
+		assertThat(this.cache.get("key", String.class)).isEqualTo("value");
+
+		// Next access triggers another attempt
+		this.cache.get("key", new RefreshableLoader());
+		assertThat(this.tasks).hasSize(1);
+	}
+
+	@Test
+	void staleValueIsRetrievedAndRefreshedInBackground() {
+		assertThat(this.cache.retrieve("key", new RefreshableAsyncLoader()).join()).isEqualTo("value1");
+		advanceTo(Duration.ofMinutes(2));
+
+		RefreshableAsyncLoader loader = new RefreshableAsyncLoader();
+		assertThat(this.cache.retrieve("key", loader).join()).isEqualTo("value1");
+		assertThat(this.tasks).hasSize(1);
+
+		// Executor thread only initiates the reload, without waiting for it
+		loader.pending = new CompletableFuture<>();
+		this.tasks.remove(0).run();
+		assertThat(this.cache.retrieve("key", new RefreshableAsyncLoader()).join()).isEqualTo("value1");
+		assertThat(this.tasks).isEmpty();
+
+		loader.pending.complete("value2");
+		assertThat(this.cache.retrieve("key", new RefreshableAsyncLoader()).join()).isEqualTo("value2");
+		assertThat(((Cache.ValueWrapper) this.cache.retrieve("key").join()).get()).isEqualTo("value2");
+	}
+
+	@Test
+	void staleValueWithPlainAsyncLoaderIsRetrievedWithoutReload() {
+		assertThat(this.cache.retrieve("key", this::loadAsync).join()).isEqualTo("value1");
+		advanceTo(Duration.ofMinutes(2));
+
+		assertThat(this.cache.retrieve("key", this::loadAsync).join()).isEqualTo("value1");
+		assertThat(this.tasks).isEmpty();
+		assertThat(this.loadCount).hasValue(1);
+	}
+
+	@Test
+	void staleValueIsRefreshedThroughCacheableProxy() {
+		SimpleCacheManager cacheManager = new SimpleCacheManager();
+		cacheManager.setCaches(List.of(this.cache));
+		cacheManager.afterPropertiesSet();
+		CacheInterceptor cacheInterceptor = new CacheInterceptor();
+		cacheInterceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+		cacheInterceptor.setCacheManager(cacheManager);
+		cacheInterceptor.afterPropertiesSet();
+		cacheInterceptor.afterSingletonsInstantiated();
+
+		AtomicInteger intercepted = new AtomicInteger();
+		ProxyFactory pf = new ProxyFactory(new CachedService());
+		pf.setProxyTargetClass(true);
+		pf.addAdvice(cacheInterceptor);
+		pf.addAdvice((MethodInterceptor) invocation -> {
+			intercepted.incrementAndGet();
+			return invocation.proceed();
+		});
+		CachedService proxy = (CachedService) pf.getProxy();
+
+		assertThat(proxy.find("id")).isEqualTo("id1");
+		assertThat(proxy.findAsync("async").join()).isEqualTo("async2");
+		assertThat(intercepted).hasValue(2);
+
+		advanceTo(Duration.ofMinutes(2));
+		assertThat(proxy.find("id")).isEqualTo("id1");
+		assertThat(proxy.findAsync("async").join()).isEqualTo("async2");
+		assertThat(intercepted).hasValue(2);
+		assertThat(this.tasks).hasSize(2);
+
+		// Background reloads go through the inner interceptor again
+		this.tasks.remove(0).run();
+		this.tasks.remove(0).run();
+		assertThat(intercepted).hasValue(4);
+		assertThat(proxy.find("id")).isEqualTo("id3");
+		assertThat(proxy.findAsync("async").join()).isEqualTo("async4");
+		assertThat(intercepted).hasValue(4);
+	}
+
+
+	private void advanceTo(Duration offset) {
+		this.cache.setClock(Clock.fixed(START.plus(offset), ZoneOffset.UTC));
+	}
+
+	private String load() {
+		return "value" + this.loadCount.incrementAndGet();
+	}
+
+	private CompletableFuture<String> loadAsync() {
+		return CompletableFuture.completedFuture(load());
+	}
+
+
+	private class RefreshableLoader implements Callable<String>, RefreshableValueLoader<Callable<String>> {
+
+		private final Callable<String> refreshLoader;
+
+		RefreshableLoader() {
+			this(RefreshAheadCacheDecoratorTests.this::load);
+		}
+
+		RefreshableLoader(Callable<String> refreshLoader) {
+			this.refreshLoader = refreshLoader;
+		}
+
+		@Override
+		public String call() {
+			return load();
+		}
+
+		@Override
+		public Callable<String> createRefreshLoader() {
+			return this.refreshLoader;
+		}
+	}
+
+
+	private class RefreshableAsyncLoader implements Supplier<CompletableFuture<String>>,
+			RefreshableValueLoader<Supplier<CompletableFuture<String>>> {
+
+		@Nullable CompletableFuture<String> pending;
+
+		@Override
+		public CompletableFuture<String> get() {
+			return loadAsync();
+		}
+
+		@Override
+		public Supplier<CompletableFuture<String>> createRefreshLoader() {
+			return () -> (this.pending != null ? this.pending : loadAsync());
+		}
+	}
+
+
+	static class CachedService {
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public String find(String id) {
+			return id + this.counter.incrementAndGet();
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public CompletableFuture<String> findAsync(String id) {
+			return CompletableFuture.completedFuture(id + this.counter.incrementAndGet());
+		}
+	}
+
+}
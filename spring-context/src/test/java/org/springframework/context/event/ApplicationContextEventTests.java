@@ -146,6 +146,31 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 		verify(listener, times(invocation)).onApplicationEvent(event);
 	}
 
+	@Test
+	void simpleApplicationEventMulticasterInvalidatesOnlyAffectedRetrievers() {
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		MyEventListener listener = new MyEventListener();
+		smc.addApplicationListener(listener);
+		MyEvent event = new MyEvent(this);
+		MyOtherEvent otherEvent = new MyOtherEvent(this);
+		smc.multicastEvent(event);
+		smc.multicastEvent(otherEvent);
+		assertThat(smc.retrieverCache).hasSize(2);
+
+		MyEventListener anotherListener = new MyEventListener();
+		smc.addApplicationListener(anotherListener);
+		assertThat(smc.retrieverCache).hasSize(1);
+		smc.multicastEvent(event);
+		assertThat(anotherListener.seenEvents).containsExactly(event);
+		assertThat(smc.retrieverCache).hasSize(2);
+
+		smc.removeApplicationListener(anotherListener);
+		assertThat(smc.retrieverCache).hasSize(1);
+		smc.multicastEvent(event);
+		assertThat(anotherListener.seenEvents).containsExactly(event);
+		assertThat(listener.seenEvents).containsExactly(event, event, event);
+	}
+
 	@Test
 	void simpleApplicationEventMulticasterWithTaskExecutor() {
 		@SuppressWarnings("unchecked")
@@ -188,6 +213,58 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 		verify(listener, times(1)).onApplicationEvent(evt);
 	}
 
+	@Test
+	void simpleApplicationEventMulticasterWithSingleTaskPerEvent() {
+		@SuppressWarnings("unchecked")
+		ApplicationListener<ApplicationEvent> listener1 = mock();
+		willReturn(true).given(listener1).supportsAsyncExecution();
+		@SuppressWarnings("unchecked")
+		ApplicationListener<ApplicationEvent> listener2 = mock();
+		willReturn(true).given(listener2).supportsAsyncExecution();
+		ApplicationEvent evt = new ContextClosedEvent(new StaticApplicationContext());
+		willThrow(new RuntimeException("Oops")).given(listener1).onApplicationEvent(evt);
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		List<Runnable> tasks = new ArrayList<>();
+		smc.setTaskExecutor(tasks::add);
+		smc.setSingleTaskPerEvent(true);
+		smc.addApplicationListener(listener1);
+		smc.addApplicationListener(listener2);
+
+		smc.multicastEvent(evt);
+		assertThat(tasks).hasSize(1);
+		assertThatRuntimeException().isThrownBy(() -> tasks.get(0).run()).withMessage("Oops");
+		verify(listener1).onApplicationEvent(evt);
+		verify(listener2).onApplicationEvent(evt);
+	}
+
+	@Test
+	void simpleApplicationEventMulticasterWithSingleTaskPerEventInvokesAsyncListenersLast() {
+		List<String> invocations = new ArrayList<>();
+		ApplicationListener<ApplicationEvent> asyncListener1 = event -> invocations.add("async1");
+		ApplicationListener<ApplicationEvent> syncListener = new ApplicationListener<>() {
+			@Override
+			public void onApplicationEvent(ApplicationEvent event) {
+				invocations.add("sync");
+			}
+			@Override
+			public boolean supportsAsyncExecution() {
+				return false;
+			}
+		};
+		ApplicationListener<ApplicationEvent> asyncListener2 = event -> invocations.add("async2");
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(Runnable::run);
+		smc.setSingleTaskPerEvent(true);
+		smc.addApplicationListener(asyncListener1);
+		smc.addApplicationListener(syncListener);
+		smc.addApplicationListener(asyncListener2);
+
+		smc.multicastEvent(new ContextClosedEvent(new StaticApplicationContext()));
+		assertThat(invocations).containsExactly("sync", "async1", "async2");
+	}
+
 	@Test
 	void simpleApplicationEventMulticasterWithException() {
 		@SuppressWarnings("unchecked")
@@ -401,8 +478,9 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 		context.publishEvent(event4);
 		assertThat(listener1.seenEvents).contains(event1, event2, event3, event4);
 
+		// Lazy listener2 only invalidates MyEvent: ContextRefreshedEvent and MyOtherEvent stay cached
 		AbstractApplicationEventMulticaster multicaster = context.getBean(AbstractApplicationEventMulticaster.class);
-		assertThat(multicaster.retrieverCache).hasSize(2);
+		assertThat(multicaster.retrieverCache).hasSize(3);
 
 		context.close();
 	}
@@ -770,6 +848,17 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 	}
 
 
+	public static class MyEventListener implements ApplicationListener<MyEvent> {
+
+		public final List<MyEvent> seenEvents = new ArrayList<>();
+
+		@Override
+		public void onApplicationEvent(MyEvent event) {
+			this.seenEvents.add(event);
+		}
+	}
+
+
 	@Order(50)
 	public static class MyOrderedListener4 implements ApplicationListener<MyEvent> {
 
@@ -39,6 +39,8 @@ import org.springframework.resilience.annotation.EnableResilientMethods;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.springframework.resilience.annotation.ConcurrencyLimit.LimitAlgorithm.AIMD;
+import static org.springframework.resilience.annotation.ConcurrencyLimit.LimitAlgorithm.GRADIENT;
 import static org.springframework.resilience.annotation.ConcurrencyLimit.ThrottlePolicy.REJECT;
 
 /**
@@ -138,6 +140,20 @@ class ConcurrencyLimitTests {
 		assertThat(target.current).hasValue(2);
 	}
 
+	@Test
+	void withPostProcessorForMethodWithAdaptiveLimit() {
+		AnnotatedMethodBean proxy = createProxy(AnnotatedMethodBean.class);
+		AnnotatedMethodBean target = (AnnotatedMethodBean) AopProxyUtils.getSingletonTarget(proxy);
+
+		List<CompletableFuture<?>> futures = new ArrayList<>(20);
+		for (int i = 0; i < 20; i++) {
+			futures.add(CompletableFuture.runAsync(proxy::adaptiveOperation));
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		assertThat(target.current).hasValue(0);
+		assertThat(target.maxObserved.get()).isBetween(1, 4);
+	}
+
 	@Test
 	void withPostProcessorForClass() {
 		AnnotatedClassBean proxy = createProxy(AnnotatedClassBean.class);
@@ -225,6 +241,10 @@ class ConcurrencyLimitTests {
 		assertThatExceptionOfType(NumberFormatException.class)
 				.isThrownBy(proxy::alphanumericString)
 				.withMessageContaining("B2");
+
+		assertThatIllegalStateException()
+				.isThrownBy(proxy::adaptiveLimitOutOfRange)
+				.withMessageMatching("@.+?ConcurrencyLimit(.+?) must be configured with a limit between minLimit and maxLimit");
 	}
 
 
@@ -273,6 +293,8 @@ class ConcurrencyLimitTests {
 
 		final AtomicInteger current = new AtomicInteger();
 
+		final AtomicInteger maxObserved = new AtomicInteger();
+
 		@ConcurrencyLimit(2)
 		public void concurrentOperation() {
 			if (current.incrementAndGet() > 2) {
@@ -287,6 +309,18 @@ class ConcurrencyLimitTests {
 			current.decrementAndGet();
 		}
 
+		@ConcurrencyLimit(limit = 2, algorithm = AIMD, maxLimit = 4)
+		public void adaptiveOperation() {
+			maxObserved.accumulateAndGet(current.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(10);
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+			current.decrementAndGet();
+		}
+
 		@ConcurrencyLimit(limit = -1)
 		public void unboundedConcurrency() {
 			current.incrementAndGet();
@@ -478,6 +512,10 @@ class ConcurrencyLimitTests {
 		@ConcurrencyLimit(limitString = "B2")
 		public void alphanumericString() {
 		}
+
+		@ConcurrencyLimit(limit = 5, algorithm = GRADIENT, maxLimit = 4)
+		public void adaptiveLimitOutOfRange() {
+		}
 	}
 
 }
@@ -0,0 +1,470 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.resilience;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.resilience.annotation.EnableResilientMethods;
+import org.springframework.resilience.annotation.Hedged;
+import org.springframework.resilience.annotation.HedgedAnnotationBeanPostProcessor;
+import org.springframework.resilience.annotation.Timeout;
+import org.springframework.resilience.hedge.MethodHedgeSpec;
+import org.springframework.resilience.hedge.SimpleHedgingInterceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * @author Juergen Hoeller
+ * @since 7.1
+ */
+class HedgingInterceptorTests {
+
+	@Test
+	void withSimpleInterceptor() throws Exception {
+		SlowFirstBean target = new SlowFirstBean();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(2, Duration.ofMillis(20))));
+		HedgedInterface proxy = (HedgedInterface) pf.getProxy();
+
+		long start = System.nanoTime();
+		assertThat(proxy.hedgedOperation()).isEqualTo("2");
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+		assertThat(target.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(target.counter).hasValue(2);
+	}
+
+	@Test
+	void withSimpleInterceptorAndFastFirstAttempt() throws Exception {
+		SlowFirstBean target = new SlowFirstBean();
+		target.slow.set(false);
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(3, Duration.ofSeconds(10))));
+		HedgedInterface proxy = (HedgedInterface) pf.getProxy();
+
+		assertThat(proxy.hedgedOperation()).isEqualTo("1");
+		assertThat(target.counter).hasValue(1);
+	}
+
+	@Test
+	void failedAttemptTriggersNextAttempt() throws Exception {
+		FailingBean target = new FailingBean(1);
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(3, Duration.ofSeconds(10))));
+		HedgedInterface proxy = (HedgedInterface) pf.getProxy();
+
+		long start = System.nanoTime();
+		assertThat(proxy.hedgedOperation()).isEqualTo("2");
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+		assertThat(target.counter).hasValue(2);
+	}
+
+	@Test
+	void allAttemptsFailed() {
+		FailingBean target = new FailingBean(Integer.MAX_VALUE);
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(3, Duration.ZERO)));
+		HedgedInterface proxy = (HedgedInterface) pf.getProxy();
+
+		assertThatIOException().isThrownBy(proxy::hedgedOperation)
+				.satisfies(ex -> assertThat(ex.getSuppressed()).hasSize(2));
+		assertThat(target.counter).hasValue(3);
+	}
+
+	@Test
+	void withTimeout() throws Exception {
+		SlowFirstBean target = new SlowFirstBean();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(Duration.ofMillis(50))));
+		HedgedInterface proxy = (HedgedInterface) pf.getProxy();
+
+		assertThatExceptionOfType(InvocationTimeoutException.class).isThrownBy(proxy::hedgedOperation)
+				.satisfies(ex -> assertThat(ex.getTimeout()).isEqualTo(Duration.ofMillis(50)));
+		assertThat(target.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(target.counter).hasValue(1);
+		assertThat(target.firstAttemptThread).isSameAs(Thread.currentThread());
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+	}
+
+	@Test
+	void withTimeoutAndFastInvocation() throws Exception {
+		SlowFirstBean target = new SlowFirstBean();
+		target.slow.set(false);
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(Duration.ofMillis(50))));
+		HedgedInterface proxy = (HedgedInterface) pf.getProxy();
+
+		assertThat(proxy.hedgedOperation()).isEqualTo("1");
+		assertThat(target.firstAttemptThread).isSameAs(Thread.currentThread());
+		// The timer must not interrupt the calling thread once the invocation has returned
+		Thread.sleep(200);
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+	}
+
+	@Test
+	void withPostProcessorForMethod() throws Exception {
+		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
+		bf.registerBeanDefinition("bean", new RootBeanDefinition(AnnotatedMethodBean.class));
+		HedgedAnnotationBeanPostProcessor bpp = new HedgedAnnotationBeanPostProcessor();
+		bpp.setBeanFactory(bf);
+		bf.addBeanPostProcessor(bpp);
+		AnnotatedMethodBean proxy = bf.getBean(AnnotatedMethodBean.class);
+		AnnotatedMethodBean target = (AnnotatedMethodBean) ((Advised) proxy)
+				.getTargetSource().getTarget();
+
+		assertThat(proxy.hedgedOperation()).isEqualTo("2");
+		assertThat(target.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThatExceptionOfType(InvocationTimeoutException.class).isThrownBy(proxy::timeoutOperation);
+		assertThat(proxy.plainOperation()).isEqualTo("plain");
+	}
+
+	@Test
+	void withEnableAnnotation() throws Exception {
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		ctx.registerBean("bean", AnnotatedClassBean.class);
+		ctx.registerBean(EnablingConfig.class);
+		ctx.refresh();
+		AnnotatedClassBean proxy = ctx.getBean(AnnotatedClassBean.class);
+
+		assertThat(proxy.hedgedOperation()).isEqualTo("2");
+		assertThatExceptionOfType(InvocationTimeoutException.class).isThrownBy(proxy::timeoutOperation);
+		ctx.close();
+	}
+
+	@Test
+	void adaptReactiveResult() {
+		ReactiveBean target = new ReactiveBean();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(2, Duration.ofMillis(20))));
+		ReactiveBean proxy = (ReactiveBean) pf.getProxy();
+
+		assertThat(proxy.hedgedOperation().block(Duration.ofSeconds(5))).isEqualTo("2");
+		assertThat(target.counter).hasValue(2);
+	}
+
+	@Test
+	void adaptReactiveResultWithTimeout() {
+		ReactiveBean target = new ReactiveBean();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(Duration.ofMillis(50))));
+		ReactiveBean proxy = (ReactiveBean) pf.getProxy();
+
+		assertThatExceptionOfType(InvocationTimeoutException.class)
+				.isThrownBy(() -> proxy.hedgedOperation().block(Duration.ofSeconds(5)));
+		assertThat(target.counter).hasValue(1);
+	}
+
+	@Test
+	void adaptReactiveStreamWithTimeout() {
+		ReactiveBean target = new ReactiveBean();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(Duration.ofMillis(200))));
+		ReactiveBean proxy = (ReactiveBean) pf.getProxy();
+
+		// Each element arrives well within the timeout, the entire stream does not
+		assertThatExceptionOfType(InvocationTimeoutException.class)
+				.isThrownBy(() -> proxy.streamOperation(Duration.ofMillis(50)).collectList().block(Duration.ofSeconds(5)));
+		assertThat(target.emitted.get()).isLessThan(10);
+	}
+
+	@Test
+	void adaptReactiveStreamWithinTimeout() {
+		ReactiveBean target = new ReactiveBean();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(Duration.ofSeconds(5))));
+		ReactiveBean proxy = (ReactiveBean) pf.getProxy();
+
+		assertThat(proxy.streamOperation(Duration.ZERO).collectList().block(Duration.ofSeconds(5))).hasSize(10);
+	}
+
+	@Test
+	void withTaskDecorator() throws Exception {
+		SlowFirstBean target = new SlowFirstBean();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		SimpleHedgingInterceptor interceptor = new SimpleHedgingInterceptor(new MethodHedgeSpec(2, Duration.ofMillis(20)));
+		ThreadLocal<String> context = new ThreadLocal<>();
+		interceptor.setTaskDecorator(task -> {
+			String value = context.get();
+			return () -> {
+				context.set(value);
+				try {
+					task.run();
+				}
+				finally {
+					context.remove();
+				}
+			};
+		});
+		pf.addAdvice(interceptor);
+		HedgedInterface proxy = (HedgedInterface) pf.getProxy();
+
+		target.context = context;
+		context.set("caller");
+		try {
+			assertThat(proxy.hedgedOperation()).isEqualTo("2");
+		}
+		finally {
+			context.remove();
+		}
+		assertThat(target.observedContext).isEqualTo("caller");
+	}
+
+	@Test
+	void adaptCompletableFutureResult() throws Exception {
+		FutureBean target = new FutureBean();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(2, Duration.ofMillis(20))));
+		FutureBean proxy = (FutureBean) pf.getProxy();
+
+		assertThat(proxy.hedgedOperation().get(5, TimeUnit.SECONDS)).isEqualTo("2");
+		assertThat(target.counter).hasValue(2);
+		assertThatExceptionOfType(CancellationException.class)
+				.isThrownBy(() -> target.firstAttempt.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void adaptCompletableFutureResultWithTimeout() {
+		FutureBean target = new FutureBean();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(Duration.ofMillis(50))));
+		FutureBean proxy = (FutureBean) pf.getProxy();
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> proxy.hedgedOperation().get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(InvocationTimeoutException.class);
+		assertThat(target.counter).hasValue(1);
+		assertThatExceptionOfType(CancellationException.class)
+				.isThrownBy(() -> target.firstAttempt.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void rejectUnsupportedFutureType() {
+		FutureBean target = new FutureBean();
+		ProxyFactory pf = new ProxyFactory();
+		pf.setTarget(target);
+		pf.addAdvice(new SimpleHedgingInterceptor(new MethodHedgeSpec(2, Duration.ofMillis(20))));
+		FutureBean proxy = (FutureBean) pf.getProxy();
+
+		assertThatIllegalStateException().isThrownBy(proxy::unsupportedOperation);
+		assertThat(target.counter).hasValue(0);
+	}
+
+	@Test
+	void invalidHedgeSpec() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new MethodHedgeSpec(0, Duration.ZERO));
+		assertThatIllegalArgumentException().isThrownBy(() -> new MethodHedgeSpec(2, Duration.ofMillis(-1)));
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new MethodHedgeSpec(2, Duration.ZERO, 100.0, Duration.ZERO));
+	}
+
+
+	public interface HedgedInterface {
+
+		String hedgedOperation() throws IOException;
+	}
+
+
+	static class SlowFirstBean implements HedgedInterface {
+
+		final AtomicInteger counter = new AtomicInteger();
+
+		final AtomicBoolean slow = new AtomicBoolean(true);
+
+		final CountDownLatch interrupted = new CountDownLatch(1);
+
+		@Nullable ThreadLocal<String> context;
+
+		volatile @Nullable String observedContext;
+
+		volatile @Nullable Thread firstAttemptThread;
+
+		@Override
+		public String hedgedOperation() {
+			int attempt = this.counter.incrementAndGet();
+			if (attempt == 1) {
+				this.firstAttemptThread = Thread.currentThread();
+			}
+			if (attempt == 2 && this.context != null) {
+				this.observedContext = this.context.get();
+			}
+			if (attempt == 1 && this.slow.get()) {
+				try {
+					Thread.sleep(10_000);
+				}
+				catch (InterruptedException ex) {
+					this.interrupted.countDown();
+				}
+			}
+			return Integer.toString(attempt);
+		}
+	}
+
+
+	static class FailingBean implements HedgedInterface {
+
+		final AtomicInteger counter = new AtomicInteger();
+
+		private final int failures;
+
+		FailingBean(int failures) {
+			this.failures = failures;
+		}
+
+		@Override
+		public String hedgedOperation() throws IOException {
+			int attempt = this.counter.incrementAndGet();
+			if (attempt <= this.failures) {
+				throw new IOException(Integer.toString(attempt));
+			}
+			return Integer.toString(attempt);
+		}
+	}
+
+
+	static class AnnotatedMethodBean {
+
+		final AtomicInteger counter = new AtomicInteger();
+
+		final CountDownLatch interrupted = new CountDownLatch(1);
+
+		@Hedged(delay = 20)
+		public String hedgedOperation() {
+			int attempt = this.counter.incrementAndGet();
+			if (attempt == 1) {
+				try {
+					Thread.sleep(10_000);
+				}
+				catch (InterruptedException ex) {
+					this.interrupted.countDown();
+				}
+			}
+			return Integer.toString(attempt);
+		}
+
+		@Timeout(valueString = "50ms")
+		public String timeoutOperation() throws InterruptedException {
+			Thread.sleep(10_000);
+			return "timeout";
+		}
+
+		public String plainOperation() {
+			return "plain";
+		}
+	}
+
+
+	@Hedged(maxAttemptsString = "${missing:2}", delay = 20)
+	static class AnnotatedClassBean {
+
+		final AtomicInteger counter = new AtomicInteger();
+
+		public String hedgedOperation() throws InterruptedException {
+			int attempt = this.counter.incrementAndGet();
+			if (attempt == 1) {
+				Thread.sleep(10_000);
+			}
+			return Integer.toString(attempt);
+		}
+
+		@Timeout(50)
+		@Hedged(maxAttempts = 1)
+		public String timeoutOperation() throws InterruptedException {
+			Thread.sleep(10_000);
+			return "timeout";
+		}
+	}
+
+
+	static class FutureBean {
+
+		final AtomicInteger counter = new AtomicInteger();
+
+		final CompletableFuture<String> firstAttempt = new CompletableFuture<>();
+
+		public CompletableFuture<String> hedgedOperation() {
+			int attempt = this.counter.incrementAndGet();
+			return (attempt == 1 ? this.firstAttempt : CompletableFuture.completedFuture(Integer.toString(attempt)));
+		}
+
+		public FutureTask<String> unsupportedOperation() {
+			this.counter.incrementAndGet();
+			return new FutureTask<>(() -> "unsupported");
+		}
+	}
+
+
+	static class ReactiveBean {
+
+		final AtomicInteger counter = new AtomicInteger();
+
+		final AtomicInteger emitted = new AtomicInteger();
+
+		public Mono<String> hedgedOperation() {
+			return Mono.defer(() -> {
+				int attempt = this.counter.incrementAndGet();
+				Mono<String> result = Mono.just(Integer.toString(attempt));
+				return (attempt == 1 ? result.delayElement(Duration.ofSeconds(10)) : result);
+			});
+		}
+
+		public Flux<String> streamOperation(Duration interval) {
+			Flux<Long> ticks = (interval.isZero() ? Flux.range(0, 10).map(Long::valueOf) : Flux.interval(interval));
+			return ticks.take(10).doOnNext(tick -> this.emitted.incrementAndGet()).map(Object::toString);
+		}
+	}
+
+
+	@EnableResilientMethods
+	static class EnablingConfig {
+	}
+
+}
@@ -21,12 +21,20 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.awaitility.Awaitility;
 import org.jspecify.annotations.Nullable;
@@ -50,13 +58,17 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.Ordered;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskScope;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.KeyedTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -162,6 +174,58 @@ class EnableAsyncTests {
 		}
 	}
 
+	@Test
+	void withAsyncBeanWithKeyedExecutor() throws Exception {
+		Class<?> configClass = AsyncWithKeyedExecutorConfig.class;
+		try (ConfigurableApplicationContext context = new AnnotationConfigApplicationContext(configClass)) {
+			AsyncBeanWithKey asyncBean = context.getBean(AsyncBeanWithKey.class);
+			List<CompletableFuture<Thread>> futures = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				futures.add(asyncBean.process("a", i));
+				futures.add(asyncBean.process("b", i));
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+			assertThat(futures.get(0).get().getName()).startsWith("keyedExecutor-");
+			assertThat(asyncBean.values.get("a")).hasSize(100).isSorted();
+			assertThat(asyncBean.values.get("b")).hasSize(100).isSorted();
+
+			assertThatIllegalStateException().isThrownBy(() -> asyncBean.processWithoutKeyedExecutor("a"));
+		}
+	}
+
+	@Test
+	void withAsyncBeanWithTimeout() throws Exception {
+		Class<?> configClass = AsyncWithTimeoutConfig.class;
+		try (ConfigurableApplicationContext context = new AnnotationConfigApplicationContext(configClass)) {
+			AsyncBeanWithTimeout asyncBean = context.getBean(AsyncBeanWithTimeout.class);
+			assertThat(asyncBean.fanOut(10).get(5, TimeUnit.SECONDS)).isEqualTo(30);
+
+			CompletableFuture<Integer> future = asyncBean.fanOut(10000);
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+					.withCauseInstanceOf(TimeoutException.class);
+			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilTrue(asyncBean.interrupted);
+		}
+	}
+
+	@Test
+	void withAsyncBeanWithTimeoutWhileQueued() throws Exception {
+		Class<?> configClass = AsyncWithTimeoutAndSingleThreadConfig.class;
+		try (ConfigurableApplicationContext context = new AnnotationConfigApplicationContext(configClass)) {
+			AsyncBeanWithTimeout asyncBean = context.getBean(AsyncBeanWithTimeout.class);
+			CountDownLatch latch = new CountDownLatch(1);
+			asyncBean.block(latch);
+
+			CompletableFuture<Integer> future = asyncBean.count();
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+					.withCauseInstanceOf(TimeoutException.class);
+			latch.countDown();
+
+			// The single executor thread has processed the queued task once this one runs
+			asyncBean.block(new CountDownLatch(0)).get(5, TimeUnit.SECONDS);
+			assertThat(asyncBean.invocations).hasValue(0);
+		}
+	}
+
 	@Test
 	void asyncProcessorIsOrderedLowestPrecedenceByDefault() {
 		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
@@ -398,6 +462,62 @@ class EnableAsyncTests {
 	}
 
 
+	static class AsyncBeanWithKey {
+
+		final Map<String, List<Integer>> values = new ConcurrentHashMap<>();
+
+		@Async(value = "keyedExecutor", key = "#account")
+		public CompletableFuture<Thread> process(String account, int value) {
+			this.values.computeIfAbsent(account, key -> new ArrayList<>()).add(value);
+			return CompletableFuture.completedFuture(Thread.currentThread());
+		}
+
+		@Async(value = "otherExecutor", key = "#account")
+		public CompletableFuture<Thread> processWithoutKeyedExecutor(String account) {
+			return CompletableFuture.completedFuture(Thread.currentThread());
+		}
+	}
+
+
+	static class AsyncBeanWithTimeout {
+
+		final AtomicBoolean interrupted = new AtomicBoolean();
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		@Async(timeoutString = "200ms")
+		public CompletableFuture<Integer> fanOut(long delay) throws Exception {
+			try (TaskScope scope = TaskScope.open()) {
+				Future<Integer> first = scope.fork(() -> sleepAndReturn(delay, 10));
+				Future<Integer> second = scope.fork(() -> sleepAndReturn(delay, 20));
+				scope.join();
+				return CompletableFuture.completedFuture(first.get() + second.get());
+			}
+		}
+
+		@Async(timeoutString = "200ms")
+		public CompletableFuture<Integer> count() {
+			return CompletableFuture.completedFuture(this.invocations.incrementAndGet());
+		}
+
+		@Async
+		public CompletableFuture<Void> block(CountDownLatch latch) throws InterruptedException {
+			latch.await(5, TimeUnit.SECONDS);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		private int sleepAndReturn(long delay, int value) {
+			try {
+				Thread.sleep(delay);
+			}
+			catch (InterruptedException ex) {
+				this.interrupted.set(true);
+			}
+			return value;
+		}
+	}
+
+
 	static class AsyncBean {
 
 		private Thread threadOfExecution;
@@ -527,6 +647,62 @@ class EnableAsyncTests {
 	}
 
 
+	@Configuration
+	@EnableAsync
+	static class AsyncWithKeyedExecutorConfig {
+
+		@Bean
+		public AsyncBeanWithKey asyncBean() {
+			return new AsyncBeanWithKey();
+		}
+
+		@Bean
+		public KeyedTaskExecutor keyedExecutor() {
+			return new KeyedTaskExecutor();
+		}
+
+		@Bean
+		public Executor otherExecutor() {
+			return new ThreadPoolTaskExecutor();
+		}
+	}
+
+
+	@Configuration
+	@EnableAsync
+	static class AsyncWithTimeoutConfig {
+
+		@Bean
+		public AsyncBeanWithTimeout asyncBean() {
+			return new AsyncBeanWithTimeout();
+		}
+
+		@Bean
+		public SimpleAsyncTaskExecutor taskExecutor() {
+			return new SimpleAsyncTaskExecutor("timeout-");
+		}
+	}
+
+
+	@Configuration
+	@EnableAsync
+	static class AsyncWithTimeoutAndSingleThreadConfig {
+
+		@Bean
+		public AsyncBeanWithTimeout asyncBean() {
+			return new AsyncBeanWithTimeout();
+		}
+
+		@Bean
+		public ThreadPoolTaskExecutor taskExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(1);
+			executor.setMaxPoolSize(1);
+			return executor;
+		}
+	}
+
+
 	@Configuration
 	@EnableAsync
 	static class AsyncWithExecutorQualifiedByExpressionConfig {
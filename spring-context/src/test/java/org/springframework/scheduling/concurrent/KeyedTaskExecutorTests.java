@@ -0,0 +1,173 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.TaskRejectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link KeyedTaskExecutor}.
+ *
+ * @author Juergen Hoeller
+ */
+class KeyedTaskExecutorTests {
+
+	private final KeyedTaskExecutor executor = new KeyedTaskExecutor();
+
+
+	@BeforeEach
+	void setup() {
+		this.executor.setPoolSize(4);
+		this.executor.setMaxBatchSize(3);
+		this.executor.setWaitForTasksToCompleteOnShutdown(true);
+		this.executor.setAwaitTerminationSeconds(5);
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdown();
+	}
+
+
+	@Test
+	void laneCountRoundedToPowerOfTwo() {
+		this.executor.setLaneCount(10);
+		this.executor.initialize();
+		assertThat(this.executor.getLaneCount()).isEqualTo(16);
+	}
+
+	@Test
+	void defaultLaneCount() {
+		this.executor.initialize();
+		assertThat(this.executor.getLaneCount()).isEqualTo(16);
+	}
+
+	@Test
+	void tasksForSameKeyExecuteInOrder() throws Exception {
+		this.executor.initialize();
+		int keys = 20;
+		int tasksPerKey = 200;
+		Map<Integer, List<Integer>> results = new ConcurrentHashMap<>();
+		Map<Integer, AtomicInteger> running = new ConcurrentHashMap<>();
+		AtomicInteger overlaps = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(keys * tasksPerKey);
+		for (int i = 0; i < tasksPerKey; i++) {
+			for (int key = 0; key < keys; key++) {
+				int k = key;
+				int value = i;
+				this.executor.execute(k, () -> {
+					if (running.computeIfAbsent(k, x -> new AtomicInteger()).incrementAndGet() > 1) {
+						overlaps.incrementAndGet();
+					}
+					results.computeIfAbsent(k, x -> new ArrayList<>()).add(value);
+					running.get(k).decrementAndGet();
+					latch.countDown();
+				});
+			}
+		}
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(overlaps).hasValue(0);
+		for (int key = 0; key < keys; key++) {
+			assertThat(results.get(key)).hasSize(tasksPerKey).isSorted();
+		}
+		assertThat(this.executor.getQueueSize()).isZero();
+	}
+
+	@Test
+	void differentKeysExecuteInParallel() throws Exception {
+		this.executor.setLaneCount(64);
+		this.executor.initialize();
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		Runnable task = () -> {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		// Keys hashing to different lanes
+		this.executor.execute(1, task);
+		this.executor.execute(2, task);
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		release.countDown();
+	}
+
+	@Test
+	void submitWithKey() throws Exception {
+		this.executor.initialize();
+		Future<String> future = this.executor.submit("key", () -> "result");
+		CompletableFuture<String> completable = this.executor.submitCompletable("key", () -> "completable");
+		assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+		assertThat(completable.get(5, TimeUnit.SECONDS)).isEqualTo("completable");
+	}
+
+	@Test
+	void failingTaskDoesNotBlockLane() throws Exception {
+		this.executor.initialize();
+		CountDownLatch latch = new CountDownLatch(1);
+		this.executor.execute("key", () -> {
+			throw new IllegalStateException("failure");
+		});
+		this.executor.execute("key", latch::countDown);
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void executeWithoutKey() throws Exception {
+		this.executor.initialize();
+		assertThat(this.executor.submit(() -> "result").get(5, TimeUnit.SECONDS)).isEqualTo("result");
+	}
+
+	@Test
+	void executeBeforeInitialization() {
+		assertThatIllegalStateException().isThrownBy(() -> this.executor.execute("key", () -> {}));
+	}
+
+	@Test
+	void executeAfterShutdown() {
+		this.executor.initialize();
+		this.executor.shutdown();
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() -> this.executor.execute("key", () -> {}));
+	}
+
+	@Test
+	void customThreadFactoryNotSupported() {
+		this.executor.setThreadFactory(Thread::new);
+		assertThatIllegalStateException().isThrownBy(this.executor::initialize);
+	}
+
+}
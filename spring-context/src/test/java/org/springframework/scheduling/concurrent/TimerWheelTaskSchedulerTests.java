@@ -0,0 +1,142 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.scheduling.support.PeriodicTrigger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link TimerWheelTaskScheduler}.
+ *
+ * @author Juergen Hoeller
+ */
+class TimerWheelTaskSchedulerTests {
+
+	private final TimerWheelTaskScheduler scheduler = new TimerWheelTaskScheduler();
+
+
+	@AfterEach
+	void close() {
+		this.scheduler.close();
+	}
+
+
+	@Test
+	void scheduleOneTimeTask() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		Instant start = Instant.now();
+		ScheduledFuture<?> future = this.scheduler.schedule(latch::countDown, start.plusMillis(50));
+
+		assertThat(future.get(1000, TimeUnit.MILLISECONDS)).isNull();
+		assertThat(latch.getCount()).isZero();
+		assertThat(Duration.between(start, Instant.now())).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+		assertThat(future.isDone()).isTrue();
+		assertThat(this.scheduler.getScheduledTaskCount()).isZero();
+	}
+
+	@Test
+	void scheduleTaskBeyondSingleRevolution() throws Exception {
+		this.scheduler.setTickDuration(Duration.ofMillis(1));
+		this.scheduler.setTicksPerWheel(8);
+		CountDownLatch latch = new CountDownLatch(1);
+		Instant start = Instant.now();
+		ScheduledFuture<?> future = this.scheduler.schedule(latch::countDown, start.plusMillis(50));
+
+		future.get(1000, TimeUnit.MILLISECONDS);
+		assertThat(Duration.between(start, Instant.now())).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+	}
+
+	@Test
+	void cancelScheduledTask() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		ScheduledFuture<?> future = this.scheduler.schedule(count::incrementAndGet, Instant.now().plusMillis(50));
+		assertThat(future.cancel(false)).isTrue();
+		assertThat(future.isCancelled()).isTrue();
+		assertThat(future.cancel(false)).isFalse();
+
+		Thread.sleep(100);
+		assertThat(count).hasValue(0);
+		assertThat(this.scheduler.getScheduledTaskCount()).isZero();
+		assertThatExceptionOfType(CancellationException.class).isThrownBy(future::get);
+	}
+
+	@Test
+	void scheduleAtFixedRate() throws Exception {
+		CountDownLatch latch = new CountDownLatch(3);
+		ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(latch::countDown, Duration.ofMillis(10));
+
+		assertThat(latch.await(1000, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(future.isDone()).isFalse();
+		future.cancel(false);
+		assertThat(future.isDone()).isTrue();
+	}
+
+	@Test
+	void scheduleWithFixedDelay() throws Exception {
+		CountDownLatch latch = new CountDownLatch(3);
+		ScheduledFuture<?> future = this.scheduler.scheduleWithFixedDelay(latch::countDown, Duration.ofMillis(10));
+
+		assertThat(latch.await(1000, TimeUnit.MILLISECONDS)).isTrue();
+		future.cancel(false);
+	}
+
+	@Test
+	void scheduleTriggerTask() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		ScheduledFuture<?> future = this.scheduler.schedule(count::incrementAndGet,
+				triggerContext -> (count.get() < 3 ? new PeriodicTrigger(Duration.ofMillis(10))
+						.nextExecution(triggerContext) : null));
+
+		assertThat(future).isNotNull();
+		future.get(1000, TimeUnit.MILLISECONDS);
+		assertThat(count).hasValue(3);
+	}
+
+	@Test
+	void failingTaskWithErrorHandler() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		this.scheduler.setErrorHandler(ex -> latch.countDown());
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {
+			throw new IllegalStateException("Expected");
+		}, Instant.now());
+
+		assertThat(future.get(1000, TimeUnit.MILLISECONDS)).isNull();
+		assertThat(latch.getCount()).isZero();
+	}
+
+	@Test
+	void closeCancelsRemainingTasks() {
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {}, Instant.now().plusSeconds(60));
+		this.scheduler.close();
+
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+}
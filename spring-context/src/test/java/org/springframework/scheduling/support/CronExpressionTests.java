@@ -20,8 +20,10 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.time.Year;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.Temporal;
 
@@ -1386,4 +1388,43 @@ class CronExpressionTests {
 		assertThat(actual).isEqualTo(expected);
 	}
 
+	@Test
+	void compiledMatchesFieldByField() {
+		String[] expressions = {"0 0 9 * * *", "*/7 13-28 17,18 1,15 3-12 *", "0 0 0 29 2 *",
+				"0 30 2 * * SUN", "0 0 12 * * MON-FRI", "59 59 23 31 12 *", "@hourly", "@weekly"};
+		ZoneId zone = ZoneId.of("Europe/Amsterdam");
+		for (String expression : expressions) {
+			CronExpression cronExpression = CronExpression.parse(expression);
+			LocalDateTime local = LocalDateTime.of(2020, 1, 1, 0, 0, 0, 500);
+			ZonedDateTime zoned = local.atZone(zone);
+			for (int i = 0; i < 500; i++) {
+				LocalDateTime nextLocal = cronExpression.next(local);
+				assertThat(nextLocal).as(expression).isEqualTo(cronExpression.nextFieldByField(local));
+				ZonedDateTime nextZoned = cronExpression.next(zoned);
+				assertThat(nextZoned).as(expression).isEqualTo(cronExpression.nextFieldByField(zoned));
+				assertThat(nextLocal).isNotNull();
+				assertThat(nextZoned).isNotNull();
+				local = nextLocal.plusMinutes(i % 17);
+				zoned = nextZoned.plusMinutes(i % 17);
+			}
+		}
+	}
+
+	@Test
+	void compiledWithOffsetDateTime() {
+		CronExpression cronExpression = CronExpression.parse("0 0 0 29 2 *");
+		OffsetDateTime last = OffsetDateTime.of(2021, 3, 1, 12, 0, 0, 0, ZoneOffset.ofHours(5));
+		OffsetDateTime expected = OffsetDateTime.of(2024, 2, 29, 0, 0, 0, 0, ZoneOffset.ofHours(5));
+		OffsetDateTime actual = cronExpression.next(last);
+		assertThat(actual).isNotNull();
+		assertThat(actual).isEqualTo(expected);
+	}
+
+	@Test
+	void compiledWithoutMatch() {
+		CronExpression cronExpression = CronExpression.parse("0 0 0 31 2 *");
+		assertThat(cronExpression.next(LocalDateTime.of(2021, 1, 1, 0, 0))).isNull();
+		assertThat(cronExpression.next(ZonedDateTime.of(2021, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC")))).isNull();
+	}
+
 }
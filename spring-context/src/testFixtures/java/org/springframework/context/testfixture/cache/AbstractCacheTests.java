@@ -16,7 +16,9 @@
 
 package org.springframework.context.testfixture.cache;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -74,6 +76,27 @@ public abstract class AbstractCacheTests<T extends Cache> {
 		assertThat(cache.get(key, Object.class)).isNull();
 	}
 
+	@Test
+	void cachePutAllAndGetAll() {
+		T cache = getCache();
+
+		String key1 = createRandomKey();
+		String key2 = createRandomKey();
+		String missingKey = createRandomKey();
+		assertThat(cache.getAll(List.of(key1, key2, missingKey))).isEmpty();
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+		entries.put(key1, "george");
+		entries.put(key2, null);
+		cache.putAll(entries);
+
+		Map<Object, Cache.ValueWrapper> found = cache.getAll(List.of(key1, key2, missingKey));
+		assertThat(found).containsOnlyKeys(key1, key2);
+		assertThat(found.get(key1).get()).isEqualTo("george");
+		assertThat(found.get(key2).get()).isNull();
+		assertThat(cache.get(key1, String.class)).isEqualTo("george");
+	}
+
 	@Test
 	void cachePutIfAbsent() {
 		T cache = getCache();
@@ -0,0 +1,462 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.task;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.util.Assert;
+
+/**
+ * A scope for forking concurrent subtasks from a task and joining their results,
+ * following the principles of structured concurrency: subtasks never outlive
+ * their scope, the first failure cancels the remaining subtasks, and
+ * cancellation as well as deadlines propagate to nested scopes.
+ *
+ * <p>This serves as an equivalent of the JDK's {@code StructuredTaskScope}
+ * (a preview API on JDK 21+) for any {@link Executor}, typically an executor
+ * with virtual threads such as {@link SimpleAsyncTaskExecutor} with
+ * {@link SimpleAsyncTaskExecutor#setVirtualThreads virtual threads} enabled.
+ * Any {@link TaskDecorator} configured on the executor applies to the forked
+ * subtasks: for example, a
+ * {@link org.springframework.core.task.support.ContextPropagatingTaskDecorator}
+ * carrying the caller's context over to each subtask. Waiting is based on
+ * {@code java.util.concurrent} locks, without pinning virtual threads.
+ *
+ * <p>A scope is bound to the thread which opened it until it is closed, and
+ * forked subtasks run with their scope bound as well. A scope opened within
+ * a bound scope becomes a child scope: it inherits the parent's deadline
+ * (unless it specifies an earlier one), is cancelled along with its parent,
+ * and by default forks subtasks on the same executor. Typical usage:
+ *
+ * <pre class="code">
+ * try (TaskScope scope = TaskScope.open(executor, Duration.ofSeconds(2))) {
+ *     Future&lt;User&gt; user = scope.fork(() -&gt; findUser(id));
+ *     Future&lt;List&lt;Order&gt;&gt; orders = scope.fork(() -&gt; findOrders(id));
+ *     scope.join();
+ *     return new Summary(user.get(), orders.get());
+ * }</pre>
+ *
+ * <p>Within an {@code @Async} method with a timeout, a scope is bound for
+ * the method execution already, so that {@link #open()} creates a child
+ * scope with the {@code @Async} executor and deadline.
+ *
+ * @author Juergen Hoeller
+ * @since 7.1
+ * @see #open(Executor, Duration)
+ * @see #fork(Callable)
+ * @see #join()
+ */
+public final class TaskScope implements AutoCloseable {
+
+	private static final ThreadLocal<TaskScope> currentScope = new NamedThreadLocal<>("Current TaskScope");
+
+
+	private final @Nullable TaskScope parent;
+
+	private final @Nullable TaskScope previous;
+
+	private final Executor executor;
+
+	private final boolean timed;
+
+	private final long deadline;
+
+	private final Thread owner;
+
+	private final Set<Subtask<?>> subtasks = ConcurrentHashMap.newKeySet();
+
+	private final Set<TaskScope> children = ConcurrentHashMap.newKeySet();
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition stateChange = this.lock.newCondition();
+
+	// Guarded by lock
+	private int pendingCount;
+
+	// Guarded by lock
+	private int runningCount;
+
+	// Guarded by lock
+	private @Nullable Throwable failure;
+
+	private volatile boolean cancelled;
+
+	private boolean closed;
+
+
+	private TaskScope(@Nullable TaskScope parent, Executor executor, boolean timed, long deadline) {
+		this.parent = parent;
+		this.previous = currentScope.get();
+		this.executor = executor;
+		this.timed = timed;
+		this.deadline = deadline;
+		this.owner = Thread.currentThread();
+	}
+
+
+	/**
+	 * Open a child scope of the {@link #current() current scope},
+	 * using the same executor and deadline.
+	 * @throws IllegalStateException if there is no current scope
+	 */
+	public static TaskScope open() {
+		return open((Duration) null);
+	}
+
+	/**
+	 * Open a child scope of the {@link #current() current scope},
+	 * using the same executor and the given timeout (or the parent's deadline,
+	 * whichever comes first).
+	 * @param timeout the timeout for the new scope, or {@code null} for none
+	 * @throws IllegalStateException if there is no current scope
+	 */
+	public static TaskScope open(@Nullable Duration timeout) {
+		TaskScope current = currentScope.get();
+		Assert.state(current != null, "No current TaskScope - specify an Executor for a new scope");
+		return open(current.executor, timeout);
+	}
+
+	/**
+	 * Open a new scope for forking subtasks on the given executor, as a child
+	 * scope of the {@link #current() current scope} if there is any.
+	 * @param executor the executor to run subtasks on
+	 * @param timeout the timeout for the new scope, or {@code null} for none
+	 * (with a child scope still adhering to its parent's deadline)
+	 */
+	public static TaskScope open(Executor executor, @Nullable Duration timeout) {
+		Assert.notNull(executor, "Executor must not be null");
+		TaskScope parent = currentScope.get();
+		boolean timed = false;
+		long deadline = 0;
+		if (timeout != null) {
+			Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative");
+			timed = true;
+			deadline = System.nanoTime() + saturatedNanos(timeout);
+		}
+		if (parent != null && parent.timed && (!timed || parent.deadline - deadline < 0)) {
+			timed = true;
+			deadline = parent.deadline;
+		}
+		TaskScope scope = new TaskScope(parent, executor, timed, deadline);
+		if (parent != null) {
+			parent.children.add(scope);
+			if (parent.cancelled) {
+				scope.cancel();
+			}
+		}
+		currentScope.set(scope);
+		return scope;
+	}
+
+	/**
+	 * Return the scope bound to the current thread, if any: either a scope
+	 * opened by the current thread or the scope of a subtask being executed.
+	 */
+	public static @Nullable TaskScope current() {
+		return currentScope.get();
+	}
+
+
+	/**
+	 * Return the executor that subtasks are forked on.
+	 */
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Return the time remaining until the deadline of this scope.
+	 * @return the remaining time (zero if already exceeded),
+	 * or {@code null} if this scope has no deadline
+	 */
+	public @Nullable Duration getRemainingTime() {
+		return (this.timed ? Duration.ofNanos(Math.max(this.deadline - System.nanoTime(), 0)) : null);
+	}
+
+	/**
+	 * Return whether this scope has been cancelled, either directly
+	 * or through cancellation of its parent scope.
+	 */
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	/**
+	 * Fork a subtask, executing it on this scope's executor.
+	 * <p>Must be called by the thread which opened this scope.
+	 * If this scope has been cancelled already, the returned Future
+	 * is cancelled right away.
+	 * @param task the subtask to execute
+	 * @return a Future for the subtask's result, to be retrieved
+	 * after {@link #join()}
+	 * @throws TaskRejectedException if the executor rejected the subtask
+	 */
+	public <T> Future<T> fork(Callable<? extends T> task) {
+		assertOwner();
+		Assert.state(!this.closed, "TaskScope has been closed");
+		Subtask<T> subtask = new Subtask<>(task);
+		this.lock.lock();
+		try {
+			this.pendingCount++;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (this.cancelled) {
+			subtask.cancel(false);
+			return subtask;
+		}
+		this.subtasks.add(subtask);
+		try {
+			this.executor.execute(subtask);
+		}
+		catch (RuntimeException ex) {
+			subtask.cancel(false);
+			throw ex;
+		}
+		return subtask;
+	}
+
+	/**
+	 * Wait for all subtasks to complete, for the first subtask to fail,
+	 * or for the deadline to be exceeded, whichever comes first.
+	 * In the latter two cases, the remaining subtasks get cancelled.
+	 * <p>Must be called by the thread which opened this scope.
+	 * @throws ExecutionException for the first subtask failure
+	 * @throws TimeoutException if the deadline has been exceeded
+	 * @throws CancellationException if this scope has been cancelled
+	 * @throws InterruptedException if the current thread has been interrupted
+	 */
+	public void join() throws ExecutionException, TimeoutException, InterruptedException {
+		assertOwner();
+		boolean timedOut = false;
+		this.lock.lockInterruptibly();
+		try {
+			while (this.pendingCount > 0 && this.failure == null && !this.cancelled) {
+				if (this.timed) {
+					long remaining = this.deadline - System.nanoTime();
+					if (remaining <= 0) {
+						timedOut = true;
+						break;
+					}
+					this.stateChange.awaitNanos(remaining);
+				}
+				else {
+					this.stateChange.await();
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		Throwable failure = this.failure;
+		if (failure != null) {
+			throw new ExecutionException(failure);
+		}
+		if (this.cancelled) {
+			throw new CancellationException("TaskScope has been cancelled");
+		}
+		if (timedOut) {
+			shutdown();
+			throw new TimeoutException("TaskScope deadline exceeded");
+		}
+	}
+
+	/**
+	 * Cancel this scope: cancel all remaining subtasks with interruption,
+	 * cancel all child scopes, and let {@link #join()} throw a
+	 * {@link CancellationException}. May be called from any thread.
+	 */
+	public void cancel() {
+		this.cancelled = true;
+		shutdown();
+		this.lock.lock();
+		try {
+			this.stateChange.signalAll();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Close this scope: cancel all remaining subtasks with interruption
+	 * and wait for any running subtasks to terminate, then unbind this scope
+	 * from the current thread.
+	 * <p>Must be called by the thread which opened this scope.
+	 */
+	@Override
+	public void close() {
+		assertOwner();
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		shutdown();
+		boolean interrupted = false;
+		this.lock.lock();
+		try {
+			while (this.runningCount > 0) {
+				try {
+					this.stateChange.await();
+				}
+				catch (InterruptedException ex) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+			if (this.parent != null) {
+				this.parent.children.remove(this);
+			}
+			if (this.previous != null) {
+				currentScope.set(this.previous);
+			}
+			else {
+				currentScope.remove();
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+
+	private void assertOwner() {
+		Assert.state(Thread.currentThread() == this.owner, "Not called by the thread which opened the TaskScope");
+	}
+
+	private void shutdown() {
+		for (Subtask<?> subtask : this.subtasks) {
+			subtask.cancel(true);
+		}
+		for (TaskScope child : this.children) {
+			child.cancel();
+		}
+	}
+
+	private void subtaskCompleted(Subtask<?> subtask, @Nullable Throwable ex) {
+		this.subtasks.remove(subtask);
+		boolean firstFailure = false;
+		this.lock.lock();
+		try {
+			this.pendingCount--;
+			if (ex != null && this.failure == null) {
+				this.failure = ex;
+				firstFailure = true;
+			}
+			this.stateChange.signalAll();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (firstFailure) {
+			shutdown();
+		}
+	}
+
+	private void subtaskStarted() {
+		this.lock.lock();
+		try {
+			this.runningCount++;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void subtaskFinished() {
+		this.lock.lock();
+		try {
+			this.runningCount--;
+			this.stateChange.signalAll();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private static long saturatedNanos(Duration timeout) {
+		try {
+			return timeout.toNanos();
+		}
+		catch (ArithmeticException ex) {
+			return Long.MAX_VALUE / 2;
+		}
+	}
+
+
+	/**
+	 * A subtask executed within this scope, bound to the executing thread.
+	 */
+	private final class Subtask<T> extends FutureTask<T> {
+
+		private volatile @Nullable Throwable failure;
+
+		@SuppressWarnings("unchecked")
+		Subtask(Callable<? extends T> task) {
+			super((Callable<T>) task);
+		}
+
+		@Override
+		public void run() {
+			subtaskStarted();
+			TaskScope previous = currentScope.get();
+			currentScope.set(TaskScope.this);
+			try {
+				super.run();
+			}
+			finally {
+				if (previous != null) {
+					currentScope.set(previous);
+				}
+				else {
+					currentScope.remove();
+				}
+				subtaskFinished();
+			}
+		}
+
+		@Override
+		protected void setException(Throwable ex) {
+			this.failure = ex;
+			super.setException(ex);
+		}
+
+		@Override
+		protected void done() {
+			subtaskCompleted(this, (isCancelled() ? null : this.failure));
+		}
+	}
+
+}
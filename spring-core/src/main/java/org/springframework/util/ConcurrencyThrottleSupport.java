@@ -74,7 +74,7 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 
 	private final Condition concurrencyCondition = this.concurrencyLock.newCondition();
 
-	private int concurrencyLimit = UNBOUNDED_CONCURRENCY;
+	private volatile int concurrencyLimit = UNBOUNDED_CONCURRENCY;
 
 	private int concurrencyCount = 0;
 
@@ -85,12 +85,25 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 	 * limit at all.
 	 * <p>In principle, this limit can be changed at runtime,
 	 * although it is generally designed as a config time setting.
+	 * As of 7.1, threads blocked on the previous limit re-check
+	 * their access against an increased limit right away.
 	 * <p>NOTE: Do not switch between {@code -1} and any concrete limit at runtime,
 	 * as this will lead to inconsistent concurrency counts. A limit
 	 * of {@code -1} effectively turns off concurrency counting completely.
 	 */
 	public void setConcurrencyLimit(int concurrencyLimit) {
-		this.concurrencyLimit = concurrencyLimit;
+		this.concurrencyLock.lock();
+		try {
+			int previousLimit = this.concurrencyLimit;
+			this.concurrencyLimit = concurrencyLimit;
+			if (concurrencyLimit > previousLimit) {
+				// Only an increased limit may let blocked threads enter
+				this.concurrencyCondition.signalAll();
+			}
+		}
+		finally {
+			this.concurrencyLock.unlock();
+		}
 	}
 
 	/**
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.task;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link TaskScope}.
+ *
+ * @author Juergen Hoeller
+ */
+class TaskScopeTests {
+
+	private final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+
+
+	@AfterEach
+	void close() {
+		this.executor.close();
+		assertThat(TaskScope.current()).isNull();
+	}
+
+
+	@Test
+	void forkAndJoin() throws Exception {
+		try (TaskScope scope = TaskScope.open(this.executor, null)) {
+			assertThat(TaskScope.current()).isSameAs(scope);
+			Future<String> first = scope.fork(() -> "first");
+			Future<Integer> second = scope.fork(() -> 2);
+			scope.join();
+			assertThat(first.get()).isEqualTo("first");
+			assertThat(second.get()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	void firstFailureCancelsRemainingSubtasks() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean interrupted = new AtomicBoolean();
+		try (TaskScope scope = TaskScope.open(this.executor, null)) {
+			Future<Object> slow = scope.fork(() -> {
+				started.countDown();
+				try {
+					Thread.sleep(10000);
+				}
+				catch (InterruptedException ex) {
+					interrupted.set(true);
+				}
+				return null;
+			});
+			started.await(5, TimeUnit.SECONDS);
+			scope.fork(() -> {
+				throw new IllegalStateException("failure");
+			});
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(scope::join)
+					.withCauseInstanceOf(IllegalStateException.class);
+			assertThat(slow.isCancelled()).isTrue();
+		}
+		assertThat(interrupted).isTrue();
+	}
+
+	@Test
+	void deadlineExceeded() {
+		try (TaskScope scope = TaskScope.open(this.executor, Duration.ofMillis(50))) {
+			Future<Object> slow = scope.fork(() -> {
+				Thread.sleep(10000);
+				return null;
+			});
+			assertThatExceptionOfType(TimeoutException.class).isThrownBy(scope::join);
+			assertThat(slow.isCancelled()).isTrue();
+		}
+	}
+
+	@Test
+	void childScopeInheritsExecutorAndDeadline() throws Exception {
+		try (TaskScope scope = TaskScope.open(this.executor, Duration.ofSeconds(10))) {
+			Future<Duration> remaining = scope.fork(() -> {
+				try (TaskScope child = TaskScope.open()) {
+					assertThat(child.getExecutor()).isSameAs(this.executor);
+					return child.getRemainingTime();
+				}
+			});
+			scope.join();
+			assertThat(remaining.get()).isNotNull().isLessThanOrEqualTo(Duration.ofSeconds(10));
+		}
+	}
+
+	@Test
+	void childScopeWithEarlierDeadline() {
+		try (TaskScope scope = TaskScope.open(this.executor, Duration.ofSeconds(10))) {
+			try (TaskScope child = TaskScope.open(Duration.ofSeconds(1))) {
+				assertThat(TaskScope.current()).isSameAs(child);
+				assertThat(child.getRemainingTime()).isLessThanOrEqualTo(Duration.ofSeconds(1));
+			}
+			assertThat(TaskScope.current()).isSameAs(scope);
+		}
+	}
+
+	@Test
+	void cancellationPropagatesToChildScopes() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicReference<Throwable> childResult = new AtomicReference<>();
+		try (TaskScope scope = TaskScope.open(this.executor, null)) {
+			scope.fork(() -> {
+				try (TaskScope child = TaskScope.open()) {
+					child.fork(() -> {
+						Thread.sleep(10000);
+						return null;
+					});
+					started.countDown();
+					child.join();
+				}
+				catch (Throwable ex) {
+					childResult.set(ex);
+				}
+				return null;
+			});
+			started.await(5, TimeUnit.SECONDS);
+			scope.cancel();
+			assertThat(scope.isCancelled()).isTrue();
+			assertThatExceptionOfType(CancellationException.class).isThrownBy(scope::join);
+		}
+		assertThat(childResult.get()).isInstanceOfAny(CancellationException.class, InterruptedException.class);
+	}
+
+	@Test
+	void forkAfterCancel() {
+		try (TaskScope scope = TaskScope.open(this.executor, null)) {
+			scope.cancel();
+			assertThat(scope.fork(() -> "value").isCancelled()).isTrue();
+		}
+	}
+
+	@Test
+	void openWithoutCurrentScope() {
+		assertThatIllegalStateException().isThrownBy(TaskScope::open);
+	}
+
+}
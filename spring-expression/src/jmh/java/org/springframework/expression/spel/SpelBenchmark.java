@@ -22,7 +22,9 @@ import java.util.Map;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import org.springframework.expression.EvaluationContext;
@@ -103,4 +105,37 @@ public class SpelBenchmark {
 		return data.expression.getValue(data.context);
 	}
 
+	@State(Scope.Benchmark)
+	public static class CompilerBenchmarkData {
+
+		@Param({"OFF", "IMMEDIATE"})
+		public SpelCompilerMode compilerMode;
+
+		public EvaluationContext context;
+
+		public Expression inlineMapExpression;
+
+		public Expression safeNavigationExpression;
+
+		@Setup
+		public void setup() {
+			Map<String, Object> map = new HashMap<>();
+			map.put("key", "value");
+			this.context = new StandardEvaluationContext(map);
+			ExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(this.compilerMode, null));
+			this.inlineMapExpression = parser.parseExpression("{one:1,two:2,three:3}['two']");
+			this.safeNavigationExpression = parser.parseExpression("#root['key']?.length()");
+		}
+	}
+
+	@Benchmark
+	public Object inlineMapIndex(CompilerBenchmarkData data) {
+		return data.inlineMapExpression.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object mapIndexSafeNavigation(CompilerBenchmarkData data) {
+		return data.safeNavigationExpression.getValue(data.context);
+	}
+
 }
@@ -22,8 +22,10 @@ import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelNode;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
@@ -167,4 +169,72 @@ public class InlineMap extends SpelNodeImpl {
 		return (Map<Object, Object>) this.constant.getValue();
 	}
 
+	@Override
+	public boolean isCompilable() {
+		return isConstant();
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow codeflow) {
+		final String constantFieldName = "inlineMap$" + codeflow.nextFieldId();
+		final String className = codeflow.getClassName();
+
+		codeflow.registerNewField((cw, cflow) ->
+				cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, constantFieldName, "Ljava/util/Map;", null, null));
+
+		codeflow.registerNewClinit((mVisitor, cflow) ->
+				generateClinitCode(className, constantFieldName, mVisitor, cflow, false));
+
+		mv.visitFieldInsn(GETSTATIC, className, constantFieldName, "Ljava/util/Map;");
+		codeflow.pushDescriptor("Ljava/util/Map");
+	}
+
+	void generateClinitCode(String clazzname, String constantFieldName, MethodVisitor mv, CodeFlow codeflow, boolean nested) {
+		mv.visitTypeInsn(NEW, "java/util/LinkedHashMap");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/LinkedHashMap", "<init>", "()V", false);
+		int childCount = getChildCount();
+		for (int c = 0; c < childCount; c++) {
+			mv.visitInsn(DUP);
+			SpelNodeImpl keyChild = this.children[c++];
+			if (keyChild instanceof PropertyOrFieldReference reference) {
+				// Unquoted keys are parsed as property references but denote their own name
+				mv.visitLdcInsn(reference.getName());
+			}
+			else {
+				generateElementCode(keyChild, clazzname, constantFieldName, mv, codeflow);
+			}
+			generateElementCode(this.children[c], clazzname, constantFieldName, mv, codeflow);
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put",
+					"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+			mv.visitInsn(POP);
+		}
+		// Same semantics as the interpreted constant: the map must not be modifiable
+		mv.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "unmodifiableMap",
+				"(Ljava/util/Map;)Ljava/util/Map;", false);
+		if (!nested) {
+			mv.visitFieldInsn(PUTSTATIC, clazzname, constantFieldName, "Ljava/util/Map;");
+		}
+	}
+
+	private static void generateElementCode(SpelNodeImpl child, String clazzname, String constantFieldName,
+			MethodVisitor mv, CodeFlow codeflow) {
+
+		// Nested lists and maps are built directly here rather than through generateCode(),
+		// since the latter would register another field and clinit adder.
+		if (child instanceof InlineList inlineList) {
+			inlineList.generateClinitCode(clazzname, constantFieldName, mv, codeflow, true);
+		}
+		else if (child instanceof InlineMap inlineMap) {
+			inlineMap.generateClinitCode(clazzname, constantFieldName, mv, codeflow, true);
+		}
+		else {
+			child.generateCode(mv, codeflow);
+			String lastDesc = codeflow.lastDescriptor();
+			if (CodeFlow.isPrimitive(lastDesc)) {
+				CodeFlow.insertBoxIfNecessary(mv, lastDesc.charAt(0));
+			}
+		}
+	}
+
 }
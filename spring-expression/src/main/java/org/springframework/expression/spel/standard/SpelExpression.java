@@ -56,6 +56,10 @@ public class SpelExpression implements Expression {
 	// Number of times to try compiling an expression before giving up
 	private static final int FAILED_ATTEMPTS_THRESHOLD = 100;
 
+	// Upper bound for the exponential backoff of the interpreted count threshold
+	// after repeated deoptimizations, i.e. at most 100 << 10 interpretations
+	private static final int MAX_DEOPTIMIZATION_BACKOFF = 10;
+
 
 	private final String expression;
 
@@ -77,6 +81,18 @@ public class SpelExpression implements Expression {
 	// give up trying to compile it when it just doesn't seem to be possible.
 	private final AtomicInteger failedAttempts = new AtomicInteger();
 
+	// The number of times a compiled form had to be discarded at runtime in mixed mode,
+	// typically because the types flowing through the expression have changed.
+	private final AtomicInteger deoptimizations = new AtomicInteger();
+
+	// The root object type seen by the interpreted evaluations in mixed mode since the
+	// last deoptimization, only profiled once a compiled form had to be discarded.
+	private volatile @Nullable Class<?> profiledRootType;
+
+	// Whether different root object types have been seen since the last deoptimization,
+	// in which case a recompiled form is likely to fail again: see checkCompile.
+	private volatile boolean polymorphicRootType;
+
 
 	/**
 	 * Construct an expression, only used by the parser.
@@ -126,8 +142,7 @@ public class SpelExpression implements Expression {
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
+					deoptimize(compiledAst);
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -161,8 +176,7 @@ public class SpelExpression implements Expression {
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
+					deoptimize(compiledAst);
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -188,8 +202,7 @@ public class SpelExpression implements Expression {
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
+					deoptimize(compiledAst);
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -223,8 +236,7 @@ public class SpelExpression implements Expression {
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
+					deoptimize(compiledAst);
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -253,8 +265,7 @@ public class SpelExpression implements Expression {
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
+					deoptimize(compiledAst);
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -288,8 +299,7 @@ public class SpelExpression implements Expression {
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
+					deoptimize(compiledAst);
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -316,8 +326,7 @@ public class SpelExpression implements Expression {
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
+					deoptimize(compiledAst);
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -353,8 +362,7 @@ public class SpelExpression implements Expression {
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
 				if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-					this.compiledAst = null;
-					this.interpretedCount.set(0);
+					deoptimize(compiledAst);
 				}
 				else {
 					// Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -477,13 +485,41 @@ public class SpelExpression implements Expression {
 			}
 			else {
 				// compilerMode = SpelCompilerMode.MIXED
-				if (this.interpretedCount.get() > INTERPRETED_COUNT_THRESHOLD) {
+				int threshold = INTERPRETED_COUNT_THRESHOLD;
+				int deoptimizations = this.deoptimizations.get();
+				if (deoptimizations > 0 && profileRootType(expressionState)) {
+					// A compiled form failed before and the root type keeps changing:
+					// back off exponentially, while still recompiling eventually.
+					threshold <<= Math.min(deoptimizations, MAX_DEOPTIMIZATION_BACKOFF);
+				}
+				if (this.interpretedCount.get() > threshold) {
 					compileExpression();
 				}
 			}
 		}
 	}
 
+	/**
+	 * Record the root object type of the given interpreted evaluation.
+	 * @return whether different root object types have been seen since
+	 * the last deoptimization
+	 */
+	private boolean profileRootType(ExpressionState expressionState) {
+		if (this.polymorphicRootType) {
+			return true;
+		}
+		Object rootObject = expressionState.getRootContextObject().getValue();
+		Class<?> rootType = (rootObject != null ? rootObject.getClass() : Void.class);
+		Class<?> profiledRootType = this.profiledRootType;
+		if (profiledRootType == null) {
+			this.profiledRootType = rootType;
+		}
+		else if (profiledRootType != rootType) {
+			this.polymorphicRootType = true;
+		}
+		return this.polymorphicRootType;
+	}
+
 	/**
 	 * Perform expression compilation. This will only succeed once exit descriptors for
 	 * all nodes have been determined. If the compilation fails and has failed more than
@@ -547,6 +583,41 @@ public class SpelExpression implements Expression {
 		this.compiledAst = null;
 		this.interpretedCount.set(0);
 		this.failedAttempts.set(0);
+		this.deoptimizations.set(0);
+		this.profiledRootType = null;
+		this.polymorphicRootType = false;
+	}
+
+	/**
+	 * Return the number of times a compiled form of this expression has been
+	 * discarded at runtime in {@link SpelCompilerMode#MIXED mixed} mode.
+	 * <p>After a deoptimization, the root object type is being profiled: if it
+	 * is stable, the expression is compiled again after the regular number of
+	 * interpreted evaluations. If it keeps changing, each deoptimization doubles
+	 * the number of interpreted evaluations required before the expression is
+	 * compiled again, so that expressions seeing polymorphic input settle instead
+	 * of being recompiled repeatedly.
+	 * @since 7.1
+	 * @see #revertToInterpreted()
+	 */
+	public int getDeoptimizationCount() {
+		return this.deoptimizations.get();
+	}
+
+	/**
+	 * Discard the given compiled form after it failed at runtime, unless another
+	 * thread has already replaced it.
+	 */
+	private void deoptimize(CompiledExpression failedAst) {
+		synchronized (this) {
+			if (this.compiledAst == failedAst) {
+				this.compiledAst = null;
+				this.interpretedCount.set(0);
+				this.profiledRootType = null;
+				this.polymorphicRootType = false;
+				this.deoptimizations.incrementAndGet();
+			}
+		}
 	}
 
 	/**
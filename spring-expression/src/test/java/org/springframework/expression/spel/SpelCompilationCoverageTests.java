@@ -112,6 +112,7 @@ import static org.springframework.expression.spel.standard.SpelExpressionTestUti
  * ConstructorReference
  * FunctionReference
  * InlineList
+ * InlineMap
  * OpModulus
  *
  * <p>Not yet compiled (some may never need to be):
@@ -1832,6 +1833,73 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertThat(o).isEqualTo("op");
 	}
 
+	@SuppressWarnings("rawtypes")
+	@Test
+	void inlineMap() {
+		expression = parser.parseExpression("{a:'abc',b:'def'}");
+		Map<?, ?> m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{a=abc, b=def}");
+		assertCanCompile(expression);
+		Map<?, ?> compiled = (Map) expression.getValue();
+		assertThat(compiled.toString()).isEqualTo("{a=abc, b=def}");
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(compiled::clear);
+
+		expression = parser.parseExpression("{a:'abcde',b:'ijklm'}['b']");
+		Object o = expression.getValue();
+		assertThat(o).isEqualTo("ijklm");
+		assertCanCompile(expression);
+		o = expression.getValue();
+		assertThat(o).isEqualTo("ijklm");
+
+		expression = parser.parseExpression("'abcde'.substring({one:1,three:3}[three])");
+		o = expression.getValue();
+		assertThat(o).isEqualTo("de");
+		assertCanCompile(expression);
+		o = expression.getValue();
+		assertThat(o).isEqualTo("de");
+
+		expression = parser.parseExpression("{1:'one',-2:-2.5d,'k':null}");
+		m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{1=one, -2=-2.5, k=null}");
+		assertCanCompile(expression);
+		m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{1=one, -2=-2.5, k=null}");
+		assertThat(m.get(1)).isEqualTo("one");
+		assertThat(m.get(-2)).isEqualTo(-2.5d);
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Test
+	void nestedInlineMaps() {
+		expression = parser.parseExpression("{a:{b:'c'},d:{1,2,3}}");
+		Map<?, ?> m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{a={b=c}, d=[1, 2, 3]}");
+		assertCanCompile(expression);
+		m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{a={b=c}, d=[1, 2, 3]}");
+
+		expression = parser.parseExpression("{a:{b:'c'},d:{1,2,3}}['a']['b']");
+		Object o = expression.getValue();
+		assertThat(o).isEqualTo("c");
+		assertCanCompile(expression);
+		o = expression.getValue();
+		assertThat(o).isEqualTo("c");
+
+		expression = parser.parseExpression("{a:{b:'c'},d:{1,2,3}}['d'][2]");
+		o = expression.getValue();
+		assertThat(o).isEqualTo(3);
+		assertCanCompile(expression);
+		o = expression.getValue();
+		assertThat(o).isEqualTo(3);
+	}
+
+	@Test
+	void nonConstantInlineMapIsNotCompilable() {
+		expression = parser.parseExpression("{a:#root}");
+		expression.getValue("abc");
+		assertCannotCompile(expression);
+	}
+
 	@Test
 	void intLiteral() {
 		expression = parser.parseExpression("42");
@@ -29,6 +29,7 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.BOOLEAN;
 import static org.springframework.expression.spel.standard.SpelExpressionTestUtils.assertIsCompiled;
+import static org.springframework.expression.spel.standard.SpelExpressionTestUtils.assertIsNotCompiled;
 
 /**
  * Tests for the {@link SpelCompiler}.
@@ -92,6 +93,66 @@ class SpelCompilerTests {
 		});
 	}
 
+	@Test
+	void changingRootObjectTypeRecompilesInMixedMode() {
+		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.MIXED, null);
+		SpelExpressionParser parser = new SpelExpressionParser(config);
+		SpelExpression expression = (SpelExpression) parser.parseExpression("value");
+
+		IntStream.rangeClosed(1, 101).forEach(i -> assertThat(expression.getValue(new Bean1())).isEqualTo("11"));
+		assertIsCompiled(expression);
+
+		// Compiled form no longer applies: deoptimize and recompile for the new stable type
+		assertThat(expression.getValue(new Bean2())).isEqualTo(111);
+		assertThat(expression.getDeoptimizationCount()).isEqualTo(1);
+		assertIsNotCompiled(expression);
+		IntStream.rangeClosed(1, 100).forEach(i -> assertThat(expression.getValue(new Bean2())).isEqualTo(111));
+		assertIsCompiled(expression);
+
+		expression.revertToInterpreted();
+		assertThat(expression.getDeoptimizationCount()).isZero();
+	}
+
+	@Test
+	void alternatingRootObjectTypesBackOffRecompilationInMixedMode() {
+		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.MIXED, null);
+		SpelExpressionParser parser = new SpelExpressionParser(config);
+		SpelExpression expression = (SpelExpression) parser.parseExpression("value");
+
+		// Compiled for Bean1 after the regular threshold, despite alternating types
+		IntStream.rangeClosed(1, 101).forEach(i -> expression.getValue(i % 2 == 1 ? new Bean1() : new Bean2()));
+		assertIsCompiled(expression);
+
+		// Fails for Bean2: deoptimize and back off while types keep alternating
+		assertThat(expression.getValue(new Bean2())).isEqualTo(111);
+		assertThat(expression.getDeoptimizationCount()).isEqualTo(1);
+		IntStream.rangeClosed(1, 150).forEach(i -> expression.getValue(i % 2 == 1 ? new Bean1() : new Bean2()));
+		assertIsNotCompiled(expression);
+
+		// Compiled again eventually, after twice the regular threshold
+		IntStream.rangeClosed(1, 49).forEach(i -> expression.getValue(i % 2 == 1 ? new Bean2() : new Bean1()));
+		assertIsNotCompiled(expression);
+		assertThat(expression.getValue(new Bean1())).isEqualTo("11");
+		assertIsCompiled(expression);
+	}
+
+	@Test
+	void alternatingRootObjectTypesCompileRootIndependentExpressionInMixedMode() {
+		SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.MIXED, null);
+		SpelExpressionParser parser = new SpelExpressionParser(config);
+		SpelExpression expression = (SpelExpression) parser.parseExpression("#name");
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setVariable("name", "spring");
+
+		IntStream.rangeClosed(1, 101).forEach(i -> assertThat(
+				expression.getValue(context, (i % 2 == 1 ? new Bean1() : new Bean2()))).isEqualTo("spring"));
+		assertIsCompiled(expression);
+		IntStream.rangeClosed(1, 10).forEach(i -> assertThat(
+				expression.getValue(context, (i % 2 == 1 ? new Bean1() : new Bean2()))).isEqualTo("spring"));
+		assertIsCompiled(expression);
+		assertThat(expression.getDeoptimizationCount()).isZero();
+	}
+
 
 	static class OrderedComponent implements Ordered {
 
@@ -30,11 +30,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 public abstract class SpelExpressionTestUtils {
 
 	public static void assertIsCompiled(Expression expression) {
+		assertThat(getCompiledAst(expression)).isNotNull();
+	}
+
+	public static void assertIsNotCompiled(Expression expression) {
+		assertThat(getCompiledAst(expression)).isNull();
+	}
+
+	private static Object getCompiledAst(Expression expression) {
 		try {
 			Field field = SpelExpression.class.getDeclaredField("compiledAst");
 			field.setAccessible(true);
-			Object object = field.get(expression);
-			assertThat(object).isNotNull();
+			return field.get(expression);
 		}
 		catch (Exception ex) {
 			throw new AssertionError(ex.getMessage(), ex);
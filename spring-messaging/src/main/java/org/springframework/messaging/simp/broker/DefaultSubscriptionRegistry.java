@@ -45,6 +45,7 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.messaging.support.NativeMessageHeaderAccessor;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.PathMatcher;
@@ -72,6 +73,9 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 	/** Default maximum number of entries for the destination cache: 1024. */
 	public static final int DEFAULT_CACHE_LIMIT = 1024;
 
+	/** Maximum number of parsed selector expressions to keep: 256. */
+	private static final int SELECTOR_CACHE_LIMIT = 256;
+
 	/** Static evaluation context to reuse. */
 	private static final EvaluationContext messageEvalContext =
 			SimpleEvaluationContext.forPropertyAccessors(new SimpMessageHeaderPropertyAccessor()).build();
@@ -87,6 +91,9 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 	private final ExpressionParser expressionParser = new SpelExpressionParser();
 
+	private final ConcurrentLruCache<String, Expression> selectorCache =
+			new ConcurrentLruCache<>(SELECTOR_CACHE_LIMIT, this.expressionParser::parseExpression);
+
 	private final DestinationCache destinationCache = new DestinationCache();
 
 	private final SessionRegistry sessionRegistry = new SessionRegistry();
@@ -174,7 +181,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		}
 		Expression expression = null;
 		try {
-			expression = this.expressionParser.parseExpression(selector);
+			// Subscribers commonly share the same selector, so reuse its parsed form
+			expression = this.selectorCache.get(selector);
 			this.selectorHeaderInUse = true;
 			if (logger.isTraceEnabled()) {
 				logger.trace("Subscription selector: [" + selector + "]");
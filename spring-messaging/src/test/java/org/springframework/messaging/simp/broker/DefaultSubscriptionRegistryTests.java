@@ -309,6 +309,48 @@ class DefaultSubscriptionRegistryTests {
 		assertThat(subscriptions.get(sessionId3)).containsExactly(subscriptionId3);
 	}
 
+	@Test
+	void registerSubscriptionsWithSameSelectorHeader() {
+		String destination = "/foo";
+		String selector = "headers.foo == 'bar'";
+		this.registry.setSelectorHeaderName("selector");
+
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", destination, selector));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs02", destination, selector));
+		this.registry.registerSubscription(subscribeMessage("sess03", "subs03", destination, "headers.foo =="));
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+		accessor.setDestination(destination);
+		accessor.setNativeHeader("foo", "bar");
+		Message<?> message = MessageBuilder.createMessage("", accessor.getMessageHeaders());
+
+		// Invalid selector is ignored, as before
+		MultiValueMap<String, String> subscriptions = this.registry.findSubscriptions(message);
+		assertThat(subscriptions).containsOnlyKeys("sess01", "sess02", "sess03");
+
+		accessor = SimpMessageHeaderAccessor.create();
+		accessor.setDestination(destination);
+		accessor.setNativeHeader("foo", "enigma");
+		message = MessageBuilder.createMessage("", accessor.getMessageHeaders());
+
+		subscriptions = this.registry.findSubscriptions(message);
+		assertThat(subscriptions).containsOnlyKeys("sess03");
+
+		// Remaining subscription with the same selector still filters on its own
+		this.registry.unregisterSubscription(unsubscribeMessage("sess01", "subs01"));
+		subscriptions = this.registry.findSubscriptions(message);
+		assertThat(subscriptions).containsOnlyKeys("sess03");
+
+		accessor = SimpMessageHeaderAccessor.create();
+		accessor.setDestination(destination);
+		accessor.setNativeHeader("foo", "bar");
+		message = MessageBuilder.createMessage("", accessor.getMessageHeaders());
+
+		subscriptions = this.registry.findSubscriptions(message);
+		assertThat(subscriptions).containsOnlyKeys("sess02", "sess03");
+		assertThat(subscriptions.get("sess02")).containsExactly("subs02");
+	}
+
 	@Test
 	void registerSubscriptionWithSelectorHeaderDisabledByDefault() {
 		String sessionId1 = "sess01";
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.r2dbc.core;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.r2dbc.core.binding.BindMarkersFactory;
+import org.springframework.r2dbc.core.binding.BindTarget;
+
+/**
+ * Benchmarks for building {@link PreparedOperation}s from SQL with named parameters.
+ *
+ * @author Juergen Hoeller
+ */
+@BenchmarkMode(Mode.Throughput)
+public class NamedParameterExpanderBenchmark {
+
+	@Benchmark
+	public void cachedExpansion(BenchmarkData data, Blackhole bh) {
+		PreparedOperation<String> operation = data.expander.expand(data.sql, data.bindMarkersFactory, data.parameters);
+		operation.bindTo(data.bindTarget);
+		bh.consume(operation.toQuery());
+	}
+
+	@Benchmark
+	public void uncachedExpansion(BenchmarkData data, Blackhole bh) {
+		PreparedOperation<String> operation = NamedParameterUtils.substituteNamedParameters(
+				data.sql, data.bindMarkersFactory, data.parameters);
+		operation.bindTo(data.bindTarget);
+		bh.consume(operation.toQuery());
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"simple", "collection"})
+		public String query;
+
+		public String sql;
+
+		public NamedParameterExpander expander;
+
+		public BindMarkersFactory bindMarkersFactory;
+
+		public MapBindParameterSource parameters;
+
+		public BindTarget bindTarget;
+
+		@Setup(Level.Trial)
+		public void setup(Blackhole bh) {
+			this.expander = new NamedParameterExpander();
+			this.bindMarkersFactory = BindMarkersFactory.indexed("$", 1);
+			this.parameters = new MapBindParameterSource(new HashMap<>());
+			if ("simple".equals(this.query)) {
+				this.sql = "SELECT id, name, manual FROM legoset WHERE id = :id AND name = :name";
+				this.parameters.addValue("id", 42055).addValue("name", "SCHAUFELRADBAGGER");
+			}
+			else {
+				this.sql = "SELECT id, name, manual FROM legoset WHERE id IN (:ids) AND manual = :manual";
+				this.parameters.addValue("ids", List.of(1, 2, 3, 4, 5, 6, 7, 8)).addValue("manual", 12);
+			}
+			this.bindTarget = new BlackholeBindTarget(bh);
+		}
+	}
+
+
+	private record BlackholeBindTarget(Blackhole bh) implements BindTarget {
+
+		@Override
+		public void bind(String identifier, Object value) {
+			this.bh.consume(value);
+		}
+
+		@Override
+		public void bind(int index, Object value) {
+			this.bh.consume(value);
+		}
+
+		@Override
+		public void bindNull(String identifier, Class<?> type) {
+			this.bh.consume(type);
+		}
+
+		@Override
+		public void bindNull(int index, Class<?> type) {
+			this.bh.consume(type);
+		}
+	}
+
+}
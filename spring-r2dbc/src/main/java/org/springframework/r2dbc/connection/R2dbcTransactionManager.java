@@ -200,6 +200,7 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 						logger.debug("Acquired Connection [" + connection + "] for R2DBC transaction");
 					}
 					txObject.setConnectionHolder(new ConnectionHolder(connection), true);
+					txObject.setConnectionAcquisitionTime(System.nanoTime());
 				});
 			}
 			else {
@@ -352,9 +353,7 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 			try {
 				if (txObject.isNewConnectionHolder()) {
 					Connection con = txObject.getConnectionHolder().getConnection();
-					if (logger.isDebugEnabled()) {
-						logger.debug("Releasing R2DBC Connection [" + con + "] after transaction");
-					}
+					connectionHeld(con, Duration.ofNanos(System.nanoTime() - txObject.getConnectionAcquisitionTime()));
 					Mono<Void> restoreMono = Mono.empty();
 					if (txObject.isMustRestoreAutoCommit() && !con.isAutoCommit()) {
 						restoreMono = Mono.from(con.setAutoCommit(true));
@@ -381,6 +380,22 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 		});
 	}
 
+	/**
+	 * Callback for the time that a transactional {@link Connection} has been held,
+	 * from its acquisition at transaction begin until its release after completion.
+	 * <p>The default implementation logs the hold time at debug level. This can
+	 * be overridden, for example, to record the hold time as a metric.
+	 * @param con the transactional R2DBC Connection about to be released
+	 * @param holdTime the time that the Connection has been held
+	 * @since 7.1
+	 */
+	protected void connectionHeld(Connection con, Duration holdTime) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Releasing R2DBC Connection [" + con + "] after transaction, held for " +
+					holdTime.toMillis() + " ms");
+		}
+	}
+
 	/**
 	 * Prepare the transactional {@link Connection} right after transaction begin.
 	 * <p>The default implementation executes a "SET TRANSACTION READ ONLY" statement if the
@@ -492,6 +507,8 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 
 		private boolean mustRestoreAutoCommit;
 
+		private long connectionAcquisitionTime;
+
 		private @Nullable String savepointName;
 
 		void setConnectionHolder(@Nullable ConnectionHolder connectionHolder, boolean newConnectionHolder) {
@@ -524,6 +541,14 @@ public class R2dbcTransactionManager extends AbstractReactiveTransactionManager
 			return this.mustRestoreAutoCommit;
 		}
 
+		public void setConnectionAcquisitionTime(long connectionAcquisitionTime) {
+			this.connectionAcquisitionTime = connectionAcquisitionTime;
+		}
+
+		public long getConnectionAcquisitionTime() {
+			return this.connectionAcquisitionTime;
+		}
+
 		public boolean isTransactionActive() {
 			return (this.connectionHolder != null && this.connectionHolder.isTransactionActive());
 		}
@@ -312,6 +312,34 @@ public interface DatabaseClient extends ConnectionAccessor {
 		 * @return a {@link Mono} ignoring its payload (actively dropping)
 		 */
 		Mono<Void> then();
+
+		/**
+		 * Perform the SQL call once for each set of named parameter values
+		 * emitted by the given source, grouping them into batches of the given
+		 * size. Each batch is bound onto a single {@link Statement}, with
+		 * {@link Statement#add()} separating the individual parameter sets,
+		 * and all batches are executed in sequence on the same connection.
+		 * <p>Parameters bound on this spec upfront are shared across all
+		 * parameter sets, with values from the source taking precedence.
+		 * All parameter sets within a batch need to expand to the same SQL,
+		 * i.e. collection-valued parameters must have the same size.
+		 * <p>For example:
+		 * <pre class="code">
+		 * Flux&lt;Map&lt;String, Object&gt;&gt; people = …;
+		 * client.sql("INSERT INTO person (id, name) VALUES (:id, :name)")
+		 *     .bindAll(people, 100)
+		 *     .reduce(0L, Long::sum);
+		 * </pre>
+		 * @param source the source of parameter sets, with keys as names and
+		 * each value either a scalar value or a {@link io.r2dbc.spi.Parameter}
+		 * @param batchSize the maximum number of parameter sets per statement
+		 * @return a {@link Flux} emitting the number of updated rows per
+		 * {@link Result}, in the order of execution
+		 * @since 7.1
+		 * @see #bindValues(Map)
+		 * @see Statement#add()
+		 */
+		Flux<Long> bindAll(Publisher<? extends Map<String, ?>> source, int batchSize);
 	}
 
 }
@@ -22,12 +22,15 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -320,7 +323,7 @@ final class DefaultDatabaseClient implements DatabaseClient {
 		}
 
 		@Override
-		public GenericExecuteSpec bindValues(Map<String, ?> source) {
+		public DefaultGenericExecuteSpec bindValues(Map<String, ?> source) {
 			assertNotPreparedOperation();
 			Assert.notNull(source, "Parameter source must not be null");
 
@@ -394,6 +397,30 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			return fetch().rowsUpdated().then();
 		}
 
+		@Override
+		public Flux<Long> bindAll(Publisher<? extends Map<String, ?>> source, int batchSize) {
+			assertNotPreparedOperation();
+			Assert.notNull(source, "Parameter source must not be null");
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+
+			AtomicReference<@Nullable String> resolvedSql = new AtomicReference<>();
+			ConnectionFunction<Flux<Long>> connectionFunction = new DelegateConnectionFunction<>(resolvedSql::get,
+					connection -> {
+						String sql = getRequiredSql(this.sqlSupplier);
+						resolvedSql.set(sql);
+						return Flux.from(source)
+								.buffer(batchSize)
+								.concatMap(batch -> {
+									Statement statement = createBatchStatement(connection, sql, batch);
+									return Flux.from(this.filterFunction.filter(
+											statement, DefaultDatabaseClient.this.executeFunction));
+								})
+								.concatMap(Result::getRowsUpdated)
+								.checkpoint("SQL \"" + sql + "\" [DatabaseClient]");
+					});
+			return inConnectionMany(connectionFunction);
+		}
+
 		private ResultFunction getResultFunction(Supplier<String> sqlSupplier) {
 			BiFunction<Connection, String, Statement> statementFunction = (connection, sql) -> {
 				if (logger.isDebugEnabled()) {
@@ -406,38 +433,9 @@ final class DefaultDatabaseClient implements DatabaseClient {
 					return statement;
 				}
 
-				if (DefaultDatabaseClient.this.namedParameterExpander != null) {
-					Map<String, Parameter> remainderByName = new LinkedHashMap<>(this.byName);
-					Map<Integer, Parameter> remainderByIndex = new LinkedHashMap<>(this.byIndex);
-
-					List<String> parameterNames = DefaultDatabaseClient.this.namedParameterExpander.getParameterNames(sql);
-					MapBindParameterSource namedBindings = retrieveParameters(
-							sql, parameterNames, remainderByName, remainderByIndex);
-
-					PreparedOperation<String> operation = DefaultDatabaseClient.this.namedParameterExpander.expand(
-							sql, DefaultDatabaseClient.this.bindMarkersFactory, namedBindings);
-
-					String expanded = getRequiredSql(operation);
-					if (logger.isTraceEnabled()) {
-						logger.trace("Expanded SQL [" + expanded + "]");
-					}
-
-					Statement statement = connection.createStatement(expanded);
-					BindTarget bindTarget = new StatementWrapper(statement);
-
-					operation.bindTo(bindTarget);
-
-					bindByName(statement, remainderByName);
-					bindByIndex(statement, remainderByIndex);
-
-					return statement;
-				}
-
-				Statement statement = connection.createStatement(sql);
-
-				bindByIndex(statement, this.byIndex);
-				bindByName(statement, this.byName);
-
+				PreparedOperation<String> operation = prepareOperation(sql);
+				Statement statement = connection.createStatement(operation.toQuery());
+				operation.bindTo(new StatementWrapper(statement));
 				return statement;
 			};
 
@@ -445,6 +443,66 @@ final class DefaultDatabaseClient implements DatabaseClient {
 					DefaultDatabaseClient.this.executeFunction);
 		}
 
+		private Statement createBatchStatement(Connection connection, String sql, List<? extends Map<String, ?>> batch) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing SQL statement [" + sql + "] with batch of " + batch.size() + " parameter sets");
+			}
+			Iterator<? extends Map<String, ?>> iterator = batch.iterator();
+			PreparedOperation<String> operation = bindValues(iterator.next()).prepareOperation(sql);
+			String expanded = operation.toQuery();
+			Statement statement = connection.createStatement(expanded);
+			operation.bindTo(new StatementWrapper(statement));
+			while (iterator.hasNext()) {
+				operation = bindValues(iterator.next()).prepareOperation(sql);
+				if (!expanded.equals(operation.toQuery())) {
+					throw new InvalidDataAccessApiUsageException(String.format(
+							"Parameter sets within a batch must expand to the same SQL: [%s] vs [%s]",
+							expanded, operation.toQuery()));
+				}
+				statement.add();
+				operation.bindTo(new StatementWrapper(statement));
+			}
+			return statement;
+		}
+
+		/**
+		 * Prepare the given SQL for execution with the bindings of this spec,
+		 * expanding named parameters if enabled.
+		 * @param sql the original SQL statement
+		 * @return the operation exposing the SQL to execute and binding
+		 * all parameters to a given statement
+		 */
+		private PreparedOperation<String> prepareOperation(String sql) {
+			NamedParameterExpander expander = DefaultDatabaseClient.this.namedParameterExpander;
+			if (expander != null) {
+				Map<String, Parameter> remainderByName = new LinkedHashMap<>(this.byName);
+				Map<Integer, Parameter> remainderByIndex = new LinkedHashMap<>(this.byIndex);
+
+				List<String> parameterNames = expander.getParameterNames(sql);
+				MapBindParameterSource namedBindings = retrieveParameters(
+						sql, parameterNames, remainderByName, remainderByIndex);
+
+				PreparedOperation<String> operation = expander.expand(
+						sql, DefaultDatabaseClient.this.bindMarkersFactory, namedBindings);
+
+				String expanded = getRequiredSql(operation);
+				if (logger.isTraceEnabled()) {
+					logger.trace("Expanded SQL [" + expanded + "]");
+				}
+
+				return new StatementOperation(sql, expanded, bindTarget -> {
+					operation.bindTo(bindTarget);
+					bindByName(bindTarget, remainderByName);
+					bindByIndex(bindTarget, remainderByIndex);
+				});
+			}
+
+			return new StatementOperation(sql, sql, bindTarget -> {
+				bindByIndex(bindTarget, this.byIndex);
+				bindByName(bindTarget, this.byName);
+			});
+		}
+
 		private <T> FetchSpec<T> execute(Supplier<String> sqlSupplier, Function<Result, Publisher<T>> resultAdapter) {
 			ResultFunction resultHandler = getResultFunction(sqlSupplier);
 			return new DefaultFetchSpec<>(DefaultDatabaseClient.this, resultHandler,
@@ -496,12 +554,12 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			}
 		}
 
-		private void bindByName(Statement statement, Map<String, Parameter> byName) {
-			byName.forEach(statement::bind);
+		private void bindByName(BindTarget bindTarget, Map<String, Parameter> byName) {
+			byName.forEach(bindTarget::bind);
 		}
 
-		private void bindByIndex(Statement statement, Map<Integer, Parameter> byIndex) {
-			byIndex.forEach(statement::bind);
+		private void bindByIndex(BindTarget bindTarget, Map<Integer, Parameter> byIndex) {
+			byIndex.forEach(bindTarget::bind);
 		}
 
 		private String getRequiredSql(Supplier<String> sqlSupplier) {
@@ -577,6 +635,30 @@ final class DefaultDatabaseClient implements DatabaseClient {
 	}
 
 
+	/**
+	 * {@link PreparedOperation} for SQL prepared by a {@link DefaultGenericExecuteSpec},
+	 * applying the bindings through the given binder.
+	 */
+	private record StatementOperation(String source, String query, Consumer<BindTarget> binder)
+			implements PreparedOperation<String> {
+
+		@Override
+		public String getSource() {
+			return this.source;
+		}
+
+		@Override
+		public String toQuery() {
+			return this.query;
+		}
+
+		@Override
+		public void bindTo(BindTarget target) {
+			this.binder.accept(target);
+		}
+	}
+
+
 	static class StatementWrapper implements BindTarget {
 
 		final Statement statement;
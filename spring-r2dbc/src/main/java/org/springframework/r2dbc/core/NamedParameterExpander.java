@@ -16,8 +16,11 @@
 
 package org.springframework.r2dbc.core;
 
+import java.util.Arrays;
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.r2dbc.core.binding.BindMarkersFactory;
 import org.springframework.util.ConcurrentLruCache;
 
@@ -48,6 +51,11 @@ class NamedParameterExpander {
 	private final ConcurrentLruCache<String, ParsedSql> parsedSqlCache =
 			new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT, NamedParameterUtils::parseSqlStatement);
 
+	/** Cache of ParsedSql, BindMarkersFactory and parameter layout to expanded SQL. */
+	private final ConcurrentLruCache<ExpansionKey, NamedParameterUtils.ExpandedSql> expandedSqlCache =
+			new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT,
+					key -> NamedParameterUtils.expand(key.parsedSql, key.bindMarkersFactory, key.layout));
+
 
 	/**
 	 * Obtain a parsed representation of the given SQL statement.
@@ -73,6 +81,9 @@ class NamedParameterExpander {
 	 * placeholders to be used for a select list. Select lists should be limited
 	 * to 100 or fewer elements. A larger number of elements is not guaranteed to be
 	 * supported by the database and is strictly vendor-dependent.
+	 * <p>The expanded SQL and its bind marker layout are cached per SQL statement,
+	 * bind marker factory and shape of the given parameter values (i.e. the sizes
+	 * of any collection values), with an upper limit of 256 entries.
 	 * @param sql the original SQL statement
 	 * @param bindMarkersFactory the bind marker factory
 	 * @param paramSource the source for named parameters
@@ -83,7 +94,9 @@ class NamedParameterExpander {
 			String sql, BindMarkersFactory bindMarkersFactory, BindParameterSource paramSource) {
 
 		ParsedSql parsedSql = getParsedSql(sql);
-		return NamedParameterUtils.substituteNamedParameters(parsedSql, bindMarkersFactory, paramSource);
+		int[] layout = NamedParameterUtils.getExpansionLayout(parsedSql, paramSource);
+		ExpansionKey key = new ExpansionKey(parsedSql, bindMarkersFactory, layout);
+		return this.expandedSqlCache.get(key).bind(paramSource);
 	}
 
 	/**
@@ -95,4 +108,40 @@ class NamedParameterExpander {
 		return getParsedSql(sql).getParameterNames();
 	}
 
+	/**
+	 * Cache key for expanded SQL: the original SQL along with the bind marker
+	 * factory and the expansion layout of the parameter values.
+	 */
+	private static final class ExpansionKey {
+
+		final ParsedSql parsedSql;
+
+		final BindMarkersFactory bindMarkersFactory;
+
+		final int[] layout;
+
+		private final int hashCode;
+
+		ExpansionKey(ParsedSql parsedSql, BindMarkersFactory bindMarkersFactory, int[] layout) {
+			this.parsedSql = parsedSql;
+			this.bindMarkersFactory = bindMarkersFactory;
+			this.layout = layout;
+			this.hashCode = (parsedSql.getOriginalSql().hashCode() * 29 +
+					bindMarkersFactory.hashCode()) * 29 + Arrays.hashCode(layout);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof ExpansionKey that &&
+					this.parsedSql.getOriginalSql().equals(that.parsedSql.getOriginalSql()) &&
+					this.bindMarkersFactory.equals(that.bindMarkersFactory) &&
+					Arrays.equals(this.layout, that.layout)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
 }
@@ -54,6 +54,11 @@ import org.springframework.util.Assert;
  */
 abstract class NamedParameterUtils {
 
+	/**
+	 * Expansion layout marker for a parameter or element bound to a single placeholder.
+	 */
+	private static final int SCALAR = -1;
+
 	/**
 	 * Set of characters that qualify as comment or quote starting characters.
 	 */
@@ -291,15 +296,73 @@ abstract class NamedParameterUtils {
 	public static PreparedOperation<String> substituteNamedParameters(ParsedSql parsedSql,
 			BindMarkersFactory bindMarkersFactory, BindParameterSource paramSource) {
 
+		int[] layout = getExpansionLayout(parsedSql, paramSource);
+		return expand(parsedSql, bindMarkersFactory, layout).bind(paramSource);
+	}
+
+	/**
+	 * Determine the layout of the given parameter values with regard to the
+	 * expansion of the given parsed SQL: that is, for each parameter reference,
+	 * whether it is expanded to a single placeholder or to a list of
+	 * placeholders, with the number of elements and the length of nested arrays.
+	 * <p>Parameter sources with the same layout expand to the same SQL
+	 * and can share the resulting {@link ExpandedSql}.
+	 * @param parsedSql the parsed representation of the SQL statement
+	 * @param paramSource the source for named parameters
+	 * @return the expansion layout
+	 * @since 7.1
+	 * @see #expand(ParsedSql, BindMarkersFactory, int[])
+	 */
+	static int[] getExpansionLayout(ParsedSql parsedSql, BindParameterSource paramSource) {
+		List<String> paramNames = parsedSql.getParameterNames();
+		@Nullable Collection<?>[] collections = new Collection<?>[paramNames.size()];
+		int length = paramNames.size();
+		for (int i = 0; i < paramNames.size(); i++) {
+			String paramName = paramNames.get(i);
+			if (paramSource.hasValue(paramName) &&
+					paramSource.getValue(paramName).getValue() instanceof Collection<?> collection) {
+				collections[i] = collection;
+				length += collection.size();
+			}
+		}
+
+		int[] layout = new int[length];
+		int position = 0;
+		for (Collection<?> collection : collections) {
+			if (collection != null) {
+				layout[position++] = collection.size();
+				for (Object entryItem : collection) {
+					layout[position++] = (entryItem instanceof Object[] expressionList ? expressionList.length : SCALAR);
+				}
+			}
+			else {
+				layout[position++] = SCALAR;
+			}
+		}
+		return layout;
+	}
+
+	/**
+	 * Expand the given parsed SQL according to the given parameter layout,
+	 * substituting named parameters for native placeholders.
+	 * @param parsedSql the parsed representation of the SQL statement
+	 * @param bindMarkersFactory the bind marker factory
+	 * @param layout the expansion layout as determined by
+	 * {@link #getExpansionLayout(ParsedSql, BindParameterSource)}
+	 * @return the expanded SQL along with its bind markers
+	 * @since 7.1
+	 */
+	static ExpandedSql expand(ParsedSql parsedSql, BindMarkersFactory bindMarkersFactory, int[] layout) {
 		NamedParameters markerHolder = new NamedParameters(bindMarkersFactory);
 		String originalSql = parsedSql.getOriginalSql();
 		List<String> paramNames = parsedSql.getParameterNames();
 		if (paramNames.isEmpty()) {
-			return new ExpandedQuery(originalSql, markerHolder, paramSource);
+			return new ExpandedSql(originalSql, markerHolder);
 		}
 
 		StringBuilder actualSql = new StringBuilder(originalSql.length());
 		int lastIndex = 0;
+		int position = 0;
 		for (int i = 0; i < paramNames.size(); i++) {
 			String paramName = paramNames.get(i);
 			int[] indexes = parsedSql.getParameterIndexes(i);
@@ -307,35 +370,29 @@ abstract class NamedParameterUtils {
 			int endIndex = indexes[1];
 			actualSql.append(originalSql, lastIndex, startIndex);
 			NamedParameters.NamedParameter marker = markerHolder.getOrCreate(paramName);
-			if (paramSource.hasValue(paramName)) {
-				Parameter parameter = paramSource.getValue(paramName);
-				if (parameter.getValue() instanceof Collection<?> collection) {
-					int k = 0;
-					int counter = 0;
-					for (Object entryItem : collection) {
-						if (k > 0) {
-							actualSql.append(", ");
-						}
-						k++;
-						if (entryItem instanceof Object[] expressionList) {
-							actualSql.append('(');
-							for (int m = 0; m < expressionList.length; m++) {
-								if (m > 0) {
-									actualSql.append(", ");
-								}
-								actualSql.append(marker.getPlaceholder(counter));
-								counter++;
+			int size = layout[position++];
+			if (size != SCALAR) {
+				int counter = 0;
+				for (int k = 0; k < size; k++) {
+					if (k > 0) {
+						actualSql.append(", ");
+					}
+					int length = layout[position++];
+					if (length != SCALAR) {
+						actualSql.append('(');
+						for (int m = 0; m < length; m++) {
+							if (m > 0) {
+								actualSql.append(", ");
 							}
-							actualSql.append(')');
-						}
-						else {
 							actualSql.append(marker.getPlaceholder(counter));
 							counter++;
 						}
+						actualSql.append(')');
+					}
+					else {
+						actualSql.append(marker.getPlaceholder(counter));
+						counter++;
 					}
-				}
-				else {
-					actualSql.append(marker.getPlaceholder());
 				}
 			}
 			else {
@@ -345,7 +402,7 @@ abstract class NamedParameterUtils {
 		}
 		actualSql.append(originalSql, lastIndex, originalSql.length());
 
-		return new ExpandedQuery(actualSql.toString(), markerHolder, paramSource);
+		return new ExpandedSql(actualSql.toString(), markerHolder);
 	}
 
 	/**
@@ -501,6 +558,41 @@ abstract class NamedParameterUtils {
 	}
 
 
+	/**
+	 * SQL expanded for a specific parameter layout, along with the bind markers
+	 * for each named parameter. Immutable once created and therefore reusable
+	 * for binding any parameter source of the same layout.
+	 * @since 7.1
+	 */
+	static final class ExpandedSql {
+
+		private final String sql;
+
+		private final NamedParameters parameters;
+
+		ExpandedSql(String sql, NamedParameters parameters) {
+			this.sql = sql;
+			this.parameters = parameters;
+		}
+
+		/**
+		 * Return the expanded SQL string.
+		 */
+		String getSql() {
+			return this.sql;
+		}
+
+		/**
+		 * Create a {@link PreparedOperation} binding the values
+		 * of the given parameter source to this expanded SQL.
+		 * @param paramSource the source for named parameters
+		 */
+		PreparedOperation<String> bind(BindParameterSource paramSource) {
+			return new ExpandedQuery(this.sql, this.parameters, paramSource);
+		}
+	}
+
+
 	/**
 	 * Expanded query that allows binding of parameters using parameter names that were
 	 * used to expand the query. Binding unrolls {@link Collection}s and nested arrays.
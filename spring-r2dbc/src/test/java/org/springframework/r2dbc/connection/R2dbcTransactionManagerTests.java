@@ -17,6 +17,8 @@
 package org.springframework.r2dbc.connection;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.r2dbc.spi.Connection;
@@ -113,6 +115,33 @@ class R2dbcTransactionManagerTests {
 		assertThat(sync.afterCompletionCalled).isTrue();
 	}
 
+	@Test
+	void recordsConnectionHoldTime() {
+		when(connectionMock.isAutoCommit()).thenReturn(false);
+		when(connectionMock.commitTransaction()).thenReturn(Mono.empty());
+		List<Duration> holdTimes = new ArrayList<>();
+		tm = new R2dbcTransactionManager(connectionFactoryMock) {
+			@Override
+			protected void connectionHeld(Connection con, Duration holdTime) {
+				assertThat(con).isSameAs(connectionMock);
+				holdTimes.add(holdTime);
+			}
+		};
+
+		TransactionalOperator operator = TransactionalOperator.create(tm);
+
+		ConnectionFactoryUtils.getConnection(connectionFactoryMock)
+				.delayElement(Duration.ofMillis(10))
+				.as(operator::transactional)
+				.as(StepVerifier::create)
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(holdTimes).singleElement().satisfies(holdTime ->
+				assertThat(holdTime).isGreaterThanOrEqualTo(Duration.ofMillis(10)));
+		verify(connectionMock).close();
+	}
+
 	@Test
 	void beginFails() {
 		reset(connectionFactoryMock);
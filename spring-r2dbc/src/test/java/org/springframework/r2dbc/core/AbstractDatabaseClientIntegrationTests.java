@@ -140,6 +140,30 @@ abstract class AbstractDatabaseClientIntegrationTests {
 				.verifyComplete();
 	}
 
+	@Test
+	void executeBatchInsert() {
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		Flux<Map<String, Object>> parameterSets = Flux.range(1, 5).map(id -> Map.of(
+				"id", id,
+				"name", "SCHAUFELRADBAGGER " + id,
+				"manual", Parameters.in(Integer.class)));
+
+		databaseClient.sql("INSERT INTO legoset (id, name, manual) VALUES(:id, :name, :manual)")
+				.bindAll(parameterSets, 2)
+				.reduce(0L, Long::sum)
+				.as(StepVerifier::create)
+				.expectNext(5L)
+				.verifyComplete();
+
+		databaseClient.sql("SELECT id FROM legoset ORDER BY id")
+				.mapValue(Integer.class)
+				.all()
+				.as(StepVerifier::create)
+				.expectNext(1, 2, 3, 4, 5)
+				.verifyComplete();
+	}
+
 	@Test
 	void executeInsertWithRecords() {
 		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
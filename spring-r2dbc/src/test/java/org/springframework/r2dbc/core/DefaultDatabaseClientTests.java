@@ -18,6 +18,7 @@ package org.springframework.r2dbc.core;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.r2dbc.spi.Connection;
@@ -44,6 +45,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.r2dbc.core.binding.BindMarkersFactory;
 import org.springframework.r2dbc.core.binding.BindTarget;
 
@@ -253,6 +255,41 @@ class DefaultDatabaseClientTests {
 		verify(statement).bind(0, Parameters.in("foo"));
 	}
 
+	@Test
+	void bindAllShouldGroupParameterSetsIntoBatches() {
+		Result result = mock();
+		when(result.getRowsUpdated()).thenReturn(Mono.just(1L));
+		Statement statement = mockStatementFor("INSERT INTO person (id) VALUES ($1)", result);
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.sql("INSERT INTO person (id) VALUES (:id)")
+				.bindAll(Flux.just(Map.of("id", 1), Map.of("id", 2), Map.of("id", 3)), 2)
+				.as(StepVerifier::create)
+				.expectNext(1L, 1L)
+				.verifyComplete();
+
+		InOrder inOrder = inOrder(statement, connection);
+		inOrder.verify(statement).bind(0, Parameters.in(1));
+		inOrder.verify(statement).add();
+		inOrder.verify(statement).bind(0, Parameters.in(2));
+		inOrder.verify(statement).execute();
+		inOrder.verify(statement).bind(0, Parameters.in(3));
+		inOrder.verify(statement).execute();
+		inOrder.verify(connection).close();
+		verify(connection, times(2)).createStatement("INSERT INTO person (id) VALUES ($1)");
+	}
+
+	@Test
+	void bindAllShouldRejectDifferentlyExpandedParameterSets() {
+		mockStatementFor("SELECT * FROM person WHERE id IN ($1)");
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.sql("SELECT * FROM person WHERE id IN (:ids)")
+				.bindAll(Flux.just(Map.of("ids", List.of(1)), Map.of("ids", List.of(1, 2))), 10)
+				.as(StepVerifier::create)
+				.verifyError(InvalidDataAccessApiUsageException.class);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void rowsUpdatedShouldEmitSingleValue() {
@@ -114,6 +114,38 @@ class NamedParameterUtilsTests {
 		verify(bindTarget).bind(3, "Flynn");
 	}
 
+	@Test
+	void expanderShouldReuseExpandedSqlForSameLayout() {
+		NamedParameterExpander expander = new NamedParameterExpander();
+		String sql = "SELECT * FROM person WHERE id IN (:ids) AND name = :name";
+
+		MapBindParameterSource namedParams = new MapBindParameterSource(new HashMap<>());
+		namedParams.addValue("ids", List.of(1, 2)).addValue("name", "Walter");
+		BindTarget bindTarget = mock();
+		PreparedOperation<?> operation = expander.expand(sql, INDEXED_MARKERS, namedParams);
+		operation.bindTo(bindTarget);
+
+		MapBindParameterSource otherParams = new MapBindParameterSource(new HashMap<>());
+		otherParams.addValue("ids", List.of(3, 4)).addValue("name", "Jesse");
+		BindTarget otherBindTarget = mock();
+		PreparedOperation<?> otherOperation = expander.expand(sql, INDEXED_MARKERS, otherParams);
+		otherOperation.bindTo(otherBindTarget);
+
+		assertThat(operation.toQuery()).isEqualTo("SELECT * FROM person WHERE id IN ($1, $2) AND name = $3");
+		assertThat(otherOperation.toQuery()).isEqualTo(operation.toQuery());
+		verify(bindTarget).bind(0, 1);
+		verify(bindTarget).bind(1, 2);
+		verify(bindTarget).bind(2, Parameters.in("Walter"));
+		verify(otherBindTarget).bind(0, 3);
+		verify(otherBindTarget).bind(1, 4);
+		verify(otherBindTarget).bind(2, Parameters.in("Jesse"));
+
+		MapBindParameterSource largerParams = new MapBindParameterSource(new HashMap<>());
+		largerParams.addValue("ids", List.of(1, 2, 3)).addValue("name", "Walter");
+		assertThat(expander.expand(sql, INDEXED_MARKERS, largerParams).toQuery())
+				.isEqualTo("SELECT * FROM person WHERE id IN ($1, $2, $3) AND name = $4");
+	}
+
 	@Test
 	void parseSqlContainingComments() {
 		String sql1 = "/*+ HINT */ xxx /* comment ? */ :a yyyy :b :c :a zzzzz -- :xx XX\n";
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.interceptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Benchmarks for invoking {@code @Transactional} methods through a
+ * {@link TransactionInterceptor}, including transaction attribute resolution.
+ *
+ * @author Juergen Hoeller
+ */
+@BenchmarkMode(Mode.Throughput)
+public class TransactionInterceptorBenchmark {
+
+	@Benchmark
+	public void transactionalMethod(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.proxy.transactional("value"));
+	}
+
+	@Benchmark
+	public void nonTransactionalMethod(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.proxy.nonTransactional("value"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"jdk", "cglib"})
+		public String proxyType;
+
+		public Service proxy;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			TransactionInterceptor interceptor = new TransactionInterceptor(
+					new NoOpTransactionManager(), new AnnotationTransactionAttributeSource());
+			ProxyFactory proxyFactory = new ProxyFactory(new DefaultService());
+			proxyFactory.setProxyTargetClass("cglib".equals(this.proxyType));
+			proxyFactory.addAdvice(interceptor);
+			this.proxy = (Service) proxyFactory.getProxy();
+		}
+	}
+
+
+	public interface Service {
+
+		String transactional(String value);
+
+		String nonTransactional(String value);
+	}
+
+
+	public static class DefaultService implements Service {
+
+		@Override
+		@Transactional
+		public String transactional(String value) {
+			return value;
+		}
+
+		@Override
+		public String nonTransactional(String value) {
+			return value;
+		}
+	}
+
+
+	@SuppressWarnings("serial")
+	private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+
+}
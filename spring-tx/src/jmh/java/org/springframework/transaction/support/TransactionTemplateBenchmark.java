@@ -0,0 +1,118 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Benchmarks for the overhead of {@link TransactionTemplate#execute} with
+ * transaction synchronization, on the current thread as well as on newly
+ * started platform or virtual threads.
+ *
+ * <p>Running with virtual threads requires JDK 21 or higher.
+ *
+ * @author Juergen Hoeller
+ */
+@BenchmarkMode(Mode.Throughput)
+public class TransactionTemplateBenchmark {
+
+	@Benchmark
+	public void executeOnCurrentThread(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.transactionTemplate.execute(status -> doInTransaction(state)));
+	}
+
+	@Benchmark
+	public void executeOnNewThreads(BenchmarkState state, Blackhole bh) throws Exception {
+		List<Future<?>> futures = new ArrayList<>(state.threads);
+		for (int i = 0; i < state.threads; i++) {
+			futures.add(state.executor.submit(() -> state.transactionTemplate.execute(status -> doInTransaction(state))));
+		}
+		for (Future<?> future : futures) {
+			bh.consume(future.get());
+		}
+	}
+
+	private static Object doInTransaction(BenchmarkState state) {
+		TransactionSynchronizationManager.bindResource(state.resourceKey, state.resourceKey);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {});
+		return TransactionSynchronizationManager.unbindResource(state.resourceKey);
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"platform", "virtual"})
+		public String threadType;
+
+		@Param({"100"})
+		public int threads;
+
+		public final Object resourceKey = new Object();
+
+		public TransactionTemplate transactionTemplate;
+
+		public AsyncTaskExecutor executor;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+			this.executor = ("virtual".equals(this.threadType) ?
+					new VirtualThreadTaskExecutor("benchmark-") : new SimpleAsyncTaskExecutor("benchmark-"));
+		}
+	}
+
+
+	@SuppressWarnings("serial")
+	private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+
+}
@@ -16,13 +16,17 @@
 
 package org.springframework.transaction.event;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import reactor.core.publisher.Mono;
 
 import org.springframework.context.ApplicationEvent;
 import org.springframework.core.Ordered;
 import org.springframework.transaction.reactive.TransactionContext;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * {@code TransactionSynchronization} implementations for event processing with a
@@ -34,7 +38,7 @@ import org.springframework.transaction.reactive.TransactionContext;
  */
 abstract class TransactionalApplicationListenerSynchronization<E extends ApplicationEvent> implements Ordered {
 
-	private final E event;
+	private final List<E> events = new ArrayList<>(1);
 
 	private final TransactionalApplicationListener<E> listener;
 
@@ -44,7 +48,7 @@ abstract class TransactionalApplicationListenerSynchronization<E extends Applica
 	public TransactionalApplicationListenerSynchronization(E event, TransactionalApplicationListener<E> listener,
 			List<TransactionalApplicationListener.SynchronizationCallback> callbacks) {
 
-		this.event = event;
+		this.events.add(event);
 		this.listener = listener;
 		this.callbacks = callbacks;
 	}
@@ -59,16 +63,51 @@ abstract class TransactionalApplicationListenerSynchronization<E extends Applica
 		return this.listener.getTransactionPhase();
 	}
 
-	public void processEventWithCallbacks() {
-		this.callbacks.forEach(callback -> callback.preProcessEvent(this.event));
+	void addEvent(E event) {
+		this.events.add(event);
+	}
+
+	/**
+	 * Process all events collected so far, in the order of publication.
+	 * @param continueOnFailure whether to process the remaining events after
+	 * an event failed, propagating the first exception at the end
+	 */
+	public void processEventsWithCallbacks(boolean continueOnFailure) {
+		// Events published for this listener while processing are not included,
+		// analogous to synchronizations registered within the same phase.
+		int eventCount = this.events.size();
+		Throwable failure = null;
+		for (int i = 0; i < eventCount; i++) {
+			try {
+				processEventWithCallbacks(this.events.get(i));
+			}
+			catch (RuntimeException | Error ex) {
+				if (!continueOnFailure) {
+					throw ex;
+				}
+				if (failure == null) {
+					failure = ex;
+				}
+				else {
+					failure.addSuppressed(ex);
+				}
+			}
+		}
+		if (failure != null) {
+			ReflectionUtils.rethrowRuntimeException(failure);
+		}
+	}
+
+	private void processEventWithCallbacks(E event) {
+		this.callbacks.forEach(callback -> callback.preProcessEvent(event));
 		try {
-			this.listener.processEvent(this.event);
+			this.listener.processEvent(event);
 		}
 		catch (RuntimeException | Error ex) {
-			this.callbacks.forEach(callback -> callback.postProcessEvent(this.event, ex));
+			this.callbacks.forEach(callback -> callback.postProcessEvent(event, ex));
 			throw ex;
 		}
-		this.callbacks.forEach(callback -> callback.postProcessEvent(this.event, null));
+		this.callbacks.forEach(callback -> callback.postProcessEvent(event, null));
 	}
 
 
@@ -78,8 +117,7 @@ abstract class TransactionalApplicationListenerSynchronization<E extends Applica
 
 		if (org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive() &&
 				org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive()) {
-			org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization(
-					new PlatformSynchronization<>(event, listener, callbacks));
+			PlatformSynchronization.register(event, listener, callbacks);
 			return true;
 		}
 		else if (event.getSource() instanceof TransactionContext txContext) {
@@ -107,7 +145,7 @@ abstract class TransactionalApplicationListenerSynchronization<E extends Applica
 		@Override
 		public void beforeCommit(boolean readOnly) {
 			if (getTransactionPhase() == TransactionPhase.BEFORE_COMMIT) {
-				processEventWithCallbacks();
+				processEventsWithCallbacks(false);
 			}
 		}
 
@@ -115,13 +153,114 @@ abstract class TransactionalApplicationListenerSynchronization<E extends Applica
 		public void afterCompletion(int status) {
 			TransactionPhase phase = getTransactionPhase();
 			if (phase == TransactionPhase.AFTER_COMMIT && status == STATUS_COMMITTED) {
-				processEventWithCallbacks();
+				processEventsWithCallbacks(true);
 			}
 			else if (phase == TransactionPhase.AFTER_ROLLBACK && status == STATUS_ROLLED_BACK) {
-				processEventWithCallbacks();
+				processEventsWithCallbacks(true);
 			}
 			else if (phase == TransactionPhase.AFTER_COMPLETION) {
-				processEventWithCallbacks();
+				processEventsWithCallbacks(true);
+			}
+		}
+
+		/**
+		 * Register the given event with the synchronization for the given listener
+		 * in the current transaction, creating and registering that synchronization
+		 * on the first event for the listener: a transaction publishing many events
+		 * thereby registers one synchronization per listener rather than per event.
+		 */
+		@SuppressWarnings("unchecked")
+		static <T extends ApplicationEvent> void register(T event, TransactionalApplicationListener<T> listener,
+				List<TransactionalApplicationListener.SynchronizationCallback> callbacks) {
+
+			PlatformSynchronizations synchronizations = PlatformSynchronizations.obtain();
+			PlatformSynchronization<T> synchronization =
+					(PlatformSynchronization<T>) synchronizations.byListener.get(listener);
+			if (synchronization != null) {
+				synchronization.addEvent(event);
+			}
+			else {
+				synchronization = new PlatformSynchronization<>(event, listener, callbacks);
+				synchronizations.byListener.put(listener, synchronization);
+				org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization(
+						synchronization);
+			}
+		}
+	}
+
+
+	/**
+	 * Holder for the event synchronizations of the current transaction, bound as
+	 * a transactional resource for the lifetime of the transaction and unbound
+	 * while the transaction is suspended.
+	 * <p>A holder is only valid within the synchronization scope that it has been
+	 * registered with: if {@code afterCompletion} is deferred (for example, when
+	 * participating in an existing JTA transaction), a subsequent transaction on
+	 * the same thread replaces the leftover binding with a fresh holder. Since a
+	 * synchronization scope always ends with {@code beforeCompletion}, the holder
+	 * only needs to verify its registration once that callback has been invoked.
+	 */
+	private static class PlatformSynchronizations
+			implements org.springframework.transaction.support.TransactionSynchronization {
+
+		final Map<TransactionalApplicationListener<?>, PlatformSynchronization<?>> byListener =
+				new IdentityHashMap<>();
+
+		private boolean completing;
+
+		static PlatformSynchronizations obtain() {
+			PlatformSynchronizations synchronizations = (PlatformSynchronizations)
+					org.springframework.transaction.support.TransactionSynchronizationManager.getResource(
+							PlatformSynchronizations.class);
+			if (synchronizations != null && synchronizations.completing &&
+					!org.springframework.transaction.support.TransactionSynchronizationManager.getSynchronizations()
+							.contains(synchronizations)) {
+				// Leftover from a previous transaction with deferred afterCompletion
+				org.springframework.transaction.support.TransactionSynchronizationManager.unbindResource(
+						PlatformSynchronizations.class);
+				synchronizations = null;
+			}
+			if (synchronizations == null) {
+				synchronizations = new PlatformSynchronizations();
+				org.springframework.transaction.support.TransactionSynchronizationManager.bindResource(
+						PlatformSynchronizations.class, synchronizations);
+				org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization(
+						synchronizations);
+			}
+			return synchronizations;
+		}
+
+		@Override
+		public int getOrder() {
+			// Release the resource binding ahead of any listener processing
+			return Ordered.HIGHEST_PRECEDENCE;
+		}
+
+		@Override
+		public void suspend() {
+			org.springframework.transaction.support.TransactionSynchronizationManager.unbindResource(
+					PlatformSynchronizations.class);
+		}
+
+		@Override
+		public void resume() {
+			org.springframework.transaction.support.TransactionSynchronizationManager.bindResource(
+					PlatformSynchronizations.class, this);
+		}
+
+		@Override
+		public void beforeCompletion() {
+			this.completing = true;
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			// Potentially invoked on a different thread (deferred completion),
+			// with a different holder bound there or none at all
+			if (org.springframework.transaction.support.TransactionSynchronizationManager.getResource(
+					PlatformSynchronizations.class) == this) {
+				org.springframework.transaction.support.TransactionSynchronizationManager.unbindResource(
+						PlatformSynchronizations.class);
 			}
 		}
 	}
@@ -140,7 +279,7 @@ abstract class TransactionalApplicationListenerSynchronization<E extends Applica
 		@Override
 		public Mono<Void> beforeCommit(boolean readOnly) {
 			if (getTransactionPhase() == TransactionPhase.BEFORE_COMMIT) {
-				return Mono.fromRunnable(this::processEventWithCallbacks);
+				return Mono.fromRunnable(() -> processEventsWithCallbacks(false));
 			}
 			return Mono.empty();
 		}
@@ -149,13 +288,13 @@ abstract class TransactionalApplicationListenerSynchronization<E extends Applica
 		public Mono<Void> afterCompletion(int status) {
 			TransactionPhase phase = getTransactionPhase();
 			if (phase == TransactionPhase.AFTER_COMMIT && status == STATUS_COMMITTED) {
-				return Mono.fromRunnable(this::processEventWithCallbacks);
+				return Mono.fromRunnable(() -> processEventsWithCallbacks(false));
 			}
 			else if (phase == TransactionPhase.AFTER_ROLLBACK && status == STATUS_ROLLED_BACK) {
-				return Mono.fromRunnable(this::processEventWithCallbacks);
+				return Mono.fromRunnable(() -> processEventsWithCallbacks(false));
 			}
 			else if (phase == TransactionPhase.AFTER_COMPLETION) {
-				return Mono.fromRunnable(this::processEventWithCallbacks);
+				return Mono.fromRunnable(() -> processEventsWithCallbacks(false));
 			}
 			return Mono.empty();
 		}
@@ -63,6 +63,11 @@ public abstract class AbstractFallbackTransactionAttributeSource
 		}
 	};
 
+	/**
+	 * Maximum number of entries in the fast-path method cache.
+	 */
+	private static final int METHOD_CACHE_LIMIT = 1024;
+
 
 	/**
 	 * Logger available to subclasses.
@@ -80,6 +85,17 @@ public abstract class AbstractFallbackTransactionAttributeSource
 	 */
 	private final Map<Object, TransactionAttribute> attributeCache = new ConcurrentHashMap<>(1024);
 
+	/**
+	 * Fast-path cache of TransactionAttributes keyed by method, along with the
+	 * first target class that the attribute has been resolved for. Serves the
+	 * common case of a method being invoked on a single target class through an
+	 * identity-based lookup, without creating a cache key. Invocations on other
+	 * target classes go through the regular cache, not replacing the entry here.
+	 * <p>Bounded to {@link #METHOD_CACHE_LIMIT} entries: further methods are
+	 * served by the regular cache only.
+	 */
+	private final Map<Method, ResolvedAttribute> methodCache = new ConcurrentHashMap<>(METHOD_CACHE_LIMIT);
+
 
 	@Override
 	public void setEmbeddedValueResolver(StringValueResolver resolver) {
@@ -113,10 +129,16 @@ public abstract class AbstractFallbackTransactionAttributeSource
 			return null;
 		}
 
+		ResolvedAttribute resolved = this.methodCache.get(method);
+		if (resolved != null && resolved.targetClass() == targetClass) {
+			return (resolved.attribute() != NULL_TRANSACTION_ATTRIBUTE ? resolved.attribute() : null);
+		}
+
 		Object cacheKey = getCacheKey(method, targetClass);
 		TransactionAttribute cached = this.attributeCache.get(cacheKey);
 
 		if (cached != null) {
+			cacheForMethod(method, targetClass, cached);
 			return (cached != NULL_TRANSACTION_ATTRIBUTE ? cached : null);
 		}
 		else {
@@ -131,18 +153,27 @@ public abstract class AbstractFallbackTransactionAttributeSource
 					logger.trace("Adding transactional method '" + methodIdentification + "' with attribute: " + txAttr);
 				}
 				this.attributeCache.put(cacheKey, txAttr);
+				cacheForMethod(method, targetClass, txAttr);
 			}
 			else if (cacheNull) {
 				this.attributeCache.put(cacheKey, NULL_TRANSACTION_ATTRIBUTE);
+				cacheForMethod(method, targetClass, NULL_TRANSACTION_ATTRIBUTE);
 			}
 			return txAttr;
 		}
 	}
 
+	private void cacheForMethod(Method method, @Nullable Class<?> targetClass, TransactionAttribute txAttr) {
+		if (this.methodCache.size() < METHOD_CACHE_LIMIT) {
+			this.methodCache.putIfAbsent(method, new ResolvedAttribute(targetClass, txAttr));
+		}
+	}
+
 	/**
 	 * Determine a cache key for the given method and target class.
 	 * <p>Must not produce same key for overloaded methods.
 	 * Must produce same key for different instances of the same method.
+	 * Must only depend on the given method and target class.
 	 * @param method the method (never {@code null})
 	 * @param targetClass the target class (may be {@code null})
 	 * @return the cache key (never {@code null})
@@ -225,4 +256,12 @@ public abstract class AbstractFallbackTransactionAttributeSource
 		return false;
 	}
 
+
+	/**
+	 * Transaction attribute resolved for a specific target class,
+	 * held in the fast-path method cache.
+	 */
+	private record ResolvedAttribute(@Nullable Class<?> targetClass, TransactionAttribute attribute) {
+	}
+
 }
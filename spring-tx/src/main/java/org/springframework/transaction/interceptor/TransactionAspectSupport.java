@@ -187,6 +187,9 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	private final ConcurrentMap<Method, ReactiveTransactionSupport> transactionSupportCache =
 			new ConcurrentReferenceHashMap<>(1024);
 
+	private final ConcurrentMap<Class<?>, String> typeQualifierCache =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	protected TransactionAspectSupport() {
 		if (REACTIVE_STREAMS_PRESENT) {
@@ -477,6 +480,7 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 	 */
 	protected void clearTransactionManagerCache() {
 		this.transactionManagerCache.clear();
+		this.typeQualifierCache.clear();
 		this.beanFactory = null;
 	}
 
@@ -505,7 +509,12 @@ public abstract class TransactionAspectSupport implements BeanFactoryAware, Init
 		}
 		else if (targetClass != null) {
 			// Consider type-level qualifier annotations for transaction manager selection
-			String typeQualifier = BeanFactoryAnnotationUtils.getQualifierValue(targetClass);
+			String typeQualifier = this.typeQualifierCache.get(targetClass);
+			if (typeQualifier == null) {
+				String qualifierValue = BeanFactoryAnnotationUtils.getQualifierValue(targetClass);
+				typeQualifier = (qualifierValue != null ? qualifierValue : "");
+				this.typeQualifierCache.putIfAbsent(targetClass, typeQualifier);
+			}
 			if (StringUtils.hasText(typeQualifier)) {
 				try {
 					return determineQualifiedTransactionManager(this.beanFactory, typeQualifier);
@@ -74,23 +74,8 @@ import org.springframework.util.Assert;
  */
 public abstract class TransactionSynchronizationManager {
 
-	private static final ThreadLocal<Map<Object, Object>> resources =
-			new NamedThreadLocal<>("Transactional resources");
-
-	private static final ThreadLocal<Set<TransactionSynchronization>> synchronizations =
-			new NamedThreadLocal<>("Transaction synchronizations");
-
-	private static final ThreadLocal<String> currentTransactionName =
-			new NamedThreadLocal<>("Current transaction name");
-
-	private static final ThreadLocal<Boolean> currentTransactionReadOnly =
-			new NamedThreadLocal<>("Current transaction read-only status");
-
-	private static final ThreadLocal<Integer> currentTransactionIsolationLevel =
-			new NamedThreadLocal<>("Current transaction isolation level");
-
-	private static final ThreadLocal<Boolean> actualTransactionActive =
-			new NamedThreadLocal<>("Actual transaction active");
+	private static final ThreadLocal<TransactionState> transactionState =
+			new NamedThreadLocal<>("Transaction synchronization state");
 
 
 	//-------------------------------------------------------------------------
@@ -107,7 +92,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #hasResource
 	 */
 	public static Map<Object, Object> getResourceMap() {
-		Map<Object, Object> map = resources.get();
+		TransactionState state = transactionState.get();
+		Map<Object, Object> map = (state != null ? state.resources : null);
 		return (map != null ? Collections.unmodifiableMap(map) : Collections.emptyMap());
 	}
 
@@ -139,17 +125,19 @@ public abstract class TransactionSynchronizationManager {
 	 * Actually check the value of the resource that is bound for the given key.
 	 */
 	private static @Nullable Object doGetResource(Object actualKey) {
-		Map<Object, Object> map = resources.get();
-		if (map == null) {
+		TransactionState state = transactionState.get();
+		if (state == null || state.resources == null) {
 			return null;
 		}
+		Map<Object, Object> map = state.resources;
 		Object value = map.get(actualKey);
 		// Transparently remove ResourceHolder that was marked as void...
 		if (value instanceof ResourceHolder resourceHolder && resourceHolder.isVoid()) {
 			map.remove(actualKey);
-			// Remove entire ThreadLocal if empty...
+			// Remove entire map if empty...
 			if (map.isEmpty()) {
-				resources.remove();
+				state.resources = null;
+				removeIfEmpty(state);
 			}
 			value = null;
 		}
@@ -192,7 +180,7 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #registerSynchronization
 	 */
 	public static void bindSynchronizedResource(Object key, Object value) throws IllegalStateException {
-		Set<TransactionSynchronization> synchs = synchronizations.get();
+		Set<TransactionSynchronization> synchs = getSynchronizationSet();
 		if (synchs == null) {
 			throw new IllegalStateException("Transaction synchronization is not active");
 		}
@@ -226,11 +214,12 @@ public abstract class TransactionSynchronizationManager {
 	 */
 	private static @Nullable Object doBindResource(Object actualKey, Object value) {
 		Assert.notNull(value, "Value must not be null");
-		Map<Object, Object> map = resources.get();
-		// set ThreadLocal Map if none found
+		TransactionState state = obtainTransactionState();
+		Map<Object, Object> map = state.resources;
+		// set Map if none found
 		if (map == null) {
 			map = new HashMap<>();
-			resources.set(map);
+			state.resources = map;
 		}
 		Object oldValue = map.put(actualKey, value);
 		// Transparently suppress a ResourceHolder that was marked as void...
@@ -278,14 +267,16 @@ public abstract class TransactionSynchronizationManager {
 	 * Actually remove the value of the resource that is bound for the given key.
 	 */
 	private static @Nullable Object doUnbindResource(Object actualKey) {
-		Map<Object, Object> map = resources.get();
-		if (map == null) {
+		TransactionState state = transactionState.get();
+		if (state == null || state.resources == null) {
 			return null;
 		}
+		Map<Object, Object> map = state.resources;
 		Object value = map.remove(actualKey);
-		// Remove entire ThreadLocal if empty...
+		// Remove entire map if empty...
 		if (map.isEmpty()) {
-			resources.remove();
+			state.resources = null;
+			removeIfEmpty(state);
 		}
 		// Transparently suppress a ResourceHolder that was marked as void...
 		if (value instanceof ResourceHolder resourceHolder && resourceHolder.isVoid()) {
@@ -305,7 +296,7 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #registerSynchronization
 	 */
 	public static boolean isSynchronizationActive() {
-		return (synchronizations.get() != null);
+		return (getSynchronizationSet() != null);
 	}
 
 	/**
@@ -317,7 +308,7 @@ public abstract class TransactionSynchronizationManager {
 		if (isSynchronizationActive()) {
 			throw new IllegalStateException("Cannot activate transaction synchronization - already active");
 		}
-		synchronizations.set(new LinkedHashSet<>());
+		obtainTransactionState().synchronizations = new LinkedHashSet<>();
 	}
 
 	/**
@@ -334,7 +325,7 @@ public abstract class TransactionSynchronizationManager {
 			throws IllegalStateException {
 
 		Assert.notNull(synchronization, "TransactionSynchronization must not be null");
-		Set<TransactionSynchronization> synchs = synchronizations.get();
+		Set<TransactionSynchronization> synchs = getSynchronizationSet();
 		if (synchs == null) {
 			throw new IllegalStateException("Transaction synchronization is not active");
 		}
@@ -349,7 +340,7 @@ public abstract class TransactionSynchronizationManager {
 	 * @see TransactionSynchronization
 	 */
 	public static List<TransactionSynchronization> getSynchronizations() throws IllegalStateException {
-		Set<TransactionSynchronization> synchs = synchronizations.get();
+		Set<TransactionSynchronization> synchs = getSynchronizationSet();
 		if (synchs == null) {
 			throw new IllegalStateException("Transaction synchronization is not active");
 		}
@@ -376,10 +367,21 @@ public abstract class TransactionSynchronizationManager {
 	 * @throws IllegalStateException if synchronization is not active
 	 */
 	public static void clearSynchronization() throws IllegalStateException {
-		if (!isSynchronizationActive()) {
+		TransactionState state = transactionState.get();
+		if (state == null || state.synchronizations == null) {
 			throw new IllegalStateException("Cannot deactivate transaction synchronization - not active");
 		}
-		synchronizations.remove();
+		state.synchronizations = null;
+		removeIfEmpty(state);
+	}
+
+	/**
+	 * Return the synchronizations registered for the current thread,
+	 * or {@code null} if synchronization is not active.
+	 */
+	private static @Nullable Set<TransactionSynchronization> getSynchronizationSet() {
+		TransactionState state = transactionState.get();
+		return (state != null ? state.synchronizations : null);
 	}
 
 
@@ -394,7 +396,16 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#getName()
 	 */
 	public static void setCurrentTransactionName(@Nullable String name) {
-		currentTransactionName.set(name);
+		if (name != null) {
+			obtainTransactionState().currentTransactionName = name;
+		}
+		else {
+			TransactionState state = transactionState.get();
+			if (state != null) {
+				state.currentTransactionName = null;
+				removeIfEmpty(state);
+			}
+		}
 	}
 
 	/**
@@ -404,7 +415,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#getName()
 	 */
 	public static @Nullable String getCurrentTransactionName() {
-		return currentTransactionName.get();
+		TransactionState state = transactionState.get();
+		return (state != null ? state.currentTransactionName : null);
 	}
 
 	/**
@@ -415,7 +427,16 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#isReadOnly()
 	 */
 	public static void setCurrentTransactionReadOnly(boolean readOnly) {
-		currentTransactionReadOnly.set(readOnly ? Boolean.TRUE : null);
+		if (readOnly) {
+			obtainTransactionState().currentTransactionReadOnly = true;
+		}
+		else {
+			TransactionState state = transactionState.get();
+			if (state != null) {
+				state.currentTransactionReadOnly = false;
+				removeIfEmpty(state);
+			}
+		}
 	}
 
 	/**
@@ -431,7 +452,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see TransactionSynchronization#beforeCommit(boolean)
 	 */
 	public static boolean isCurrentTransactionReadOnly() {
-		return (currentTransactionReadOnly.get() != null);
+		TransactionState state = transactionState.get();
+		return (state != null && state.currentTransactionReadOnly);
 	}
 
 	/**
@@ -451,7 +473,16 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#getIsolationLevel()
 	 */
 	public static void setCurrentTransactionIsolationLevel(@Nullable Integer isolationLevel) {
-		currentTransactionIsolationLevel.set(isolationLevel);
+		if (isolationLevel != null) {
+			obtainTransactionState().currentTransactionIsolationLevel = isolationLevel;
+		}
+		else {
+			TransactionState state = transactionState.get();
+			if (state != null) {
+				state.currentTransactionIsolationLevel = null;
+				removeIfEmpty(state);
+			}
+		}
 	}
 
 	/**
@@ -472,7 +503,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see org.springframework.transaction.TransactionDefinition#getIsolationLevel()
 	 */
 	public static @Nullable Integer getCurrentTransactionIsolationLevel() {
-		return currentTransactionIsolationLevel.get();
+		TransactionState state = transactionState.get();
+		return (state != null ? state.currentTransactionIsolationLevel : null);
 	}
 
 	/**
@@ -482,7 +514,16 @@ public abstract class TransactionSynchronizationManager {
 	 * with an actual transaction; {@code false} to reset that marker
 	 */
 	public static void setActualTransactionActive(boolean active) {
-		actualTransactionActive.set(active ? Boolean.TRUE : null);
+		if (active) {
+			obtainTransactionState().actualTransactionActive = true;
+		}
+		else {
+			TransactionState state = transactionState.get();
+			if (state != null) {
+				state.actualTransactionActive = false;
+				removeIfEmpty(state);
+			}
+		}
 	}
 
 	/**
@@ -497,7 +538,8 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #isSynchronizationActive()
 	 */
 	public static boolean isActualTransactionActive() {
-		return (actualTransactionActive.get() != null);
+		TransactionState state = transactionState.get();
+		return (state != null && state.actualTransactionActive);
 	}
 
 
@@ -511,11 +553,66 @@ public abstract class TransactionSynchronizationManager {
 	 * @see #setActualTransactionActive
 	 */
 	public static void clear() {
-		synchronizations.remove();
-		currentTransactionName.remove();
-		currentTransactionReadOnly.remove();
-		currentTransactionIsolationLevel.remove();
-		actualTransactionActive.remove();
+		TransactionState state = transactionState.get();
+		if (state != null) {
+			state.synchronizations = null;
+			state.currentTransactionName = null;
+			state.currentTransactionReadOnly = false;
+			state.currentTransactionIsolationLevel = null;
+			state.actualTransactionActive = false;
+			removeIfEmpty(state);
+		}
+	}
+
+
+	/**
+	 * Return the transaction state for the current thread, creating it if necessary.
+	 */
+	private static TransactionState obtainTransactionState() {
+		TransactionState state = transactionState.get();
+		if (state == null) {
+			state = new TransactionState();
+			transactionState.set(state);
+		}
+		return state;
+	}
+
+	/**
+	 * Remove the given transaction state from the current thread if it does not
+	 * hold any resources, synchronizations or transaction characteristics anymore.
+	 */
+	private static void removeIfEmpty(TransactionState state) {
+		if (state.isEmpty()) {
+			transactionState.remove();
+		}
+	}
+
+
+	/**
+	 * Consolidated holder for the transactional state of a thread, allocated on
+	 * first use and removed once empty again: a single thread-local lookup serves
+	 * all resources, synchronizations and transaction characteristics, keeping
+	 * the per-thread footprint low with a large number of (virtual) threads.
+	 */
+	private static final class TransactionState {
+
+		@Nullable Map<Object, Object> resources;
+
+		@Nullable Set<TransactionSynchronization> synchronizations;
+
+		@Nullable String currentTransactionName;
+
+		boolean currentTransactionReadOnly;
+
+		@Nullable Integer currentTransactionIsolationLevel;
+
+		boolean actualTransactionActive;
+
+		boolean isEmpty() {
+			return (this.resources == null && this.synchronizations == null &&
+					this.currentTransactionName == null && !this.currentTransactionReadOnly &&
+					this.currentTransactionIsolationLevel == null && !this.actualTransactionActive);
+		}
 	}
 
 }
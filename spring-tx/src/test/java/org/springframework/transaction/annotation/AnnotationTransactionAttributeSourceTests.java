@@ -22,11 +22,13 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import groovy.lang.GroovyObject;
 import groovy.lang.MetaClass;
 import jakarta.ejb.TransactionAttributeType;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -93,6 +95,37 @@ class AnnotationTransactionAttributeSourceTests {
 		assertThat(this.attributeSource.getTransactionAttribute(method, null)).isNull();
 	}
 
+	@Test
+	void cachedTransactionAttributeIsResolvedPerTargetClass() {
+		Method method = getMethod(ITestBean1.class, "getAge");
+
+		for (int i = 0; i < 2; i++) {
+			TransactionAttribute actual = this.attributeSource.getTransactionAttribute(method, TestBean1.class);
+			assertThat(actual).satisfies(hasRollbackRules(new RollbackRuleAttribute(Exception.class)));
+			assertThat(this.attributeSource.getTransactionAttribute(method, TestBean1.class)).isSameAs(actual);
+			assertThat(this.attributeSource.getTransactionAttribute(method, Empty.class)).isNull();
+		}
+	}
+
+	@Test
+	void customCacheKeyIsHonored() {
+		AtomicInteger cacheKeyCount = new AtomicInteger();
+		AnnotationTransactionAttributeSource attributeSource = new AnnotationTransactionAttributeSource() {
+			@Override
+			protected Object getCacheKey(Method method, @Nullable Class<?> targetClass) {
+				cacheKeyCount.incrementAndGet();
+				return method;
+			}
+		};
+		Method method = getMethod(ITestBean1.class, "getAge");
+
+		TransactionAttribute actual = attributeSource.getTransactionAttribute(method, TestBean1.class);
+		assertThat(actual).satisfies(hasRollbackRules(new RollbackRuleAttribute(Exception.class)));
+		assertThat(attributeSource.getTransactionAttribute(method, TestBean1.class)).isSameAs(actual);
+		assertThat(attributeSource.getTransactionAttribute(method, Empty.class)).isSameAs(actual);
+		assertThat(cacheKeyCount).hasValue(2);
+	}
+
 	/**
 	 * Test the important case where the invocation is on a proxied interface method
 	 * but the attribute is defined on the target class.
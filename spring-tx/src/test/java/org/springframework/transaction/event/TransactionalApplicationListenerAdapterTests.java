@@ -16,6 +16,9 @@
 
 package org.springframework.transaction.event;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.context.PayloadApplicationEvent;
@@ -88,6 +91,61 @@ class TransactionalApplicationListenerAdapterTests {
 		assertThat(adapter.getListenerId()).isEqualTo("identifier");
 	}
 
+	@Test
+	void registersSingleSynchronizationPerListener() {
+		List<String> processed = new ArrayList<>();
+		TransactionalApplicationListener<PayloadApplicationEvent<String>> adapter =
+				TransactionalApplicationListener.forPayload(processed::add);
+		TransactionalApplicationListener<PayloadApplicationEvent<String>> otherAdapter =
+				TransactionalApplicationListener.forPayload(TransactionPhase.BEFORE_COMMIT, processed::add);
+
+		runInTransaction(() -> {
+			for (int i = 0; i < 3; i++) {
+				PayloadApplicationEvent<String> event = new PayloadApplicationEvent<>(this, "event" + i);
+				adapter.onApplicationEvent(event);
+				otherAdapter.onApplicationEvent(event);
+			}
+			// One synchronization per listener, plus the shared holder for the transaction
+			assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(3);
+			assertThat(processed).isEmpty();
+		});
+
+		assertThat(processed).containsExactly("event0", "event1", "event2", "event0", "event1", "event2");
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+	}
+
+	@Test
+	void deferredAfterCompletionDoesNotAffectNextTransaction() throws Exception {
+		List<String> processed = new ArrayList<>();
+		TransactionalApplicationListener<PayloadApplicationEvent<String>> adapter =
+				TransactionalApplicationListener.forPayload(processed::add);
+
+		// First transaction, with afterCompletion deferred as for an existing JTA transaction
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.initSynchronization();
+		adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "event1"));
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		synchronizations.forEach(it -> {
+			it.beforeCommit(false);
+			it.beforeCompletion();
+			it.afterCommit();
+		});
+		TransactionSynchronizationManager.clear();
+
+		// Second transaction on the same thread
+		runInTransaction(() -> adapter.onApplicationEvent(new PayloadApplicationEvent<>(this, "event2")));
+		assertThat(processed).containsExactly("event2");
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+
+		// Deferred completion of the first transaction on another thread
+		Thread thread = new Thread(() -> synchronizations.forEach(
+				it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)));
+		thread.start();
+		thread.join();
+		assertThat(processed).containsExactly("event2", "event1");
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+	}
+
 
 	private static void runInTransaction(Runnable runnable) {
 		TransactionSynchronizationManager.setActualTransactionActive(true);
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.testfixture.io.SerializationTestUtils;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -34,8 +35,10 @@ import org.springframework.transaction.TransactionStatus;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -257,6 +260,38 @@ class TransactionInterceptorTests extends AbstractTransactionAspectTests {
 		verify(beanFactory, times(1)).getBean(TransactionManager.class);
 	}
 
+	@Test
+	void determineTransactionManagerWithTypeQualifierSeveralTimes() {
+		BeanFactory beanFactory = mock();
+		TransactionInterceptor ti = simpleTransactionInterceptor(beanFactory);
+
+		PlatformTransactionManager txManager = associateTransactionManager(beanFactory, "fooTransactionManager");
+
+		DefaultTransactionAttribute attribute = new DefaultTransactionAttribute();
+		assertThat(ti.determineTransactionManager(attribute, QualifiedTarget.class)).isSameAs(txManager);
+
+		// Call again, should be cached
+		assertThat(ti.determineTransactionManager(attribute, QualifiedTarget.class)).isSameAs(txManager);
+		verify(beanFactory, times(1)).getBean("fooTransactionManager", TransactionManager.class);
+	}
+
+	@Test
+	void determineTransactionManagerWithoutTypeQualifierSeveralTimes() {
+		BeanFactory beanFactory = mock();
+		TransactionInterceptor ti = simpleTransactionInterceptor(beanFactory);
+
+		PlatformTransactionManager txManager = mock();
+		given(beanFactory.getBean(TransactionManager.class)).willReturn(txManager);
+
+		DefaultTransactionAttribute attribute = new DefaultTransactionAttribute();
+		assertThat(ti.determineTransactionManager(attribute, UnqualifiedTarget.class)).isSameAs(txManager);
+
+		// Call again, the absence of a type qualifier should be cached
+		assertThat(ti.determineTransactionManager(attribute, UnqualifiedTarget.class)).isSameAs(txManager);
+		verify(beanFactory, never()).containsBean(anyString());
+		verify(beanFactory, times(1)).getBean(TransactionManager.class);
+	}
+
 
 	private TransactionInterceptor createTransactionInterceptor(BeanFactory beanFactory,
 			String transactionManagerName, PlatformTransactionManager transactionManager) {
@@ -302,6 +337,15 @@ class TransactionInterceptorTests extends AbstractTransactionAspectTests {
 	}
 
 
+	@Qualifier("fooTransactionManager")
+	static class QualifiedTarget {
+	}
+
+
+	static class UnqualifiedTarget {
+	}
+
+
 	/**
 	 * We won't use this: we just want to know it's serializable.
 	 */